@@ -0,0 +1,139 @@
+package com.run.runners.benchmark;
+
+import com.run.runners.dto.SearchResult;
+import com.run.runners.entity.Post;
+import com.run.runners.service.BoardSearchIndex;
+import com.run.runners.service.BoardSearchIndex.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search latency of {@link BoardSearchIndex} over {@code documents} synthetic posts. Words are two to four Hangul
+ * syllables drawn from a Zipf-distributed vocabulary, so the queries range from words in a large share of the posts
+ * to words in a few hundred. The index is built once per trial without the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BoardSearchBenchmark {
+    
+    private static final int VOCABULARY = 20_000;
+    private static final int SYLLABLES = 400;
+    private static final int TITLE_WORDS = 5;
+    private static final int CONTENT_WORDS = 60;
+    private static final int PAGE_SIZE = 20;
+    
+    @Param({"100000", "1000000"})
+    private int documents;
+    
+    private BoardSearchIndex index;
+    private String[] words;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        index = new BoardSearchIndex(null, null, null, null);
+        Field maxContentChars = BoardSearchIndex.class.getDeclaredField("maxContentChars");
+        maxContentChars.setAccessible(true);
+        maxContentChars.setInt(index, 2000);
+        
+        Random random = new Random(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int length = 2 + random.nextInt(3); length > 0; length--) {
+                word.append((char) ('가' + random.nextInt(SYLLABLES) * 28));
+            }
+            words[i] = word.toString();
+        }
+        double[] cumulative = zipf(VOCABULARY);
+        
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < documents; i++) {
+            Post post = new Post();
+            post.setId((long) i + 1);
+            post.setTitle(text(random, cumulative, TITLE_WORDS));
+            post.setContent(text(random, cumulative, CONTENT_WORDS));
+            post.setAuthor("runner" + random.nextInt(10_000));
+            post.setCreatedAt(start.plusMinutes(i));
+            index.index(post);
+        }
+    }
+    
+    private String text(Random random, double[] cumulative, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < wordCount; w++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            text.append(words[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY - 1)]).append(' ');
+        }
+        return text.toString();
+    }
+    
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+    
+    /**
+     * The most frequent word, present in most posts: the worst case, every posting of its grams is ranked.
+     */
+    @Benchmark
+    public SearchResult commonWord() {
+        return index.search(words[0], null, 0, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public SearchResult commonWordOnBoard() {
+        return index.search(words[0], Board.POST, 0, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public SearchResult mediumWord() {
+        return index.search(words[100], null, 0, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public SearchResult rareWord() {
+        return index.search(words[10_000], null, 0, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public SearchResult twoWords() {
+        return index.search(words[10] + " " + words[100], null, 0, PAGE_SIZE);
+    }
+    
+    /**
+     * A one-character query, answered from the unigram postings of a syllable that occurs inside many words.
+     */
+    @Benchmark
+    public SearchResult oneCharacter() {
+        return index.search(words[100].substring(0, 1), null, 0, PAGE_SIZE);
+    }
+    
+    @Benchmark
+    public SearchResult deepPage() {
+        return index.search(words[10], null, 49, PAGE_SIZE);
+    }
+}
@@ -0,0 +1,78 @@
+package com.run.runners.benchmark;
+
+import com.run.runners.entity.RunningRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-record entity math and formatting. Speeds are spread over 5-30 km/h so every branch of the
+ * MET table ({@code getMetValueFromSpeed}) is taken; results are per record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RunningRecordBenchmark {
+    
+    private static final int RECORDS = 4096;
+    
+    private final RunningRecord[] records = new RunningRecord[RECORDS];
+    private final int[] runTimeMinutes = new int[RECORDS];
+    private final double[] distanceKm = new double[RECORDS];
+    private final double[] calories = new double[RECORDS];
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < RECORDS; i++) {
+            int minutes = 10 + random.nextInt(230);
+            double speedKmh = 5 + random.nextDouble() * 25;
+            RunningRecord record = new RunningRecord();
+            record.setRunTimeMinutes(minutes);
+            record.setDistanceKm(Math.round(speedKmh * minutes / 60.0 * 100.0) / 100.0);
+            records[i] = record;
+            runTimeMinutes[i] = minutes;
+            distanceKm[i] = record.getDistanceKm();
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void caloriesPerEntity(Blackhole blackhole) {
+        for (RunningRecord record : records) {
+            blackhole.consume(record.calculateCalories());
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public double[] caloriesBatch() {
+        RunningRecord.calculateCalories(runTimeMinutes, distanceKm, calories, RECORDS);
+        return calories;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void formattedPace(Blackhole blackhole) {
+        for (RunningRecord record : records) {
+            blackhole.consume(record.getFormattedPace());
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void formattedRunTime(Blackhole blackhole) {
+        for (RunningRecord record : records) {
+            blackhole.consume(record.getFormattedRunTime());
+        }
+    }
+}
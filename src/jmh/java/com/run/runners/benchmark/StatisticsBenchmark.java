@@ -0,0 +1,145 @@
+package com.run.runners.benchmark;
+
+import com.run.runners.RunnersApplication;
+import com.run.runners.dto.RunningRecordAggregate;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningRecordBatchWriter;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.service.PeriodRange;
+import com.run.runners.service.RunningStatisticsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end statistics and repository paths against the embedded H2 database (dev profile) seeded with
+ * {@code records} running records of one year. Seeding goes through the JDBC batch writer once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StatisticsBenchmark {
+    
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final int PARTITION_SIZE = 500;
+    private static final LocalDateTime SEED_YEAR_START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime BENCHMARK_MONTH = LocalDateTime.of(2025, 6, 15, 0, 0);
+    
+    @Param({"1000", "100000", "1000000"})
+    private int records;
+    
+    private ConfigurableApplicationContext context;
+    private RunningRecordRepository runningRecordRepository;
+    private RunningStatisticsService runningStatisticsService;
+    private List<String> runnerNames;
+    private List<String> partition;
+    private PeriodRange month;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RunnersApplication.class)
+            .profiles("dev")
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "spring.jpa.show-sql=false",
+                "spring.h2.console.enabled=false",
+                "logging.level.root=WARN")
+            .run();
+        runningRecordRepository = context.getBean(RunningRecordRepository.class);
+        runningStatisticsService = context.getBean(RunningStatisticsService.class);
+        
+        // 러너 한 명당 평균 100건
+        int runners = Math.max(10, records / 100);
+        runnerNames = new ArrayList<>(runners);
+        for (int i = 0; i < runners; i++) {
+            runnerNames.add("runner" + i);
+        }
+        partition = runnerNames.subList(0, Math.min(PARTITION_SIZE, runners));
+        month = PeriodRange.of(StatisticsPeriod.MONTHLY, BENCHMARK_MONTH);
+        seed(context.getBean(RunningRecordBatchWriter.class), runners);
+    }
+    
+    private void seed(RunningRecordBatchWriter writer, int runners) {
+        Random random = new Random(42);
+        List<RunningRecord> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < records; i++) {
+            RunningRecord record = new RunningRecord();
+            record.setRunnerName(runnerNames.get(random.nextInt(runners)));
+            record.setRunTimeMinutes(20 + random.nextInt(160));
+            record.setDistanceKm(Math.round(record.getRunTimeMinutes() * (0.12 + random.nextDouble() * 0.1) * 100.0) / 100.0);
+            record.setCadence(160 + random.nextInt(30));
+            record.setMaxHeartRate(140 + random.nextInt(50));
+            record.setMaxSpeedKmh(10 + random.nextDouble() * 10);
+            record.setRecordDate(SEED_YEAR_START.plusMinutes(random.nextInt(365 * 24 * 60)));
+            record.setCaloriesBurned(RunningRecord.calculateCalories(record.getRunTimeMinutes(), record.getDistanceKm()));
+            batch.add(record);
+            if (batch.size() == SEED_BATCH_SIZE) {
+                writer.insert(batch);
+                batch.clear();
+            }
+        }
+        writer.insert(batch);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * The month aggregation of every runner as a full rebuild runs it: one query per partition of runners.
+     */
+    @Benchmark
+    public List<RunningRecordAggregate> aggregateMonthAllRunners() {
+        List<RunningRecordAggregate> aggregates = new ArrayList<>(runnerNames.size());
+        for (int from = 0; from < runnerNames.size(); from += PARTITION_SIZE) {
+            List<String> runners = runnerNames.subList(from, Math.min(from + PARTITION_SIZE, runnerNames.size()));
+            aggregates.addAll(runningRecordRepository.aggregateByRunnerNamesAndRecordDateRange(runners, month.start(), month.end()));
+        }
+        return aggregates;
+    }
+    
+    @Benchmark
+    public List<RunningRecordAggregate> aggregateMonthPartition() {
+        return runningRecordRepository.aggregateByRunnerNamesAndRecordDateRange(partition, month.start(), month.end());
+    }
+    
+    /**
+     * Aggregation, {@code calculateStatistics} and the JDBC batch upsert for one partition of runners.
+     */
+    @Benchmark
+    public void regenerateMonthPartition() {
+        runningStatisticsService.regenerateStatistics(StatisticsPeriod.MONTHLY, BENCHMARK_MONTH, partition);
+    }
+    
+    @Benchmark
+    public List<RunningRecord> firstRecordPage() {
+        return runningRecordRepository.findPage(PageRequest.of(0, 21));
+    }
+    
+    @Benchmark
+    public List<RunningRecord> runnerMonthRecords() {
+        return runningRecordRepository.findByRunnerNameAndRecordDateRange(runnerNames.get(0), month.start(), month.end());
+    }
+}
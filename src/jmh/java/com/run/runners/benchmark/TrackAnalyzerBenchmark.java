@@ -0,0 +1,73 @@
+package com.run.runners.benchmark;
+
+import com.run.runners.dto.TrackAnalysis;
+import com.run.runners.dto.TrackData;
+import com.run.runners.service.TrackAnalyzer;
+import com.run.runners.service.TrackCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Track analysis over synthetic 1 Hz tracks (10k points ≈ a 2:45 run).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrackAnalyzerBenchmark {
+    
+    @Param({"1000", "10000", "50000"})
+    private int points;
+    
+    private TrackData track;
+    private byte[] encoded;
+    private TrackAnalyzer analyzer;
+    private TrackAnalysis analysis;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TrackData.Builder builder = new TrackData.Builder();
+        double latitude = 37.5;
+        double longitude = 127.0;
+        double elevation = 30;
+        for (int i = 0; i < points; i++) {
+            // 2.5~4 m/s 사이로 흔들리는 속도, 완만하게 도는 방향
+            double meters = 2.5 + random.nextDouble() * 1.5;
+            double heading = i / 900.0;
+            latitude += Math.cos(heading) * meters / 111_195.0;
+            longitude += Math.sin(heading) * meters / (111_195.0 * Math.cos(Math.toRadians(latitude)));
+            elevation += random.nextGaussian() * 0.3;
+            builder.add(latitude, longitude, elevation, 1_700_000_000_000L + i * 1_000L,
+                140 + random.nextInt(40), 170 + random.nextInt(15));
+        }
+        track = builder.build();
+        encoded = TrackCodec.encode(track);
+        analyzer = new TrackAnalyzer(190);
+        analysis = TrackAnalyzer.newAnalysis();
+    }
+    
+    @Benchmark
+    public TrackAnalysis analyze() {
+        analyzer.analyze(track, analysis);
+        return analysis;
+    }
+    
+    @Benchmark
+    public byte[] encode() {
+        return TrackCodec.encode(track);
+    }
+    
+    @Benchmark
+    public TrackData decode() {
+        return TrackCodec.decode(encoded);
+    }
+}
@@ -0,0 +1,252 @@
+package com.run.runners.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load driver for the {@code WebController} pages. Each of {@code --concurrency} workers sends
+ * the next request as soon as the previous one returned; requests are picked from a weighted mix and detail
+ * pages choose ids with a Zipf distribution like the seed data. Only the JDK is used, so it runs offline:
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:9281 --concurrency=32 --duration=60 --warmup=10"
+ * </pre>
+ * Latencies are reported per endpoint as p50/p90/p99/p99.9/max. In a closed loop a slow server also slows the
+ * request rate, so compare runs at the same concurrency.
+ */
+public class LoadDriver {
+    
+    private static final String[] KEYWORDS = {"마라톤", "러닝화", "인터벌", "한강", "하프", "부상"};
+    
+    private record Endpoint(String name, int weight, String method, String pathTemplate) {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:9281");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        boolean writes = Boolean.parseBoolean(options.getOrDefault("writes", "false"));
+        // 시드 데이터 규모(runners.seed.*)와 맞춘다
+        Map<String, Zipf> ids = Map.of(
+            "post", new Zipf(Integer.parseInt(options.getOrDefault("posts", "20000")), 1.0),
+            "tip", new Zipf(Integer.parseInt(options.getOrDefault("tips", "2000")), 1.0),
+            "review", new Zipf(Integer.parseInt(options.getOrDefault("reviews", "2000")), 1.0),
+            "mate", new Zipf(Integer.parseInt(options.getOrDefault("running-mates", "3000")), 1.0),
+            "runner", new Zipf(Integer.parseInt(options.getOrDefault("runners", "2000")), 1.1));
+        
+        List<Endpoint> endpoints = new ArrayList<>(List.of(
+            new Endpoint("home", 5, "GET", "/"),
+            new Endpoint("competitions", 5, "GET", "/competitions"),
+            new Endpoint("board", 15, "GET", "/community/board"),
+            new Endpoint("board-detail", 25, "GET", "/community/board/{post}"),
+            new Endpoint("tips", 4, "GET", "/community/tips"),
+            new Endpoint("tips-detail", 6, "GET", "/community/tips/{tip}"),
+            new Endpoint("reviews", 4, "GET", "/community/reviews"),
+            new Endpoint("reviews-detail", 6, "GET", "/community/reviews/{review}"),
+            new Endpoint("running-mates", 4, "GET", "/community/running-mates"),
+            new Endpoint("running-mates-detail", 6, "GET", "/community/running-mates/{mate}"),
+            new Endpoint("search", 5, "GET", "/community/search?keyword={keyword}"),
+            new Endpoint("records", 5, "GET", "/my-running/records"),
+            new Endpoint("statistics", 5, "GET", "/my-running/statistics?runnerName={runner}"),
+            new Endpoint("leaderboard", 5, "GET", "/my-running/leaderboard")));
+        if (writes) {
+            endpoints.add(new Endpoint("like", 5, "POST", "/community/board/{post}/like"));
+        }
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+        
+        System.out.printf("Load test %s: %d workers, %d s warmup + %d s measured, %d endpoints%n",
+            baseUrl, concurrency, warmupSeconds, durationSeconds, endpoints.size());
+        
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long stopAt = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        
+        Recorder[][] recorders = new Recorder[concurrency][endpoints.size()];
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            Recorder[] own = recorders[w];
+            for (int e = 0; e < endpoints.size(); e++) {
+                own[e] = new Recorder();
+            }
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < stopAt) {
+                    int index = pick(endpoints, totalWeight, random.nextInt(totalWeight));
+                    Endpoint endpoint = endpoints.get(index);
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + expand(endpoint.pathTemplate(), ids, random)))
+                        .timeout(Duration.ofSeconds(30))
+                        .method(endpoint.method(), HttpRequest.BodyPublishers.noBody())
+                        .build();
+                    long sentAt = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long finishedAt = System.nanoTime();
+                    if (sentAt >= measureFrom) {
+                        own[index].record(finishedAt - sentAt, ok);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS);
+        
+        report(endpoints, recorders, durationSeconds);
+    }
+    
+    private static void report(List<Endpoint> endpoints, Recorder[][] recorders, int durationSeconds) {
+        System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Recorder total = new Recorder();
+        for (int e = 0; e < endpoints.size(); e++) {
+            Recorder merged = new Recorder();
+            for (Recorder[] worker : recorders) {
+                merged.addAll(worker[e]);
+            }
+            total.addAll(merged);
+            printRow(endpoints.get(e).name(), merged, durationSeconds);
+        }
+        printRow("TOTAL", total, durationSeconds);
+    }
+    
+    private static void printRow(String name, Recorder recorder, int durationSeconds) {
+        long[] sorted = recorder.sorted();
+        System.out.printf(Locale.ROOT, "%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+            name, sorted.length, recorder.errors, sorted.length / (double) durationSeconds,
+            percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+    
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+    
+    private static int pick(List<Endpoint> endpoints, int totalWeight, int ticket) {
+        for (int i = 0; i < endpoints.size(); i++) {
+            ticket -= endpoints.get(i).weight();
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return endpoints.size() - 1;
+    }
+    
+    private static String expand(String template, Map<String, Zipf> ids, ThreadLocalRandom random) {
+        String path = template;
+        if (path.contains("{keyword}")) {
+            path = path.replace("{keyword}", URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8));
+        }
+        if (path.contains("{runner}")) {
+            path = path.replace("{runner}", URLEncoder.encode(String.format("러너%05d", ids.get("runner").sample(random)), StandardCharsets.UTF_8));
+        }
+        for (Map.Entry<String, Zipf> entry : ids.entrySet()) {
+            String placeholder = "{" + entry.getKey() + "}";
+            if (path.contains(placeholder)) {
+                // 시드 데이터의 id는 1부터 연속
+                path = path.replace(placeholder, String.valueOf(entry.getValue().sample(random) + 1));
+            }
+        }
+        return path;
+    }
+    
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+    
+    /**
+     * Latencies of one worker and endpoint; merged after the run so workers never contend.
+     */
+    private static final class Recorder {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+        
+        private void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latencyNanos;
+        }
+        
+        private void addAll(Recorder other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+        
+        private long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+    
+    private static final class Zipf {
+        private final double[] cumulative;
+        
+        private Zipf(int n, double exponent) {
+            cumulative = new double[Math.max(1, n)];
+            double sum = 0;
+            for (int rank = 0; rank < cumulative.length; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < cumulative.length; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+        
+        private int sample(ThreadLocalRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.run.runners.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String ALL_COMPETITIONS = "allCompetitions";
+    public static final String UPCOMING_COMPETITIONS = "upcomingCompetitions";
+    public static final String COMPETITION_PAGES = "competitionPages";
+    public static final String TIPS_LISTS = "tipsLists";
+    public static final String TIPS_PAGES = "tipsPages";
+    public static final String REVIEW_LISTS = "reviewLists";
+    public static final String REVIEW_PAGES = "reviewPages";
+    public static final String RUNNER_STATISTICS = "runnerStatistics";
+    
+    /**
+     * Caffeine caches for the read-mostly listings. Entries expire after a TTL (list pages also show
+     * view counts, which are not evicted on every view) and are evicted by the matching writes.
+     * The manager is transaction-aware so that evictions happen only after the write has committed.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${runners.cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${runners.cache.list-ttl-seconds:60}") long listTtlSeconds,
+                                     @Value("${runners.cache.statistics-ttl-seconds:600}") long statisticsTtlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록되지 않은 캐시 이름은 오타일 가능성이 크므로 동적으로 만들지 않는다
+        cacheManager.setCacheNames(List.of());
+        for (String name : new String[] {ALL_COMPETITIONS, UPCOMING_COMPETITIONS, COMPETITION_PAGES,
+                TIPS_LISTS, TIPS_PAGES, REVIEW_LISTS, REVIEW_PAGES}) {
+            cacheManager.registerCustomCache(name, newCache(maximumSize, listTtlSeconds));
+        }
+        cacheManager.registerCustomCache(RUNNER_STATISTICS, newCache(maximumSize, statisticsTtlSeconds));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+    
+    private static Cache<Object, Object> newCache(long maximumSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+}
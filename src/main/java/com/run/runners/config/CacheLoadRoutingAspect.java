@@ -0,0 +1,22 @@
+package com.run.runners.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Runs {@code @Cacheable} methods with reads pinned to the primary, so a cache entry is never filled from a
+ * replica. Writes evict the caches right after commit; a miss served by a lagging replica would otherwise put the
+ * pre-write value back and keep it for the whole TTL, for every client including the writer. Cache hits do not
+ * touch the database, so only the loads go to the primary. Registered by {@link DataSourceRoutingConfig}.
+ */
+@Aspect
+public class CacheLoadRoutingAspect {
+
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object loadFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.run.runners.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled with {@code runners.datasource.routing.enabled}.
+ * <p>
+ * {@code @Transactional(readOnly = true)} work goes to one of the {@code replica-urls}, everything else to the
+ * primary ({@code spring.datasource}). The application-facing {@code dataSource} is a
+ * {@link LazyConnectionDataSourceProxy} over {@link ReplicaRoutingDataSource}, so the target is chosen at the
+ * first statement, once the transaction's read-only flag is known. Cache loads always read from the primary
+ * ({@link CacheLoadRoutingAspect}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "runners.datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                      DataSourceProperties properties,
+                                                      @Value("${runners.datasource.replica-urls:}") List<String> replicaUrls,
+                                                      @Value("${runners.datasource.replica-username:}") String replicaUsername,
+                                                      @Value("${runners.datasource.replica-password:}") String replicaPassword,
+                                                      @Value("${runners.datasource.replica-pool-size:10}") int replicaPoolSize,
+                                                      @Value("${runners.datasource.routing.strategy:ROUND_ROBIN}") ReplicaRoutingDataSource.Strategy strategy,
+                                                      @Value("${runners.datasource.routing.health-check-timeout-seconds:2}") int healthCheckTimeoutSeconds) {
+        // 레플리카 계정을 따로 주지 않으면 primary 계정을 그대로 쓴다
+        String username = replicaUsername.isEmpty() ? properties.determineUsername() : replicaUsername;
+        String password = replicaPassword.isEmpty() ? properties.determinePassword() : replicaPassword;
+        
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // 기동 시 레플리카가 내려가 있어도 앱은 뜨고, 헬스 체크가 복구를 감지한다
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, replica));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("Read/write routing is enabled but runners.datasource.replica-urls is empty; all reads go to the primary");
+        } else {
+            log.info("Routing read-only transactions to {} replica(s) ({})", replicas.size(), strategy);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, strategy, healthCheckTimeoutSeconds);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+    
+    /**
+     * Hibernate holds a connection for the whole session by default, and with open-in-view the session spans the
+     * request, so a write after a read-only transaction would reuse the replica connection. Releasing it after
+     * every transaction lets each transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+    
+    @Bean
+    public CacheLoadRoutingAspect cacheLoadRoutingAspect() {
+        return new CacheLoadRoutingAspect();
+    }
+    
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+        @Value("${runners.datasource.routing.read-your-writes-ms:5000}") long windowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
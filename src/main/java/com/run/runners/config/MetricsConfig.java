@@ -0,0 +1,65 @@
+package com.run.runners.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class MetricsConfig implements WebMvcConfigurer {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${runners.metrics.query-warn-threshold:30}")
+    private long queryWarnThreshold;
+    
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+    
+    /**
+     * Records the number of Hibernate statements per request as {@code runners.http.queries} (tagged by route)
+     * and warns when a request exceeds {@code runners.metrics.query-warn-threshold}, which usually means an N+1.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                QueryCountInspector.reset();
+                return true;
+            }
+            
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                long queries = QueryCountInspector.current();
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+                DistributionSummary.builder("runners.http.queries")
+                    .description("Hibernate statements per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(queries);
+                if (queries > queryWarnThreshold) {
+                    log.warn("{} {} issued {} queries (threshold {})", request.getMethod(), uri, queries, queryWarnThreshold);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.run.runners.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so a request (or a test) can see
+ * how many queries it issued. Statements sent through {@code JdbcTemplate} are not counted.
+ */
+public class QueryCountInspector implements StatementInspector {
+    
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+    
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+    
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
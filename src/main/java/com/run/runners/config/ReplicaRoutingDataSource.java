@@ -0,0 +1,236 @@
+package com.run.runners.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * The decision uses {@link TransactionSynchronizationManager#isCurrentTransactionReadOnly()}, which is only set
+ * after the transaction manager has asked for a connection, so this data source must be wrapped in a
+ * {@code LazyConnectionDataSourceProxy} that fetches the real connection at the first statement.
+ * Replicas that fail {@link #checkReplicas()} are skipped until they pass again; with no healthy replica, reads
+ * go to the primary. {@link #preferPrimary()} pins the reads of the current thread to the primary, which
+ * {@code ReadYourWritesFilter} uses for a short window after the client's own write.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+    
+    /**
+     * A replica and the number of connections it currently has checked out through this router.
+     */
+    public static final class Replica {
+        
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger activeConnections = new AtomicInteger();
+        private volatile boolean healthy = true;
+        
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public boolean isHealthy() {
+            return healthy;
+        }
+        
+        public int getActiveConnections() {
+            return activeConnections.get();
+        }
+    }
+    
+    static final String PRIMARY = "primary";
+    
+    private static final ThreadLocal<Boolean> PRIMARY_PREFERRED = new ThreadLocal<>();
+    
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Strategy strategy, int healthCheckTimeoutSeconds) {
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.name, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // 알 수 없는 키로 조용히 primary에 붙지 않도록
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    /**
+     * Send every read on the current thread to the primary until the returned scope is closed.
+     * Scopes may be nested.
+     */
+    public static PrimaryScope preferPrimary() {
+        Boolean previous = PRIMARY_PREFERRED.get();
+        PRIMARY_PREFERRED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY_PREFERRED.remove();
+            } else {
+                PRIMARY_PREFERRED.set(previous);
+            }
+        };
+    }
+    
+    public interface PrimaryScope extends AutoCloseable {
+        
+        @Override
+        void close();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_PREFERRED.get() != null) {
+            return PRIMARY;
+        }
+        Replica replica = selectReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        Replica replica = replicaNamed(key);
+        if (replica == null) {
+            return resolveTarget(key).getConnection();
+        }
+        return track(replica, replica.dataSource.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        Replica replica = replicaNamed(key);
+        if (replica == null) {
+            return resolveTarget(key).getConnection(username, password);
+        }
+        return track(replica, replica.dataSource.getConnection(username, password));
+    }
+    
+    private DataSource resolveTarget(Object key) {
+        return getResolvedDataSources().get(key);
+    }
+    
+    private Replica replicaNamed(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.name.equals(key)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+    
+    private Replica selectReplica() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy.add(replica);
+            }
+        }
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        
+        if (strategy == Strategy.LEAST_CONNECTIONS) {
+            // 동률이면 라운드 로빈 순서로 골라 한 레플리카에 몰리지 않게 한다
+            int offset = Math.floorMod(next.getAndIncrement(), healthy.size());
+            Replica best = null;
+            for (int i = 0; i < healthy.size(); i++) {
+                Replica candidate = healthy.get((offset + i) % healthy.size());
+                if (best == null || candidate.activeConnections.get() < best.activeConnections.get()) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+    
+    // 커넥션을 닫을 때 사용 중 카운트를 줄이기 위한 얇은 프록시 (least-connections 용)
+    private static Connection track(Replica replica, Connection connection) {
+        replica.activeConnections.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ReplicaRoutingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                    replica.activeConnections.decrementAndGet();
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+    
+    /**
+     * Validate one connection of every replica and update its health. Runs every {@code health-check-ms}.
+     */
+    @Scheduled(fixedDelayString = "${runners.datasource.routing.health-check-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Replica {} is healthy again", replica.name);
+                } else {
+                    log.warn("Replica {} failed its health check; routing its reads elsewhere", replica.name);
+                }
+                replica.healthy = healthy;
+            }
+        }
+    }
+    
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+    
+    /**
+     * Close the replica pools. The primary is a bean of its own and is closed by the container.
+     */
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.run.runners.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StatisticsConfig {
+    
+    /**
+     * Bounded worker pool used for partitioned statistics generation.
+     */
+    @Bean(name = "statisticsTaskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor platformStatisticsTaskExecutor(@Value("${runners.statistics.worker-threads:4}") int workerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("statistics-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+    
+    /**
+     * Virtual-thread variant used when {@code spring.threads.virtual.enabled} is set on Java 21+. Each partition
+     * gets its own virtual thread; the concurrency limit keeps the number of open transactions at the same
+     * {@code worker-threads} bound as the platform pool.
+     */
+    @Bean(name = "statisticsTaskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualStatisticsTaskExecutor(@Value("${runners.statistics.worker-threads:4}") int workerThreads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("statistics-");
+        executor.setVirtualThreads(true);
+        // 한도에 도달하면 submit 이 빈 자리가 날 때까지 대기한다 (스레드 풀 큐 대신)
+        executor.setConcurrencyLimit(workerThreads);
+        return executor;
+    }
+    
+    /**
+     * Runs queued statistics jobs ({@code StatisticsJobService}). A job only coordinates and waits for its
+     * partitions on {@code statisticsTaskExecutor}, and jobs never overlap, so one thread is enough.
+     */
+    @Bean(name = "statisticsJobExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor platformStatisticsJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("statistics-job-");
+        return executor;
+    }
+    
+    @Bean(name = "statisticsJobExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualStatisticsJobExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("statistics-job-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
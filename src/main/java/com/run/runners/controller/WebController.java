@@ -1,5 +1,14 @@
 package com.run.runners.controller;
 
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.ImportResult;
+import com.run.runners.dto.LeaderboardEntry;
+import com.run.runners.dto.LikeToggleResult;
+import com.run.runners.dto.SearchResult;
+import com.run.runners.dto.StatisticsJobStatus;
+import com.run.runners.dto.TrackAnalysis;
+import com.run.runners.dto.TrackPoint;
+import com.run.runners.dto.TrackSummary;
 import com.run.runners.entity.Competition;
 import com.run.runners.entity.Post;
 import com.run.runners.entity.Comment;
@@ -9,26 +18,48 @@ import com.run.runners.entity.RunningRecord;
 import com.run.runners.entity.RunningStatistics;
 import com.run.runners.entity.RunningMate;
 import com.run.runners.entity.RunningMateComment;
+import com.run.runners.service.BoardSearchIndex;
 import com.run.runners.service.CompetitionService;
+import com.run.runners.service.LeaderboardService;
 import com.run.runners.service.PostService;
 import com.run.runners.service.CommentService;
 import com.run.runners.service.LikeService;
 import com.run.runners.service.TipsService;
 import com.run.runners.service.ReviewService;
+import com.run.runners.service.RunningRecordExportService;
+import com.run.runners.service.RunningRecordImportService;
 import com.run.runners.service.RunningRecordService;
 import com.run.runners.service.RunningStatisticsService;
+import com.run.runners.service.StatisticsJobService;
+import com.run.runners.service.RunningTrackService;
 import com.run.runners.service.RunningMateService;
 import com.run.runners.service.RunningMateCommentService;
+import com.run.runners.service.ViewCountBuffer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.RequestContextUtils;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Controller
 @RequiredArgsConstructor
@@ -41,9 +72,29 @@ public class WebController {
     private final TipsService tipsService;
     private final ReviewService reviewService;
     private final RunningRecordService runningRecordService;
+    private final RunningRecordImportService runningRecordImportService;
+    private final RunningRecordExportService runningRecordExportService;
     private final RunningStatisticsService runningStatisticsService;
+    private final StatisticsJobService statisticsJobService;
+    private final RunningTrackService runningTrackService;
     private final RunningMateService runningMateService;
     private final RunningMateCommentService runningMateCommentService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final LeaderboardService leaderboardService;
+    private final ViewCountBuffer viewCountBuffer;
+    
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+    private static final int MAX_TRACK_POINTS = 5000;
+    
+    // 익명 독자만 있으므로 공유 캐시에 저장해도 되지만 매번 ETag로 재검증한다
+    private static final CacheControl PUBLIC_PAGE = CacheControl.noCache().cachePublic();
+    // 요청자(IP)별 좋아요 여부가 들어간 페이지
+    private static final CacheControl PRIVATE_PAGE = CacheControl.noCache().cachePrivate();
+    
+    // 조회수는 updatedAt을 바꾸지 않으므로 ETag를 이 주기마다 새로 만들어 목록 캐시 TTL 이상 오래된 조회수를 보여주지 않는다
+    @Value("${runners.cache.list-ttl-seconds:60}")
+    private long listTtlSeconds;
 
     @GetMapping("/")
     public String home() {
@@ -51,8 +102,10 @@ public class WebController {
     }
 
     @GetMapping("/competitions")
-    public String competitions(Model model) {
-        model.addAttribute("competitions", competitionService.getAllCompetitions());
+    public String competitions(@RequestParam(required = false) String cursor, Model model) {
+        CursorPage<Competition> page = competitionService.getCompetitionPage(cursor, PAGE_SIZE);
+        model.addAttribute("competitions", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "competitions/list";
     }
 
@@ -90,8 +143,10 @@ public class WebController {
     }
     
     @GetMapping("/my-running/records")
-    public String runningRecords(Model model) {
-        model.addAttribute("runningRecords", runningRecordService.getAllRunningRecords());
+    public String runningRecords(@RequestParam(required = false) String cursor, Model model) {
+        CursorPage<RunningRecord> page = runningRecordService.getRunningRecordPage(cursor, PAGE_SIZE);
+        model.addAttribute("runningRecords", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "my-running/records";
     }
     
@@ -112,6 +167,87 @@ public class WebController {
         return "redirect:/my-running/records";
     }
     
+    // 대량 가져오기: 요청 본문(CSV 또는 NDJSON)을 그대로 스트리밍해서 읽는다
+    // 예) curl --data-binary @history.csv -H 'Content-Type: text/csv' 'http://localhost:9281/my-running/records/import?format=CSV'
+    @PostMapping("/my-running/records/import")
+    @ResponseBody
+    public ResponseEntity<?> importRunningRecords(@RequestParam(defaultValue = "CSV") RunningRecordImportService.Format format,
+                                                  HttpServletRequest request) {
+        try {
+            ImportResult result = runningRecordImportService.importRecords(request.getInputStream(), format);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("기록 가져오기 중 오류가 발생했습니다.");
+        }
+    }
+    
+    // 대량 내보내기: DB 커서에서 읽은 행을 응답 스트림에 바로 쓴다 (목록을 메모리에 올리지 않음)
+    @GetMapping("/my-running/records/export")
+    public ResponseEntity<StreamingResponseBody> exportRunningRecords(@RequestParam(required = false) String runnerName,
+                                                                      @RequestParam(defaultValue = "CSV") RunningRecordExportService.Format format) {
+        return exportResponse("running-records", format,
+            output -> runningRecordExportService.exportRecords(runnerName, format, output));
+    }
+    
+    @GetMapping("/my-running/statistics/export")
+    public ResponseEntity<StreamingResponseBody> exportRunningStatistics(@RequestParam(defaultValue = "CSV") RunningRecordExportService.Format format) {
+        if (format == RunningRecordExportService.Format.COLUMNAR) {
+            return ResponseEntity.badRequest().build();
+        }
+        return exportResponse("running-statistics", format,
+            output -> runningRecordExportService.exportStatistics(format, output));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, RunningRecordExportService.Format format,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"")
+            .body(body);
+    }
+    
+    // GPX 트랙 첨부: 요청 본문을 그대로 읽어 델타 인코딩 후 저장하고, 기록 값을 트랙 측정값으로 갱신한다
+    // 예) curl --data-binary @run.gpx -H 'Content-Type: application/gpx+xml' http://localhost:9281/my-running/records/1/track
+    @PostMapping("/my-running/records/{id}/track")
+    @ResponseBody
+    public ResponseEntity<?> attachRunningTrack(@PathVariable Long id, HttpServletRequest request) {
+        try {
+            TrackSummary summary = runningTrackService.attachTrack(id, request.getInputStream());
+            return ResponseEntity.ok(summary);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("트랙 저장 중 오류가 발생했습니다.");
+        }
+    }
+    
+    @GetMapping("/my-running/records/{id}/track")
+    @ResponseBody
+    public ResponseEntity<List<TrackPoint>> runningTrackPoints(@PathVariable Long id,
+                                                               @RequestParam(defaultValue = "500") int maxPoints) {
+        return runningTrackService.getTrackPoints(id, Math.min(Math.max(maxPoints, 2), MAX_TRACK_POINTS))
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/my-running/records/{id}/track/analysis")
+    @ResponseBody
+    public ResponseEntity<TrackAnalysis> runningTrackAnalysis(@PathVariable Long id) {
+        return runningTrackService.getTrackAnalysis(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/my-running/records/{id}/track/summary")
+    @ResponseBody
+    public ResponseEntity<TrackSummary> runningTrackSummary(@PathVariable Long id) {
+        return runningTrackService.getTrackSummary(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
     @GetMapping("/my-running/records/{id}")
     public String runningRecordDetail(@PathVariable Long id, Model model) {
         Optional<RunningRecord> runningRecord = runningRecordService.getRunningRecordById(id);
@@ -130,7 +266,9 @@ public class WebController {
             model.addAttribute("runningRecords", runningRecordService.searchByRunnerName(keyword));
             model.addAttribute("keyword", keyword);
         } else {
-            model.addAttribute("runningRecords", runningRecordService.getAllRunningRecords());
+            CursorPage<RunningRecord> page = runningRecordService.getRunningRecordPage(null, PAGE_SIZE);
+            model.addAttribute("runningRecords", page.content());
+            model.addAttribute("nextCursor", page.nextCursor());
         }
         return "my-running/records";
     }
@@ -147,9 +285,16 @@ public class WebController {
     }
     
     @GetMapping("/my-running/statistics")
-    public String runningStatistics(@RequestParam(required = false) String runnerName, Model model) {
-        List<String> allRunnerNames = runningStatisticsService.getAllRunnerNames();
+    public String runningStatistics(@RequestParam(required = false) String runnerName, Model model, ServletWebRequest webRequest) {
+        // 러너 목록(DISTINCT 전체 스캔)은 304 판단 뒤에 읽는다. 기본 선택 러너도 목록에서 정해지므로 전체 버전만으로 판단
+        String selectedRunner = runnerName;
+        if (notModified(webRequest, PUBLIC_PAGE, () -> selectedRunner == null || selectedRunner.trim().isEmpty()
+            ? "statistics:" + runningStatisticsService.getStatisticsVersion()
+            : "statistics:" + runningStatisticsService.getStatisticsVersion() + ":" + selectedRunner + ":" + runningStatisticsService.getStatisticsVersion(selectedRunner))) {
+            return null;
+        }
         
+        List<String> allRunnerNames = runningStatisticsService.getAllRunnerNames();
         if (runnerName == null || runnerName.trim().isEmpty()) {
             if (!allRunnerNames.isEmpty()) {
                 runnerName = allRunnerNames.get(0);
@@ -174,16 +319,98 @@ public class WebController {
         return "my-running/statistics";
     }
     
+    // 통계 재계산은 작업으로 등록만 하고 바로 돌아온다 (진행 상황은 /my-running/statistics/jobs/{jobId})
     @PostMapping("/my-running/statistics/generate")
-    public String generateStatistics(RedirectAttributes redirectAttributes) {
+    public String generateStatistics(@RequestParam(required = false) String runnerName,
+                                     @RequestParam(required = false) RunningStatistics.StatisticsPeriod period,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                     RedirectAttributes redirectAttributes) {
         try {
-            runningStatisticsService.generateImmediateStatistics();
-            redirectAttributes.addFlashAttribute("successMessage", "통계가 성공적으로 생성되었습니다.");
+            StatisticsJobStatus job = statisticsJobService.submit(runnerName, period, date);
+            redirectAttributes.addFlashAttribute("successMessage", "통계 재계산 작업을 시작했습니다. (작업 ID: " + job.jobId() + ")");
+            redirectAttributes.addFlashAttribute("statisticsJobId", job.jobId());
+        } catch (IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            statisticsJobService.getActiveJob()
+                .ifPresent(job -> redirectAttributes.addFlashAttribute("statisticsJobId", job.jobId()));
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("errorMessage", "통계 생성 중 오류가 발생했습니다.");
         }
         return "redirect:/my-running/statistics";
     }
+    
+    // 예) curl -X POST 'http://localhost:9281/my-running/statistics/jobs?runnerName=김러너&period=MONTHLY&date=2025-03-01'
+    @PostMapping("/my-running/statistics/jobs")
+    @ResponseBody
+    public ResponseEntity<?> submitStatisticsJob(@RequestParam(required = false) String runnerName,
+                                                 @RequestParam(required = false) RunningStatistics.StatisticsPeriod period,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            StatisticsJobStatus job = statisticsJobService.submit(runnerName, period, date);
+            return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/my-running/statistics/jobs/" + job.jobId())
+                .body(job);
+        } catch (IllegalStateException e) {
+            // 중복 실행 거부: 실행 중인 작업을 돌려준다
+            Optional<StatisticsJobStatus> active = statisticsJobService.getActiveJob();
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(active.isPresent() ? active.get() : e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @GetMapping("/my-running/statistics/jobs")
+    @ResponseBody
+    public List<StatisticsJobStatus> statisticsJobs() {
+        return statisticsJobService.getJobs();
+    }
+    
+    @GetMapping("/my-running/statistics/jobs/{jobId}")
+    @ResponseBody
+    public ResponseEntity<StatisticsJobStatus> statisticsJob(@PathVariable String jobId) {
+        return statisticsJobService.getJob(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    // 리더보드 (JSON): 기간 지정이 없으면 현재 주/월/연도
+    @GetMapping("/my-running/leaderboard")
+    @ResponseBody
+    public List<LeaderboardEntry> leaderboard(@RequestParam(defaultValue = "WEEKLY") RunningStatistics.StatisticsPeriod period,
+                                              @RequestParam(required = false) Integer year,
+                                              @RequestParam(required = false) Integer month,
+                                              @RequestParam(required = false) Integer week,
+                                              @RequestParam(defaultValue = "DISTANCE") LeaderboardService.Metric metric,
+                                              @RequestParam(defaultValue = "10") int limit) {
+        return leaderboardService.top(leaderboardBucket(period, year, month, week), metric,
+            Math.min(Math.max(limit, 1), MAX_LEADERBOARD_SIZE));
+    }
+    
+    @GetMapping("/my-running/leaderboard/{runnerName}")
+    @ResponseBody
+    public ResponseEntity<List<LeaderboardEntry>> leaderboardAround(@PathVariable String runnerName,
+                                                                    @RequestParam(defaultValue = "WEEKLY") RunningStatistics.StatisticsPeriod period,
+                                                                    @RequestParam(required = false) Integer year,
+                                                                    @RequestParam(required = false) Integer month,
+                                                                    @RequestParam(required = false) Integer week,
+                                                                    @RequestParam(defaultValue = "DISTANCE") LeaderboardService.Metric metric,
+                                                                    @RequestParam(defaultValue = "5") int radius) {
+        List<LeaderboardEntry> entries = leaderboardService.around(leaderboardBucket(period, year, month, week), metric,
+            runnerName, Math.min(Math.max(radius, 0), MAX_LEADERBOARD_SIZE / 2));
+        if (entries.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(entries);
+    }
+    
+    private LeaderboardService.Bucket leaderboardBucket(RunningStatistics.StatisticsPeriod period, Integer year, Integer month, Integer week) {
+        if (year == null) {
+            return LeaderboardService.Bucket.containing(period, LocalDateTime.now());
+        }
+        return LeaderboardService.Bucket.of(period, year, month, week);
+    }
 
     @GetMapping("/community")
     public String community() {
@@ -197,8 +424,13 @@ public class WebController {
 
     // 커뮤니티 자유게시판 관련 매핑
     @GetMapping("/community/board")
-    public String communityBoard(Model model) {
-        model.addAttribute("posts", postService.getAllPosts());
+    public String communityBoard(@RequestParam(required = false) String cursor, Model model, ServletWebRequest webRequest) {
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "board:" + postService.getBoardVersion())) {
+            return null;
+        }
+        CursorPage<Post> page = postService.getPostPage(cursor, PAGE_SIZE);
+        model.addAttribute("posts", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "community/board";
     }
 
@@ -220,16 +452,36 @@ public class WebController {
     }
 
     @GetMapping("/community/board/{id}")
-    public String postDetail(@PathVariable Long id, Model model, HttpServletRequest request) {
-        Optional<Post> post = postService.getPostByIdAndIncrementView(id);
+    public String postDetail(@PathVariable Long id, Model model, HttpServletRequest request, ServletWebRequest webRequest) {
+        String userIdentifier = request.getRemoteAddr(); // Use IP address as user identifier
+        // 댓글/좋아요 수 변경도 게시글 updatedAt을 올리므로 수정 시각과 본인의 좋아요 여부만 비교하면 된다
+        Optional<Post> post = Optional.empty();
+        Optional<LocalDateTime> updatedAt;
+        if (isRevalidation(webRequest)) {
+            updatedAt = postService.getUpdatedAt(id);
+        } else {
+            post = postService.getPostByIdAndIncrementView(id);
+            updatedAt = post.map(Post::getUpdatedAt);
+        }
+        if (updatedAt.isEmpty()) {
+            return "redirect:/community/board";
+        }
+        
+        boolean liked = likeService.isLikedByUser(id, userIdentifier);
+        if (notModified(webRequest, PRIVATE_PAGE, () -> "post:" + id + ":" + updatedAt.get() + ":" + liked)) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.POST, id);
+            return null;
+        }
+        
+        if (post.isEmpty()) {
+            post = postService.getPostByIdAndIncrementView(id);
+        }
         if (post.isPresent()) {
             Post currentPost = post.get();
-            String userIdentifier = request.getRemoteAddr(); // Use IP address as user identifier
-            
             model.addAttribute("post", currentPost);
             model.addAttribute("comments", commentService.getCommentsByPostId(id));
             model.addAttribute("newComment", new Comment());
-            model.addAttribute("isLiked", likeService.isLikedByUser(id, userIdentifier));
+            model.addAttribute("isLiked", liked);
             return "community/detail";
         } else {
             return "redirect:/community/board";
@@ -251,11 +503,29 @@ public class WebController {
             model.addAttribute("keyword", keyword);
             model.addAttribute("type", type);
         } else {
-            model.addAttribute("posts", postService.getAllPosts());
+            CursorPage<Post> page = postService.getPostPage(null, PAGE_SIZE);
+            model.addAttribute("posts", page.content());
+            model.addAttribute("nextCursor", page.nextCursor());
         }
         return "community/board";
     }
 
+    // 커뮤니티 통합 검색 (자유게시판, 팁, 후기, 러닝메이트)
+    @GetMapping("/community/search")
+    public String communitySearch(@RequestParam(required = false) String keyword,
+                                  @RequestParam(required = false) BoardSearchIndex.Board board,
+                                  @RequestParam(defaultValue = "0") int page,
+                                  Model model) {
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            SearchResult result = boardSearchIndex.search(keyword, board, Math.max(page, 0), PAGE_SIZE);
+            model.addAttribute("result", result);
+            model.addAttribute("keyword", keyword);
+        }
+        model.addAttribute("board", board);
+        model.addAttribute("boards", BoardSearchIndex.Board.values());
+        return "community/search";
+    }
+
     // 댓글 관련 매핑
     @PostMapping("/community/board/{postId}/comments")
     public String addComment(@PathVariable Long postId, 
@@ -295,10 +565,9 @@ public class WebController {
     public ResponseEntity<?> toggleLike(@PathVariable Long postId, HttpServletRequest request) {
         try {
             String userIdentifier = request.getRemoteAddr();
-            boolean isLiked = likeService.toggleLike(postId, userIdentifier);
-            long likeCount = likeService.getLikeCount(postId);
+            LikeToggleResult result = likeService.toggleLike(postId, userIdentifier);
             
-            return ResponseEntity.ok().body(new LikeResponse(isLiked, likeCount));
+            return ResponseEntity.ok().body(new LikeResponse(result.liked(), result.likeCount()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("좋아요 처리 중 오류가 발생했습니다.");
         }
@@ -325,8 +594,13 @@ public class WebController {
     
     // 팁&노하우 게시판 관련 매핑
     @GetMapping("/community/tips")
-    public String tipsBoard(Model model) {
-        model.addAttribute("tips", tipsService.getAllTips());
+    public String tipsBoard(@RequestParam(required = false) String cursor, Model model, ServletWebRequest webRequest) {
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "tips:" + tipsService.getBoardVersion())) {
+            return null;
+        }
+        CursorPage<Tips> page = tipsService.getTipsPage(cursor, PAGE_SIZE);
+        model.addAttribute("tips", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "community/tips";
     }
 
@@ -348,8 +622,27 @@ public class WebController {
     }
 
     @GetMapping("/community/tips/{id}")
-    public String tipsDetail(@PathVariable Long id, Model model) {
-        Optional<Tips> tips = tipsService.getTipsByIdAndIncrementView(id);
+    public String tipsDetail(@PathVariable Long id, Model model, ServletWebRequest webRequest) {
+        Optional<Tips> tips = Optional.empty();
+        Optional<LocalDateTime> updatedAt;
+        if (isRevalidation(webRequest)) {
+            updatedAt = tipsService.getUpdatedAt(id);
+        } else {
+            tips = tipsService.getTipsByIdAndIncrementView(id);
+            updatedAt = tips.map(Tips::getUpdatedAt);
+        }
+        if (updatedAt.isEmpty()) {
+            return "redirect:/community/tips";
+        }
+        
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "tips:" + id + ":" + updatedAt.get())) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.TIPS, id);
+            return null;
+        }
+        
+        if (tips.isEmpty()) {
+            tips = tipsService.getTipsByIdAndIncrementView(id);
+        }
         if (tips.isPresent()) {
             model.addAttribute("tips", tips.get());
             return "community/tips-detail";
@@ -373,15 +666,22 @@ public class WebController {
             model.addAttribute("keyword", keyword);
             model.addAttribute("type", type);
         } else {
-            model.addAttribute("tips", tipsService.getAllTips());
+            CursorPage<Tips> page = tipsService.getTipsPage(null, PAGE_SIZE);
+            model.addAttribute("tips", page.content());
+            model.addAttribute("nextCursor", page.nextCursor());
         }
         return "community/tips";
     }
     
     // 달리기 후기 게시판 관련 매핑
     @GetMapping("/community/reviews")
-    public String reviewsBoard(Model model) {
-        model.addAttribute("reviews", reviewService.getAllReviews());
+    public String reviewsBoard(@RequestParam(required = false) String cursor, Model model, ServletWebRequest webRequest) {
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "reviews:" + reviewService.getBoardVersion())) {
+            return null;
+        }
+        CursorPage<Review> page = reviewService.getReviewPage(cursor, PAGE_SIZE);
+        model.addAttribute("reviews", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "community/reviews";
     }
 
@@ -403,8 +703,27 @@ public class WebController {
     }
 
     @GetMapping("/community/reviews/{id}")
-    public String reviewDetail(@PathVariable Long id, Model model) {
-        Optional<Review> review = reviewService.getReviewByIdAndIncrementView(id);
+    public String reviewDetail(@PathVariable Long id, Model model, ServletWebRequest webRequest) {
+        Optional<Review> review = Optional.empty();
+        Optional<LocalDateTime> updatedAt;
+        if (isRevalidation(webRequest)) {
+            updatedAt = reviewService.getUpdatedAt(id);
+        } else {
+            review = reviewService.getReviewByIdAndIncrementView(id);
+            updatedAt = review.map(Review::getUpdatedAt);
+        }
+        if (updatedAt.isEmpty()) {
+            return "redirect:/community/reviews";
+        }
+        
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "review:" + id + ":" + updatedAt.get())) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.REVIEW, id);
+            return null;
+        }
+        
+        if (review.isEmpty()) {
+            review = reviewService.getReviewByIdAndIncrementView(id);
+        }
         if (review.isPresent()) {
             model.addAttribute("review", review.get());
             return "community/reviews-detail";
@@ -428,15 +747,22 @@ public class WebController {
             model.addAttribute("keyword", keyword);
             model.addAttribute("type", type);
         } else {
-            model.addAttribute("reviews", reviewService.getAllReviews());
+            CursorPage<Review> page = reviewService.getReviewPage(null, PAGE_SIZE);
+            model.addAttribute("reviews", page.content());
+            model.addAttribute("nextCursor", page.nextCursor());
         }
         return "community/reviews";
     }
     
     // 러닝메이트 게시판 관련 매핑
     @GetMapping("/community/running-mates")
-    public String runningMatesBoard(Model model) {
-        model.addAttribute("runningMates", runningMateService.getAllRunningMates());
+    public String runningMatesBoard(@RequestParam(required = false) String cursor, Model model, ServletWebRequest webRequest) {
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "running-mates:" + runningMateService.getBoardVersion())) {
+            return null;
+        }
+        CursorPage<RunningMate> page = runningMateService.getRunningMatePage(cursor, PAGE_SIZE);
+        model.addAttribute("runningMates", page.content());
+        model.addAttribute("nextCursor", page.nextCursor());
         return "community/running-mates";
     }
 
@@ -458,11 +784,30 @@ public class WebController {
     }
 
     @GetMapping("/community/running-mates/{id}")
-    public String runningMateDetail(@PathVariable Long id, Model model) {
-        Optional<RunningMate> runningMate = runningMateService.getRunningMateByIdAndIncrementView(id);
+    public String runningMateDetail(@PathVariable Long id, Model model, ServletWebRequest webRequest) {
+        // 참여 신청 추가/취소도 모집글 updatedAt을 올린다
+        Optional<RunningMate> runningMate = Optional.empty();
+        Optional<LocalDateTime> updatedAt;
+        if (isRevalidation(webRequest)) {
+            updatedAt = runningMateService.getUpdatedAt(id);
+        } else {
+            runningMate = runningMateService.getRunningMateByIdAndIncrementView(id);
+            updatedAt = runningMate.map(RunningMate::getUpdatedAt);
+        }
+        if (updatedAt.isEmpty()) {
+            return "redirect:/community/running-mates";
+        }
+        
+        if (notModified(webRequest, PUBLIC_PAGE, () -> "running-mate:" + id + ":" + updatedAt.get())) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.RUNNING_MATE, id);
+            return null;
+        }
+        
+        if (runningMate.isEmpty()) {
+            runningMate = runningMateService.getRunningMateByIdAndIncrementView(id);
+        }
         if (runningMate.isPresent()) {
             RunningMate currentRunningMate = runningMate.get();
-            
             model.addAttribute("runningMate", currentRunningMate);
             model.addAttribute("comments", runningMateCommentService.getCommentsByRunningMateId(id));
             model.addAttribute("newComment", new RunningMateComment());
@@ -489,7 +834,9 @@ public class WebController {
             model.addAttribute("keyword", keyword);
             model.addAttribute("type", type);
         } else {
-            model.addAttribute("runningMates", runningMateService.getAllRunningMates());
+            CursorPage<RunningMate> page = runningMateService.getRunningMatePage(null, PAGE_SIZE);
+            model.addAttribute("runningMates", page.content());
+            model.addAttribute("nextCursor", page.nextCursor());
         }
         return "community/running-mates";
     }
@@ -526,4 +873,29 @@ public class WebController {
         }
         return "redirect:/community/running-mates/" + runningMateId;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Conditional GET: tags the page with a weak ETag derived from {@code version} and returns {@code true} after
+     * answering 304 Not Modified when the client already holds that version. {@code version} has to change
+     * whenever the rendered page would; view counts are only refreshed every {@code list-ttl-seconds}.
+     * Pages showing flash attributes (the message after a redirect) are one-off and are neither tagged nor stored.
+     */
+    private boolean notModified(ServletWebRequest webRequest, CacheControl cacheControl, Supplier<String> version) {
+        Map<String, ?> flashAttributes = RequestContextUtils.getInputFlashMap(webRequest.getRequest());
+        if (flashAttributes != null && !flashAttributes.isEmpty()) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            return false;
+        }
+        
+        long window = System.currentTimeMillis() / (Math.max(1, listTtlSeconds) * 1000);
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex((version.get() + "|" + window).getBytes(StandardCharsets.UTF_8)) + "\"";
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return webRequest.checkNotModified(etag);
+    }
+    
+    // If-None-Match 없이 온 요청은 304가 될 수 없으므로 버전을 따로 조회하지 않고 본문 조회 결과로 ETag를 만든다
+    // 재검증 요청은 버전만 먼저 조회하고, 바뀌었을 때만 본문을 읽는다 (ETag는 어느 쪽이든 한 번만 계산)
+    private static boolean isRevalidation(ServletWebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+}
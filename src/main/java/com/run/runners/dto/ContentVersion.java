@@ -0,0 +1,10 @@
+package com.run.runners.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap version of a board or of one runner's statistics, used to answer conditional GETs: the number of rows
+ * (so deletes are noticed) and the latest modification time ({@code null} when there are no rows).
+ */
+public record ContentVersion(long count, LocalDateTime lastModified) {
+}
@@ -0,0 +1,13 @@
+package com.run.runners.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: imported and rejected row counts, the first rejection messages and throughput.
+ */
+public record ImportResult(long importedRows, long rejectedRows, List<String> errors, long elapsedMillis) {
+    
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? importedRows : importedRows * 1000.0 / elapsedMillis;
+    }
+}
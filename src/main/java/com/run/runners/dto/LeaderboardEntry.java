@@ -0,0 +1,7 @@
+package com.run.runners.dto;
+
+/**
+ * One row of a leaderboard: 1-based rank, runner and the score of the ranked metric.
+ */
+public record LeaderboardEntry(int rank, String runnerName, double score) {
+}
@@ -0,0 +1,7 @@
+package com.run.runners.dto;
+
+/**
+ * Outcome of a like toggle: whether the post is now liked by the user and its resulting like count.
+ */
+public record LikeToggleResult(boolean liked, long likeCount) {
+}
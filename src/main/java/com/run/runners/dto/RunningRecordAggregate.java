@@ -0,0 +1,25 @@
+package com.run.runners.dto;
+
+/**
+ * Per-runner aggregate of the running records in one statistics period,
+ * computed by the database in a single GROUP BY query. Personal bests come from the
+ * attached GPS tracks and are {@code null} when no track covered the distance.
+ */
+public record RunningRecordAggregate(
+    String runnerName,
+    Long totalRuns,
+    Double totalDistanceKm,
+    Long totalTimeMinutes,
+    Double totalCaloriesBurned,
+    Double averageHeartRate,
+    Double averageCadence,
+    Double maxSpeedKmh,
+    Double maxDistanceKm,
+    Integer maxTimeMinutes,
+    Integer best1kSeconds,
+    Integer best5kSeconds,
+    Integer best10kSeconds,
+    Integer bestHalfMarathonSeconds,
+    Integer bestMarathonSeconds
+) {
+}
@@ -0,0 +1,9 @@
+package com.run.runners.dto;
+
+/**
+ * One raw row of a running record import (a CSV line or an NDJSON object), before validation.
+ * {@code recordDate} accepts ISO date-times ({@code 2024-05-01T07:30:00}) or plain dates.
+ */
+public record RunningRecordImportRow(String runnerName, String recordDate, Integer runTimeMinutes, Double distanceKm,
+                                     Integer cadence, Integer maxHeartRate, Double maxSpeedKmh) {
+}
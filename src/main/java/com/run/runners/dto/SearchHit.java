@@ -0,0 +1,15 @@
+package com.run.runners.dto;
+
+import com.run.runners.service.BoardSearchIndex.Board;
+
+import java.time.LocalDateTime;
+
+/**
+ * One ranked result of the community search index.
+ */
+public record SearchHit(Board board, Long id, String title, String author, LocalDateTime createdAt, int score) {
+    
+    public String getDetailUrl() {
+        return board.getPath() + "/" + id;
+    }
+}
@@ -0,0 +1,13 @@
+package com.run.runners.dto;
+
+import java.util.List;
+
+/**
+ * A page of ranked search hits and the total number of matching documents.
+ */
+public record SearchResult(List<SearchHit> hits, int totalHits, int page, int size) {
+    
+    public boolean hasNext() {
+        return (long) (page + 1) * size < totalHits;
+    }
+}
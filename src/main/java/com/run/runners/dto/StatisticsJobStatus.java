@@ -0,0 +1,46 @@
+package com.run.runners.dto;
+
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a statistics rebuild job run by node {@code nodeId}. {@code runnerName} / {@code period} are
+ * {@code null} when the job covers all runners / all periods; a sharded reconciliation only covers runner shard
+ * {@code shardIndex} of {@code shardCount}.
+ * {@code etaSeconds} is {@code null} until the first partition has finished.
+ */
+public record StatisticsJobStatus(String jobId,
+                                  String nodeId,
+                                  String runnerName,
+                                  StatisticsPeriod period,
+                                  LocalDate date,
+                                  int shardIndex,
+                                  int shardCount,
+                                  State state,
+                                  int totalRunners,
+                                  int completedRunners,
+                                  int failedPartitions,
+                                  LocalDateTime submittedAt,
+                                  LocalDateTime startedAt,
+                                  LocalDateTime finishedAt,
+                                  long elapsedSeconds,
+                                  Long etaSeconds,
+                                  String error) {
+    
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+    
+    public boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+    
+    public double getProgressPercent() {
+        if (totalRunners == 0) {
+            return isFinished() ? 100.0 : 0.0;
+        }
+        return completedRunners * 100.0 / totalRunners;
+    }
+}
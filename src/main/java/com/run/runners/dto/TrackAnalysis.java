@@ -0,0 +1,76 @@
+package com.run.runners.dto;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Result of one {@code TrackAnalyzer} pass. The arrays are sized once and reused between passes, so analysing
+ * many tracks with the same instance does not allocate (only the split array grows for very long runs).
+ * <p>
+ * Best efforts are in seconds ({@code -1} if the track is shorter than the distance); zone and cadence arrays
+ * hold the milliseconds spent in each bucket.
+ */
+@Getter
+public class TrackAnalysis {
+    
+    private final double[] bestEffortSeconds;
+    private final long[] heartRateZoneMillis;
+    private final long[] paceZoneMillis;
+    private final long[] cadenceBucketMillis;
+    private long[] splitMillis = new long[64];
+    private int splitCount;
+    private double distanceMeters;
+    private long elapsedMillis;
+    
+    public TrackAnalysis(int bestEfforts, int heartRateZones, int paceZones, int cadenceBuckets) {
+        this.bestEffortSeconds = new double[bestEfforts];
+        this.heartRateZoneMillis = new long[heartRateZones];
+        this.paceZoneMillis = new long[paceZones];
+        this.cadenceBucketMillis = new long[cadenceBuckets];
+        reset();
+    }
+    
+    public void reset() {
+        Arrays.fill(bestEffortSeconds, -1);
+        Arrays.fill(heartRateZoneMillis, 0);
+        Arrays.fill(paceZoneMillis, 0);
+        Arrays.fill(cadenceBucketMillis, 0);
+        splitCount = 0;
+        distanceMeters = 0;
+        elapsedMillis = 0;
+    }
+    
+    /**
+     * Durations of the completed kilometres, in order; a trailing partial kilometre is not included.
+     */
+    public long[] getSplitMillis() {
+        return Arrays.copyOf(splitMillis, splitCount);
+    }
+    
+    public void addSplit(long millis) {
+        if (splitCount == splitMillis.length) {
+            splitMillis = Arrays.copyOf(splitMillis, splitCount * 2);
+        }
+        splitMillis[splitCount++] = millis;
+    }
+    
+    public void offerBestEffort(int index, double seconds) {
+        if (bestEffortSeconds[index] < 0 || seconds < bestEffortSeconds[index]) {
+            bestEffortSeconds[index] = seconds;
+        }
+    }
+    
+    public void finish(double distanceMeters, long elapsedMillis) {
+        this.distanceMeters = distanceMeters;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    /**
+     * Best effort rounded to whole seconds, or {@code null} if the distance was not covered.
+     */
+    public Integer bestEffortSecondsOrNull(int index) {
+        double seconds = bestEffortSeconds[index];
+        return seconds < 0 ? null : (int) Math.round(seconds);
+    }
+}
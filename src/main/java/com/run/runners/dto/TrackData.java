@@ -0,0 +1,58 @@
+package com.run.runners.dto;
+
+import java.util.Arrays;
+
+/**
+ * GPS track held column-wise in primitive arrays: one entry per point in every array.
+ * Heart rate and cadence are {@code 0} where the device did not record them.
+ */
+public record TrackData(double[] latitudes, double[] longitudes, double[] elevations, long[] timesMillis,
+                        int[] heartRates, int[] cadences) {
+    
+    public int size() {
+        return latitudes.length;
+    }
+    
+    /**
+     * Accumulates points of unknown count, growing the arrays as needed.
+     */
+    public static class Builder {
+        
+        private double[] latitudes = new double[1024];
+        private double[] longitudes = new double[1024];
+        private double[] elevations = new double[1024];
+        private long[] timesMillis = new long[1024];
+        private int[] heartRates = new int[1024];
+        private int[] cadences = new int[1024];
+        private int size;
+        
+        public Builder add(double latitude, double longitude, double elevation, long timeMillis, int heartRate, int cadence) {
+            if (size == latitudes.length) {
+                int capacity = size * 2;
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+                elevations = Arrays.copyOf(elevations, capacity);
+                timesMillis = Arrays.copyOf(timesMillis, capacity);
+                heartRates = Arrays.copyOf(heartRates, capacity);
+                cadences = Arrays.copyOf(cadences, capacity);
+            }
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            elevations[size] = elevation;
+            timesMillis[size] = timeMillis;
+            heartRates[size] = heartRate;
+            cadences[size] = cadence;
+            size++;
+            return this;
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        public TrackData build() {
+            return new TrackData(Arrays.copyOf(latitudes, size), Arrays.copyOf(longitudes, size), Arrays.copyOf(elevations, size),
+                Arrays.copyOf(timesMillis, size), Arrays.copyOf(heartRates, size), Arrays.copyOf(cadences, size));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.run.runners.dto;
+
+/**
+ * One (possibly downsampled) track point as returned to map/chart clients.
+ */
+public record TrackPoint(double latitude, double longitude, double elevation, long timeMillis, int heartRate, int cadence) {
+}
@@ -0,0 +1,9 @@
+package com.run.runners.dto;
+
+/**
+ * Values derived from a stored GPS track.
+ */
+public record TrackSummary(Long runningRecordId, int pointCount, int encodedBytes, double distanceKm, long durationSeconds,
+                           double maxSpeedKmh, int averageHeartRate, int maxHeartRate, int averageCadence,
+                           double elevationGainMeters) {
+}
@@ -0,0 +1,31 @@
+package com.run.runners.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application node that recently sent a heartbeat. Live nodes split sharded scheduled work between them.
+ */
+@Entity
+@Table(name = "cluster_nodes", indexes = {
+    @Index(name = "idx_cluster_nodes_heartbeat", columnList = "heartbeat_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterNode {
+    
+    @Id
+    @Column(length = 200)
+    private String nodeId;
+    
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+}
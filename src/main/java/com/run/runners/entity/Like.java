@@ -8,7 +8,9 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "r_likes")
+@Table(name = "r_likes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_likes_post_user", columnNames = {"post_id", "user_identifier"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.run.runners.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "r_posts")
+@Table(name = "r_posts", indexes = {
+    @Index(name = "idx_posts_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_posts_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,6 +39,12 @@ public class Post {
     @Column(nullable = false)
     private Integer likeCount = 0;
     
+    // 목록 화면에서 댓글 컬렉션을 로딩하지 않도록 댓글 수를 별도 컬럼으로 유지
+    // columnDefinition을 쓰면 "+ :delta" 파라미터가 cast(? as INT DEFAULT 0)로 렌더링되므로 기본값만 지정
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer commentCount = 0;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -54,8 +64,4 @@ public class Post {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-    
-    public int getCommentCount() {
-        return comments != null ? comments.size() : 0;
-    }
 }
\ No newline at end of file
@@ -8,7 +8,10 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "r_reviews")
+@Table(name = "r_reviews", indexes = {
+    @Index(name = "idx_reviews_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_reviews_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.run.runners.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -10,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "r_running_mates")
+@Table(name = "r_running_mates", indexes = {
+    @Index(name = "idx_running_mates_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_running_mates_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +45,12 @@ public class RunningMate {
     @Column(nullable = false)
     private Integer viewCount = 0;
     
+    // 참여 신청(댓글) 수를 별도 컬럼으로 유지해 목록 화면의 N+1 조회를 막는다
+    // columnDefinition을 쓰면 "+ :delta" 파라미터가 cast(? as INT DEFAULT 0)로 렌더링되므로 기본값만 지정
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer commentCount = 0;
+    
     @Column(nullable = false)
     private LocalDateTime createdAt;
     
@@ -61,12 +71,8 @@ public class RunningMate {
         updatedAt = LocalDateTime.now();
     }
     
-    public int getCommentCount() {
-        return comments != null ? comments.size() : 0;
-    }
-    
     public int getCurrentParticipants() {
-        return comments != null ? comments.size() : 0;
+        return commentCount != null ? commentCount : 0;
     }
     
     public boolean isFullyBooked() {
@@ -8,12 +8,22 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "running_records")
+@Table(name = "running_records", indexes = {
+    @Index(name = "idx_running_records_runner_date", columnList = "runner_name, record_date"),
+    @Index(name = "idx_running_records_record_date_id", columnList = "record_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class RunningRecord {
     
+    // Standard body weight in kg (70kg = average adult)
+    private static final double STANDARD_WEIGHT_KG = 70.0;
+    
+    // Speed limits (mph) and MET values of the Compendium of Physical Activities running table
+    private static final double[] MET_SPEED_LIMITS_MPH = {4.0, 4.3, 5.0, 5.5, 6.0, 6.7, 7.0, 7.5, 8.0, 8.6, 9.0, 10.0, 10.9, 12.0, 14.0, 16.0};
+    private static final double[] MET_VALUES = {6.0, 6.5, 7.8, 8.5, 9.0, 9.3, 10.5, 11.0, 11.5, 12.3, 12.8, 14.5, 15.3, 16.0, 19.0, 19.8, 23.0};
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -102,70 +112,58 @@ public class RunningRecord {
      * Standard values: 70kg body weight (average adult)
      */
     public Double calculateCalories() {
-        if (runTimeMinutes == null || runTimeMinutes == 0 || distanceKm == null || distanceKm == 0) {
+        if (runTimeMinutes == null || distanceKm == null) {
+            return 0.0;
+        }
+        return calculateCalories(runTimeMinutes, distanceKm);
+    }
+    
+    /**
+     * Calories for one run; the same formula as {@link #calculateCalories()} on primitive values.
+     */
+    public static double calculateCalories(int runTimeMinutes, double distanceKm) {
+        if (runTimeMinutes == 0 || distanceKm == 0) {
             return 0.0;
         }
-        
-        // Standard body weight in kg (70kg = average adult)
-        double standardWeightKg = 70.0;
         
         // Calculate average speed in km/h
-        double averageSpeedKmh = getAverageSpeedKmh();
+        double averageSpeedKmh = (distanceKm / runTimeMinutes) * 60;
         
         // Get MET value based on running speed
         double metValue = getMetValueFromSpeed(averageSpeedKmh);
         
         // Calculate calories using MET formula
         // Calories = (Time in minutes × MET × 3.5 × Weight in kg) / 200
-        double calories = (runTimeMinutes * metValue * 3.5 * standardWeightKg) / 200;
+        double calories = (runTimeMinutes * metValue * 3.5 * STANDARD_WEIGHT_KG) / 200;
         
         return Math.round(calories * 10.0) / 10.0; // Round to 1 decimal place
     }
     
+    /**
+     * Calories for a batch of runs held in primitive arrays (bulk import), without boxing per row.
+     * Writes the first {@code count} results into {@code caloriesOut}.
+     */
+    public static void calculateCalories(int[] runTimeMinutes, double[] distanceKm, double[] caloriesOut, int count) {
+        for (int i = 0; i < count; i++) {
+            caloriesOut[i] = calculateCalories(runTimeMinutes[i], distanceKm[i]);
+        }
+    }
+    
     /**
      * Get MET value based on running speed in km/h
      * Based on Compendium of Physical Activities data
      */
-    private double getMetValueFromSpeed(double speedKmh) {
+    private static double getMetValueFromSpeed(double speedKmh) {
         // Convert km/h to mph for MET lookup
         double speedMph = speedKmh * 0.621371;
         
-        // MET values based on running speed (mph)
-        if (speedMph < 4.0) {
-            return 6.0; // Very slow jog
-        } else if (speedMph < 4.3) {
-            return 6.5; // 4.0-4.2 mph
-        } else if (speedMph < 5.0) {
-            return 7.8; // 4.3-4.8 mph
-        } else if (speedMph < 5.5) {
-            return 8.5; // 5.0-5.2 mph
-        } else if (speedMph < 6.0) {
-            return 9.0; // 5.5-5.8 mph
-        } else if (speedMph < 6.7) {
-            return 9.3; // 6.0-6.3 mph
-        } else if (speedMph < 7.0) {
-            return 10.5; // 6.7 mph
-        } else if (speedMph < 7.5) {
-            return 11.0; // 7.0 mph
-        } else if (speedMph < 8.0) {
-            return 11.5; // 7.5 mph
-        } else if (speedMph < 8.6) {
-            return 12.3; // 8.0 mph
-        } else if (speedMph < 9.0) {
-            return 12.8; // 8.6 mph
-        } else if (speedMph < 10.0) {
-            return 14.5; // 9.0 mph
-        } else if (speedMph < 10.9) {
-            return 15.3; // 10.0 mph
-        } else if (speedMph < 12.0) {
-            return 16.0; // 10.9 mph
-        } else if (speedMph < 14.0) {
-            return 19.0; // 12.0 mph
-        } else if (speedMph < 16.0) {
-            return 19.8; // 14.0 mph
-        } else {
-            return 23.0; // 16+ mph (very fast)
+        // MET values based on running speed (mph): the first threshold the speed is below wins
+        for (int i = 0; i < MET_SPEED_LIMITS_MPH.length; i++) {
+            if (speedMph < MET_SPEED_LIMITS_MPH[i]) {
+                return MET_VALUES[i];
+            }
         }
+        return MET_VALUES[MET_VALUES.length - 1]; // 16+ mph (very fast)
     }
     
     /**
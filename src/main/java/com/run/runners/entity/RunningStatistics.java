@@ -8,7 +8,14 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "running_statistics")
+@Table(name = "running_statistics", indexes = {
+    @Index(name = "idx_running_statistics_bucket", columnList = "period, period_year, runner_name"),
+    @Index(name = "idx_running_statistics_runner", columnList = "runner_name, period"),
+    @Index(name = "idx_running_statistics_last_calculated_at", columnList = "last_calculated_at")
+}, uniqueConstraints = {
+    // 버킷당 한 행: 배치 upsert(ON DUPLICATE KEY UPDATE / MERGE)와 동시 INSERT 방지의 기준
+    @UniqueConstraint(name = "uk_running_statistics_bucket", columnNames = {"runner_name", "period", "period_year", "period_month", "period_week"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,11 +35,12 @@ public class RunningStatistics {
     @Column(nullable = false)
     private Integer periodYear;
     
-    @Column
-    private Integer periodWeek;
+    // 해당 없는 기간은 NULL 대신 0 (NULL은 유니크 키에서 서로 다른 값으로 취급된다)
+    @Column(nullable = false)
+    private Integer periodWeek = 0;
     
-    @Column
-    private Integer periodMonth;
+    @Column(nullable = false)
+    private Integer periodMonth = 0;
     
     @Column(nullable = false)
     private Integer totalRuns = 0;
@@ -67,6 +75,22 @@ public class RunningStatistics {
     @Column
     private Integer maxTimeMinutes = 0;
     
+    // 기간 내 개인 최고 기록(초) - GPS 트랙이 첨부된 기록에서만 집계
+    @Column(name = "best_1k_seconds")
+    private Integer best1kSeconds;
+    
+    @Column(name = "best_5k_seconds")
+    private Integer best5kSeconds;
+    
+    @Column(name = "best_10k_seconds")
+    private Integer best10kSeconds;
+    
+    @Column(name = "best_half_marathon_seconds")
+    private Integer bestHalfMarathonSeconds;
+    
+    @Column(name = "best_marathon_seconds")
+    private Integer bestMarathonSeconds;
+    
     @Column(nullable = false)
     private LocalDateTime lastCalculatedAt;
     
@@ -114,6 +138,11 @@ public class RunningStatistics {
         return String.format("%d:%02d/km", minutes, seconds);
     }
     
+    public boolean hasPersonalBests() {
+        return best1kSeconds != null || best5kSeconds != null || best10kSeconds != null
+            || bestHalfMarathonSeconds != null || bestMarathonSeconds != null;
+    }
+    
     public String getPeriodDisplay() {
         switch (period) {
             case WEEKLY:
@@ -0,0 +1,95 @@
+package com.run.runners.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPS track of one running record. The points are kept as a single delta-encoded blob
+ * (see {@code TrackCodec}); the summary columns are derived from them when the track is attached.
+ */
+@Entity
+@Table(name = "running_tracks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningTrack {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "running_record_id", nullable = false, unique = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private RunningRecord runningRecord;
+    
+    @Column(nullable = false)
+    private Integer pointCount;
+    
+    @Column(nullable = false)
+    private Double distanceKm;
+    
+    @Column(nullable = false)
+    private Long durationSeconds;
+    
+    @Column(nullable = false)
+    private Double maxSpeedKmh;
+    
+    @Column(nullable = false)
+    private Integer averageHeartRate;
+    
+    @Column(nullable = false)
+    private Integer maxHeartRate;
+    
+    @Column(nullable = false)
+    private Integer averageCadence;
+    
+    @Column(nullable = false)
+    private Double elevationGainMeters;
+    
+    // 베스트 기록(초) - 해당 거리 이상을 달리지 않았으면 null
+    @Column(name = "best_1k_seconds")
+    private Integer best1kSeconds;
+    
+    @Column(name = "best_5k_seconds")
+    private Integer best5kSeconds;
+    
+    @Column(name = "best_10k_seconds")
+    private Integer best10kSeconds;
+    
+    @Column(name = "best_half_marathon_seconds")
+    private Integer bestHalfMarathonSeconds;
+    
+    @Column(name = "best_marathon_seconds")
+    private Integer bestMarathonSeconds;
+    
+    // 약 16MB(MEDIUMBLOB)까지 허용 - 1초 간격 마라톤 트랙은 보통 수십 KB
+    @Lob
+    @Column(nullable = false, length = 16777215)
+    @ToString.Exclude
+    private byte[] points;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
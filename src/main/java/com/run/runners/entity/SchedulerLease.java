@@ -0,0 +1,45 @@
+package com.run.runners.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Named lease held by one application node until {@code expiresAt}. The holder renews it on every heartbeat;
+ * another node can only take it over once it has expired (see {@code ClusterLeaseService}).
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease implements Persistable<String> {
+    
+    @Id
+    @Column(length = 100)
+    private String name;
+    
+    @Column(nullable = false, length = 200)
+    private String owner;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime renewedAt;
+    
+    @Override
+    public String getId() {
+        return name;
+    }
+    
+    // 행은 항상 INSERT로만 만든다 (merge로 다른 노드가 막 만든 행을 덮어쓰지 않도록). 갱신은 조건부 UPDATE로 한다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
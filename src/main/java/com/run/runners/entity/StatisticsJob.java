@@ -0,0 +1,110 @@
+package com.run.runners.entity;
+
+import com.run.runners.dto.StatisticsJobStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Last known state of a statistics rebuild job, written by the node running it so that any node can answer
+ * status requests. {@code updatedAt} is refreshed on every heartbeat while the job is queued or running.
+ */
+@Entity
+@Table(name = "statistics_jobs", indexes = {
+    @Index(name = "idx_statistics_jobs_submitted_at", columnList = "submitted_at")
+})
+@Data
+@NoArgsConstructor
+public class StatisticsJob implements Persistable<String> {
+    
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @Column(nullable = false, length = 200)
+    private String nodeId;
+    
+    private String runnerName;
+    
+    @Enumerated(EnumType.STRING)
+    private RunningStatistics.StatisticsPeriod period;
+    
+    private LocalDate targetDate;
+    
+    private int shardIndex;
+    
+    private int shardCount;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatisticsJobStatus.State state;
+    
+    private int totalRunners;
+    
+    private int completedRunners;
+    
+    private int failedPartitions;
+    
+    @Column(nullable = false)
+    private LocalDateTime submittedAt;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime finishedAt;
+    
+    private long elapsedSeconds;
+    
+    private Long etaSeconds;
+    
+    @Column(length = 1000)
+    private String error;
+    
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // 처음 기록할 때는 merge 전의 SELECT 없이 바로 INSERT한다
+    @Transient
+    private boolean created;
+    
+    /**
+     * Row for the current state of a job; {@code created} marks the first write, which is an INSERT.
+     */
+    public static StatisticsJob of(StatisticsJobStatus status, LocalDateTime updatedAt, boolean created) {
+        StatisticsJob job = new StatisticsJob();
+        job.created = created;
+        job.id = status.jobId();
+        job.nodeId = status.nodeId();
+        job.runnerName = status.runnerName();
+        job.period = status.period();
+        job.targetDate = status.date();
+        job.shardIndex = status.shardIndex();
+        job.shardCount = status.shardCount();
+        job.state = status.state();
+        job.totalRunners = status.totalRunners();
+        job.completedRunners = status.completedRunners();
+        job.failedPartitions = status.failedPartitions();
+        job.submittedAt = status.submittedAt();
+        job.startedAt = status.startedAt();
+        job.finishedAt = status.finishedAt();
+        job.elapsedSeconds = status.elapsedSeconds();
+        job.etaSeconds = status.etaSeconds();
+        job.error = status.error() != null && status.error().length() > 1000 ? status.error().substring(0, 1000) : status.error();
+        job.updatedAt = updatedAt;
+        return job;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+    
+    public StatisticsJobStatus toStatus() {
+        return new StatisticsJobStatus(id, nodeId, runnerName, period, targetDate, shardIndex, shardCount, state,
+            totalRunners, completedRunners, failedPartitions, submittedAt, startedAt, finishedAt, elapsedSeconds,
+            etaSeconds, error);
+    }
+}
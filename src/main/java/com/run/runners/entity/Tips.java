@@ -8,7 +8,10 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "r_tips")
+@Table(name = "r_tips", indexes = {
+    @Index(name = "idx_tips_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_tips_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,5 +20,5 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
     long countByPostId(Long postId);
     
-    void deleteByPost(Post post);
+    long deleteByPost(Post post);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.run.runners.repository;
 
 import com.run.runners.entity.Competition;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -20,4 +22,11 @@ public interface CompetitionRepository extends JpaRepository<Competition, Long>
     
     @Query("SELECT c FROM Competition c ORDER BY c.createdAt DESC")
     List<Competition> findAllOrderByCreatedAtDesc();
+    
+    // 키셋 페이지네이션: (createdAt, id) 기준 내림차순
+    @Query("SELECT c FROM Competition c ORDER BY c.createdAt DESC, c.id DESC")
+    List<Competition> findPage(Pageable pageable);
+    
+    @Query("SELECT c FROM Competition c WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Competition> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
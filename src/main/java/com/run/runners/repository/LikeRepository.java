@@ -3,8 +3,12 @@ package com.run.runners.repository;
 import com.run.runners.entity.Like;
 import com.run.runners.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -14,9 +18,21 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     
     boolean existsByPostAndUserIdentifier(Post post, String userIdentifier);
     
+    boolean existsByPostIdAndUserIdentifier(Long postId, String userIdentifier);
+    
     void deleteByPostAndUserIdentifier(Post post, String userIdentifier);
     
     long countByPost(Post post);
     
     long countByPostId(Long postId);
-}
\ No newline at end of file
+    
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.id = :postId AND l.userIdentifier = :userIdentifier")
+    int deleteByPostIdAndUserIdentifier(@Param("postId") Long postId, @Param("userIdentifier") String userIdentifier);
+    
+    // 이미 좋아요가 있으면 아무것도 하지 않는 INSERT (동시 요청은 유니크 키가 막는다)
+    @Modifying
+    @Query(value = "INSERT INTO r_likes (post_id, user_identifier, created_at) SELECT :postId, :userIdentifier, :createdAt FROM DUAL " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM r_likes WHERE post_id = :postId AND user_identifier = :userIdentifier)", nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Long postId, @Param("userIdentifier") String userIdentifier, @Param("createdAt") LocalDateTime createdAt);
+}
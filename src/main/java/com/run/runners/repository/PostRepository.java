@@ -1,13 +1,17 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.ContentVersion;
 import com.run.runners.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -16,12 +20,52 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     
     List<Post> findByAuthorContainingIgnoreCaseOrderByCreatedAtDesc(String author);
     
-    List<Post> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(String title, String content);
-    
     @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC")
     List<Post> findAllOrderByCreatedAtDesc();
     
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
-}
\ No newline at end of file
+    
+    // 목록/상세에 보이는 카운터가 바뀌면 updatedAt도 올려 조건부 GET 버전이 바뀌게 한다
+    default int adjustLikeCount(Long id, int delta) {
+        return adjustLikeCount(id, delta, LocalDateTime.now());
+    }
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta, p.updatedAt = :now WHERE p.id = :id")
+    int adjustLikeCount(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :id")
+    Integer findLikeCountById(@Param("id") Long id);
+    
+    default void adjustCommentCount(Long id, int delta) {
+        adjustCommentCount(id, delta, LocalDateTime.now());
+    }
+    
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta, p.updatedAt = :now WHERE p.id = :id")
+    void adjustCommentCount(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+    
+    // 키셋 페이지네이션: (createdAt, id) 기준 내림차순
+    @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPage(Pageable pageable);
+    
+    @Query("SELECT p FROM Post p WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    // 조건부 GET 버전: 행 수 + 마지막 수정 시각 (updated_at 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(p), MAX(p.updatedAt)) FROM Post p")
+    ContentVersion findBoardVersion();
+    
+    @Query("SELECT p.updatedAt FROM Post p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    // 검색 색인 갱신용: since 이후 수정된 행을 (updatedAt, id) 순으로 나눠 읽는다 (updated_at 인덱스)
+    @Query("SELECT p FROM Post p WHERE p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :id) ORDER BY p.updatedAt, p.id")
+    List<Post> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("id") Long id, Pageable pageable);
+    
+    // 검색 색인에서 지워진 글을 찾을 때 id만 순서대로 나눠 읽는다
+    @Query("SELECT p.id FROM Post p WHERE p.id > :id ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+}
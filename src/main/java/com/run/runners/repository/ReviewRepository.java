@@ -1,12 +1,16 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.ContentVersion;
 import com.run.runners.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -17,10 +21,29 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     List<Review> findByAuthorContainingIgnoreCaseOrderByCreatedAtDesc(String author);
     
-    @Query("SELECT r FROM Review r WHERE LOWER(r.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(r.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY r.createdAt DESC")
-    List<Review> findByTitleOrContentContaining(@Param("keyword") String keyword);
-    
     List<Review> findAllByOrderByViewCountDesc();
     
     List<Review> findAllByOrderByLikeCountDesc();
-}
\ No newline at end of file
+    
+    // 키셋 페이지네이션: (createdAt, id) 기준 내림차순
+    @Query("SELECT r FROM Review r ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPage(Pageable pageable);
+    
+    @Query("SELECT r FROM Review r WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    // 조건부 GET 버전: 행 수 + 마지막 수정 시각 (updated_at 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(r), MAX(r.updatedAt)) FROM Review r")
+    ContentVersion findBoardVersion();
+    
+    @Query("SELECT r.updatedAt FROM Review r WHERE r.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    // 검색 색인 갱신용: since 이후 수정된 행을 (updatedAt, id) 순으로 나눠 읽는다 (updated_at 인덱스)
+    @Query("SELECT r FROM Review r WHERE r.updatedAt > :since OR (r.updatedAt = :since AND r.id > :id) ORDER BY r.updatedAt, r.id")
+    List<Review> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("id") Long id, Pageable pageable);
+    
+    // 검색 색인에서 지워진 글을 찾을 때 id만 순서대로 나눠 읽는다
+    @Query("SELECT r.id FROM Review r WHERE r.id > :id ORDER BY r.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+}
@@ -1,13 +1,17 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.ContentVersion;
 import com.run.runners.entity.RunningMate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RunningMateRepository extends JpaRepository<RunningMate, Long> {
@@ -21,13 +25,41 @@ public interface RunningMateRepository extends JpaRepository<RunningMate, Long>
     @Query("SELECT r FROM RunningMate r WHERE r.author LIKE %:keyword% ORDER BY r.createdAt DESC")
     List<RunningMate> findByAuthorContainingIgnoreCaseOrderByCreatedAtDesc(@Param("keyword") String keyword);
     
-    @Query("SELECT r FROM RunningMate r WHERE r.title LIKE %:keyword% OR r.content LIKE %:keyword% ORDER BY r.createdAt DESC")
-    List<RunningMate> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(@Param("keyword") String keyword1, @Param("keyword") String keyword2);
-    
     @Query("SELECT r FROM RunningMate r WHERE r.location LIKE %:location% ORDER BY r.createdAt DESC")
     List<RunningMate> findByLocationContainingIgnoreCaseOrderByCreatedAtDesc(@Param("location") String location);
     
     @Modifying
     @Query("UPDATE RunningMate r SET r.viewCount = r.viewCount + 1 WHERE r.id = :id")
     void incrementViewCount(@Param("id") Long id);
-}
\ No newline at end of file
+    
+    // 참여 신청 수가 바뀌면 updatedAt도 올려 조건부 GET 버전이 바뀌게 한다
+    default void adjustCommentCount(Long id, int delta) {
+        adjustCommentCount(id, delta, LocalDateTime.now());
+    }
+    
+    @Modifying
+    @Query("UPDATE RunningMate r SET r.commentCount = r.commentCount + :delta, r.updatedAt = :now WHERE r.id = :id")
+    void adjustCommentCount(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+    
+    // 키셋 페이지네이션: (createdAt, id) 기준 내림차순
+    @Query("SELECT r FROM RunningMate r ORDER BY r.createdAt DESC, r.id DESC")
+    List<RunningMate> findPage(Pageable pageable);
+    
+    @Query("SELECT r FROM RunningMate r WHERE r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<RunningMate> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    // 조건부 GET 버전: 행 수 + 마지막 수정 시각 (updated_at 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(r), MAX(r.updatedAt)) FROM RunningMate r")
+    ContentVersion findBoardVersion();
+    
+    @Query("SELECT r.updatedAt FROM RunningMate r WHERE r.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    // 검색 색인 갱신용: since 이후 수정된 행을 (updatedAt, id) 순으로 나눠 읽는다 (updated_at 인덱스)
+    @Query("SELECT r FROM RunningMate r WHERE r.updatedAt > :since OR (r.updatedAt = :since AND r.id > :id) ORDER BY r.updatedAt, r.id")
+    List<RunningMate> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("id") Long id, Pageable pageable);
+    
+    // 검색 색인에서 지워진 글을 찾을 때 id만 순서대로 나눠 읽는다
+    @Query("SELECT r.id FROM RunningMate r WHERE r.id > :id ORDER BY r.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+}
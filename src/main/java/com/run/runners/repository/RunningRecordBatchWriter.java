@@ -0,0 +1,41 @@
+package com.run.runners.repository;
+
+import com.run.runners.entity.RunningRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts {@link RunningRecord} rows in JDBC batches for bulk imports. The entity lifecycle callbacks
+ * do not run, so callers must fill in {@code caloriesBurned} themselves.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RunningRecordBatchWriter {
+    
+    private static final String INSERT_SQL = "INSERT INTO running_records (runner_name, run_time_minutes, distance_km, cadence, " +
+        "max_heart_rate, max_speed_kmh, record_date, calories_burned, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insert(List<RunningRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(records.size());
+        for (RunningRecord record : records) {
+            rows.add(new Object[] {
+                record.getRunnerName(), record.getRunTimeMinutes(), record.getDistanceKm(), record.getCadence(),
+                record.getMaxHeartRate(), record.getMaxSpeedKmh(), Timestamp.valueOf(record.getRecordDate()),
+                record.getCaloriesBurned(), now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
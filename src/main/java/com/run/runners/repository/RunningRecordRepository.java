@@ -1,13 +1,22 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.RunningRecordAggregate;
 import com.run.runners.entity.RunningRecord;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RunningRecordRepository extends JpaRepository<RunningRecord, Long> {
@@ -17,6 +26,11 @@ public interface RunningRecordRepository extends JpaRepository<RunningRecord, Lo
     @Query("SELECT r FROM RunningRecord r ORDER BY r.recordDate DESC")
     List<RunningRecord> findAllOrderByRecordDateDesc();
     
+    // 수정/삭제 전 값을 읽을 때 행을 잠가 같은 기록의 동시 수정이 통계에서 두 번 빠지지 않게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RunningRecord r WHERE r.id = :id")
+    Optional<RunningRecord> findByIdForUpdate(@Param("id") Long id);
+    
     @Query("SELECT r FROM RunningRecord r WHERE r.recordDate BETWEEN :startDate AND :endDate ORDER BY r.recordDate DESC")
     List<RunningRecord> findByRecordDateBetweenOrderByRecordDateDesc(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
@@ -35,12 +49,34 @@ public interface RunningRecordRepository extends JpaRepository<RunningRecord, Lo
     @Query("SELECT DISTINCT r.runnerName FROM RunningRecord r ORDER BY r.runnerName")
     List<String> findDistinctRunnerNames();
     
-    @Query("SELECT r FROM RunningRecord r WHERE r.runnerName = :runnerName AND YEAR(r.recordDate) = :year AND WEEK(r.recordDate) = :week ORDER BY r.recordDate DESC")
-    List<RunningRecord> findByRunnerNameAndWeek(@Param("runnerName") String runnerName, @Param("year") Integer year, @Param("week") Integer week);
+    @Query("SELECT r FROM RunningRecord r WHERE r.runnerName = :runnerName AND r.recordDate >= :start AND r.recordDate < :end ORDER BY r.recordDate DESC")
+    List<RunningRecord> findByRunnerNameAndRecordDateRange(@Param("runnerName") String runnerName, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @Query("SELECT new com.run.runners.dto.RunningRecordAggregate(r.runnerName, COUNT(r), SUM(r.distanceKm), SUM(r.runTimeMinutes), " +
+           "SUM(r.caloriesBurned), AVG(r.maxHeartRate), AVG(r.cadence), MAX(r.maxSpeedKmh), MAX(r.distanceKm), MAX(r.runTimeMinutes), " +
+           "MIN(t.best1kSeconds), MIN(t.best5kSeconds), MIN(t.best10kSeconds), MIN(t.bestHalfMarathonSeconds), MIN(t.bestMarathonSeconds)) " +
+           "FROM RunningRecord r LEFT JOIN RunningTrack t ON t.runningRecord = r WHERE r.runnerName IN :runnerNames AND r.recordDate >= :start AND r.recordDate < :end GROUP BY r.runnerName")
+    List<RunningRecordAggregate> aggregateByRunnerNamesAndRecordDateRange(@Param("runnerNames") Collection<String> runnerNames, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // 키셋 페이지네이션: (recordDate, id) 기준 내림차순
+    @Query("SELECT r FROM RunningRecord r ORDER BY r.recordDate DESC, r.id DESC")
+    List<RunningRecord> findPage(Pageable pageable);
+    
+    @Query("SELECT r FROM RunningRecord r WHERE r.recordDate < :recordDate OR (r.recordDate = :recordDate AND r.id < :id) ORDER BY r.recordDate DESC, r.id DESC")
+    List<RunningRecord> findPageAfter(@Param("recordDate") LocalDateTime recordDate, @Param("id") Long id, Pageable pageable);
     
-    @Query("SELECT r FROM RunningRecord r WHERE r.runnerName = :runnerName AND YEAR(r.recordDate) = :year AND MONTH(r.recordDate) = :month ORDER BY r.recordDate DESC")
-    List<RunningRecord> findByRunnerNameAndMonth(@Param("runnerName") String runnerName, @Param("year") Integer year, @Param("month") Integer month);
+    // 내보내기용 스트리밍 조회: 읽기 전용 트랜잭션 안에서 fetch size 단위로 커서를 읽는다
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r FROM RunningRecord r ORDER BY r.id")
+    Stream<RunningRecord> streamAll();
     
-    @Query("SELECT r FROM RunningRecord r WHERE r.runnerName = :runnerName AND YEAR(r.recordDate) = :year ORDER BY r.recordDate DESC")
-    List<RunningRecord> findByRunnerNameAndYear(@Param("runnerName") String runnerName, @Param("year") Integer year);
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r FROM RunningRecord r WHERE r.runnerName = :runnerName ORDER BY r.recordDate, r.id")
+    Stream<RunningRecord> streamByRunnerName(@Param("runnerName") String runnerName);
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.run.runners.repository;
+
+import com.run.runners.entity.RunningStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes {@link RunningStatistics} rows in JDBC batches.
+ * Rows are upserted on the unique bucket key (runner, period, year, month, week) with
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL and {@code MERGE} on H2, so two writers that
+ * both miss a bucket cannot insert it twice. Hibernate cannot batch inserts of IDENTITY entities,
+ * so the whole upsert goes through {@link JdbcTemplate} instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RunningStatisticsBatchWriter {
+    
+    private static final String KEY_COLUMNS = "runner_name, period, period_year, period_month, period_week";
+    
+    private static final String VALUE_COLUMNS = "total_runs, total_distance_km, total_time_minutes, total_calories_burned, " +
+        "average_speed_kmh, average_pace_minutes_per_km, average_heart_rate, average_cadence, max_speed_kmh, max_distance_km, " +
+        "max_time_minutes, best_1k_seconds, best_5k_seconds, best_10k_seconds, best_half_marathon_seconds, best_marathon_seconds, " +
+        "last_calculated_at, updated_at";
+    
+    private static final String[] UPDATED_COLUMNS = VALUE_COLUMNS.split(", ");
+    
+    private static final String ALL_COLUMNS = KEY_COLUMNS + ", " + VALUE_COLUMNS + ", created_at";
+    
+    private static final String PLACEHOLDERS = "?, ".repeat(ALL_COLUMNS.split(", ").length - 1) + "?";
+    
+    private static final String H2_MERGE_SQL = "MERGE INTO running_statistics t USING (VALUES (" + PLACEHOLDERS + ")) " +
+        "s(" + ALL_COLUMNS + ") ON t.runner_name = s.runner_name AND t.period = s.period AND t.period_year = s.period_year " +
+        "AND t.period_month = s.period_month AND t.period_week = s.period_week ";
+    
+    private static final String H2_INSERT_CLAUSE = "WHEN NOT MATCHED THEN INSERT (" + ALL_COLUMNS + ") VALUES (s." + ALL_COLUMNS.replace(", ", ", s.") + ")";
+    
+    private static final String MYSQL_INSERT_SQL = "INSERT INTO running_statistics (" + ALL_COLUMNS + ") VALUES (" + PLACEHOLDERS + ") ";
+    
+    // VALUES(col) 참조는 MySQL 8.0.20부터 폐기 예정이라 행 별칭(8.0.19+)으로 새 값을 읽는다
+    private static final String MYSQL_UPSERT_SQL = MYSQL_INSERT_SQL + "AS new ON DUPLICATE KEY UPDATE " + assignments("%1$s = new.%1$s");
+    
+    private static final String H2_UPSERT_SQL = H2_MERGE_SQL + "WHEN MATCHED THEN UPDATE SET " + assignments("%1$s = s.%1$s") + " " + H2_INSERT_CLAUSE;
+    
+    // 이미 있으면 아무것도 바꾸지 않는다 (MySQL은 이때 기존 행에 배타 잠금이 걸린다)
+    private static final String MYSQL_INSERT_IF_ABSENT_SQL = MYSQL_INSERT_SQL + "ON DUPLICATE KEY UPDATE id = id";
+    
+    private static final String H2_INSERT_IF_ABSENT_SQL = H2_MERGE_SQL + H2_INSERT_CLAUSE;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private volatile Boolean h2;
+    
+    public void upsert(List<RunningStatistics> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(statistics.size());
+        for (RunningStatistics stats : statistics) {
+            rows.add(valuesOf(stats, now));
+        }
+        jdbcTemplate.batchUpdate(isH2() ? H2_UPSERT_SQL : MYSQL_UPSERT_SQL, rows);
+    }
+    
+    /**
+     * Insert the bucket of {@code bucket} with its current (normally empty) totals unless a row for the bucket
+     * already exists, so that it can be locked with {@code SELECT ... FOR UPDATE} afterwards.
+     */
+    public void insertIfAbsent(RunningStatistics bucket) {
+        try {
+            jdbcTemplate.update(isH2() ? H2_INSERT_IF_ABSENT_SQL : MYSQL_INSERT_IF_ABSENT_SQL,
+                valuesOf(bucket, Timestamp.valueOf(LocalDateTime.now())));
+        } catch (DuplicateKeyException e) {
+            // H2의 MERGE는 동시에 실행되면 둘 다 INSERT를 시도할 수 있다 - 다른 트랜잭션이 먼저 만들었으면 그대로 쓴다
+        }
+    }
+    
+    private static Object[] valuesOf(RunningStatistics stats, Timestamp now) {
+        return new Object[] {
+            stats.getRunnerName(), stats.getPeriod().name(), stats.getPeriodYear(), stats.getPeriodMonth(), stats.getPeriodWeek(),
+            stats.getTotalRuns(), stats.getTotalDistanceKm(), stats.getTotalTimeMinutes(), stats.getTotalCaloriesBurned(),
+            stats.getAverageSpeedKmh(), stats.getAveragePaceMinutesPerKm(), stats.getAverageHeartRate(), stats.getAverageCadence(),
+            stats.getMaxSpeedKmh(), stats.getMaxDistanceKm(), stats.getMaxTimeMinutes(),
+            stats.getBest1kSeconds(), stats.getBest5kSeconds(), stats.getBest10kSeconds(),
+            stats.getBestHalfMarathonSeconds(), stats.getBestMarathonSeconds(),
+            now, now, now
+        };
+    }
+    
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            // dev 프로필(H2)은 ON DUPLICATE KEY UPDATE를 지원하지 않으므로 표준 MERGE를 쓴다
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "H2".equals(product);
+            h2 = result;
+        }
+        return result;
+    }
+    
+    private static String assignments(String format) {
+        List<String> assignments = new ArrayList<>(UPDATED_COLUMNS.length);
+        for (String column : UPDATED_COLUMNS) {
+            assignments.add(String.format(format, column));
+        }
+        return String.join(", ", assignments);
+    }
+}
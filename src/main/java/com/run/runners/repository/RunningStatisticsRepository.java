@@ -1,14 +1,23 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.ContentVersion;
 import com.run.runners.entity.RunningStatistics;
 import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RunningStatisticsRepository extends JpaRepository<RunningStatistics, Long> {
@@ -17,21 +26,50 @@ public interface RunningStatisticsRepository extends JpaRepository<RunningStatis
     
     List<RunningStatistics> findByRunnerNameAndPeriodOrderByPeriodYearDescPeriodWeekDescPeriodMonthDesc(String runnerName, StatisticsPeriod period);
     
-    Optional<RunningStatistics> findByRunnerNameAndPeriodAndPeriodYear(String runnerName, StatisticsPeriod period, Integer periodYear);
+    // 증분 갱신용: 버킷 행을 잠근 채 읽어 같은 러너의 동시 저장이 서로의 합계를 덮어쓰지 않게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM RunningStatistics rs WHERE rs.runnerName = :runnerName AND rs.period = :period " +
+           "AND rs.periodYear = :periodYear AND rs.periodMonth = :periodMonth AND rs.periodWeek = :periodWeek")
+    Optional<RunningStatistics> findBucketForUpdate(@Param("runnerName") String runnerName, @Param("period") StatisticsPeriod period,
+                                                    @Param("periodYear") Integer periodYear, @Param("periodMonth") Integer periodMonth,
+                                                    @Param("periodWeek") Integer periodWeek);
     
-    Optional<RunningStatistics> findByRunnerNameAndPeriodAndPeriodYearAndPeriodMonth(String runnerName, StatisticsPeriod period, Integer periodYear, Integer periodMonth);
+    // 배치 갱신용 조회: 엔티티를 읽기 전용으로 불러와 더티 체킹에 의한 중복 UPDATE를 막는다
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<RunningStatistics> findByPeriodAndPeriodYearAndPeriodWeekAndRunnerNameIn(StatisticsPeriod period, Integer periodYear, Integer periodWeek, Collection<String> runnerNames);
     
-    Optional<RunningStatistics> findByRunnerNameAndPeriodAndPeriodYearAndPeriodWeek(String runnerName, StatisticsPeriod period, Integer periodYear, Integer periodWeek);
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<RunningStatistics> findByPeriodAndPeriodYearAndPeriodMonthAndRunnerNameIn(StatisticsPeriod period, Integer periodYear, Integer periodMonth, Collection<String> runnerNames);
+    
+    // 연간 버킷은 (period, periodYear)만으로 정해진다 (주/월은 0)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<RunningStatistics> findByPeriodAndPeriodYearAndRunnerNameIn(StatisticsPeriod period, Integer periodYear, Collection<String> runnerNames);
     
     @Query("SELECT DISTINCT rs.runnerName FROM RunningStatistics rs ORDER BY rs.runnerName")
     List<String> findAllRunnerNames();
     
-    @Query("SELECT rs FROM RunningStatistics rs WHERE rs.period = :period AND rs.periodYear = :year ORDER BY rs.totalDistanceKm DESC")
-    List<RunningStatistics> findTopRunnersByPeriodAndYear(@Param("period") StatisticsPeriod period, @Param("year") Integer year);
+    // 조건부 GET 버전: 전체 통계 행 수 + 마지막 계산 시각 (러너가 추가되면 행 수가 바뀐다, last_calculated_at 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(rs), MAX(rs.lastCalculatedAt)) FROM RunningStatistics rs")
+    ContentVersion findVersion();
+    
+    // 조건부 GET 버전: 러너의 통계 행 수 + 마지막 계산 시각 (runner_name 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(rs), MAX(rs.lastCalculatedAt)) FROM RunningStatistics rs WHERE rs.runnerName = :runnerName")
+    ContentVersion findVersionByRunnerName(@Param("runnerName") String runnerName);
+    
+    // 리더보드 재구성용: id 순으로 나눠 읽는다
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<RunningStatistics> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
     
-    @Query("SELECT rs FROM RunningStatistics rs WHERE rs.period = :period AND rs.periodYear = :year AND rs.periodMonth = :month ORDER BY rs.totalDistanceKm DESC")
-    List<RunningStatistics> findTopRunnersByPeriodAndYearAndMonth(@Param("period") StatisticsPeriod period, @Param("year") Integer year, @Param("month") Integer month);
+    // 리더보드 갱신용: since 이후 계산된 행을 (lastCalculatedAt, id) 순으로 나눠 읽는다 (last_calculated_at 인덱스)
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("SELECT rs FROM RunningStatistics rs WHERE rs.lastCalculatedAt > :since " +
+           "OR (rs.lastCalculatedAt = :since AND rs.id > :id) ORDER BY rs.lastCalculatedAt, rs.id")
+    List<RunningStatistics> findCalculatedAfter(@Param("since") LocalDateTime since, @Param("id") Long id, Pageable pageable);
     
-    @Query("SELECT rs FROM RunningStatistics rs WHERE rs.period = :period AND rs.periodYear = :year AND rs.periodWeek = :week ORDER BY rs.totalDistanceKm DESC")
-    List<RunningStatistics> findTopRunnersByPeriodAndYearAndWeek(@Param("period") StatisticsPeriod period, @Param("year") Integer year, @Param("week") Integer week);
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT rs FROM RunningStatistics rs ORDER BY rs.id")
+    Stream<RunningStatistics> streamAll();
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.run.runners.repository;
+
+import com.run.runners.entity.RunningTrack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RunningTrackRepository extends JpaRepository<RunningTrack, Long> {
+    
+    @Query("SELECT t FROM RunningTrack t WHERE t.runningRecord.id = :runningRecordId")
+    Optional<RunningTrack> findByRunningRecordId(@Param("runningRecordId") Long runningRecordId);
+    
+    @Modifying
+    @Query("DELETE FROM RunningTrack t WHERE t.runningRecord.id = :runningRecordId")
+    int deleteByRunningRecordId(@Param("runningRecordId") Long runningRecordId);
+}
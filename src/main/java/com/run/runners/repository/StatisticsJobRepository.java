@@ -0,0 +1,30 @@
+package com.run.runners.repository;
+
+import com.run.runners.dto.StatisticsJobStatus;
+import com.run.runners.entity.StatisticsJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatisticsJobRepository extends JpaRepository<StatisticsJob, String> {
+    
+    List<StatisticsJob> findTop20ByOrderBySubmittedAtDesc();
+    
+    // 하트비트가 끊긴 노드의 작업은 실행 중으로 치지 않는다
+    Optional<StatisticsJob> findFirstByStateInAndUpdatedAtAfterOrderBySubmittedAtDesc(
+        Collection<StatisticsJobStatus.State> states, LocalDateTime updatedAfter);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StatisticsJob j WHERE j.submittedAt < :before")
+    int deleteSubmittedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,12 +1,16 @@
 package com.run.runners.repository;
 
+import com.run.runners.dto.ContentVersion;
 import com.run.runners.entity.Tips;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TipsRepository extends JpaRepository<Tips, Long> {
@@ -20,13 +24,31 @@ public interface TipsRepository extends JpaRepository<Tips, Long> {
     // 작성자로 검색
     List<Tips> findByAuthorContainingIgnoreCaseOrderByCreatedAtDesc(String author);
     
-    // 제목 또는 내용으로 검색
-    @Query("SELECT t FROM Tips t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(t.content) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY t.createdAt DESC")
-    List<Tips> findByTitleOrContentContaining(@Param("keyword") String keyword);
-    
     // 인기순 정렬 (조회수 높은 순)
     List<Tips> findAllByOrderByViewCountDesc();
     
     // 좋아요 많은 순 정렬
     List<Tips> findAllByOrderByLikeCountDesc();
-}
\ No newline at end of file
+    
+    // 키셋 페이지네이션: (createdAt, id) 기준 내림차순
+    @Query("SELECT t FROM Tips t ORDER BY t.createdAt DESC, t.id DESC")
+    List<Tips> findPage(Pageable pageable);
+    
+    @Query("SELECT t FROM Tips t WHERE t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id) ORDER BY t.createdAt DESC, t.id DESC")
+    List<Tips> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+    
+    // 조건부 GET 버전: 행 수 + 마지막 수정 시각 (updated_at 인덱스)
+    @Query("SELECT new com.run.runners.dto.ContentVersion(COUNT(t), MAX(t.updatedAt)) FROM Tips t")
+    ContentVersion findBoardVersion();
+    
+    @Query("SELECT t.updatedAt FROM Tips t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    // 검색 색인 갱신용: since 이후 수정된 행을 (updatedAt, id) 순으로 나눠 읽는다 (updated_at 인덱스)
+    @Query("SELECT t FROM Tips t WHERE t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :id) ORDER BY t.updatedAt, t.id")
+    List<Tips> findUpdatedAfter(@Param("since") LocalDateTime since, @Param("id") Long id, Pageable pageable);
+    
+    // 검색 색인에서 지워진 글을 찾을 때 id만 순서대로 나눠 읽는다
+    @Query("SELECT t.id FROM Tips t WHERE t.id > :id ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+}
@@ -0,0 +1,694 @@
+package com.run.runners.service;
+
+import com.run.runners.config.ReplicaRoutingDataSource;
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
+import com.run.runners.dto.SearchHit;
+import com.run.runners.dto.SearchResult;
+import com.run.runners.entity.Post;
+import com.run.runners.entity.Review;
+import com.run.runners.entity.RunningMate;
+import com.run.runners.entity.Tips;
+import com.run.runners.repository.PostRepository;
+import com.run.runners.repository.ReviewRepository;
+import com.run.runners.repository.RunningMateRepository;
+import com.run.runners.repository.TipsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory inverted index over the four community boards.
+ * <p>
+ * Text is split into words and every word is indexed by its characters and its character bigrams, which works for
+ * Korean without a morphological analyzer. A query word is looked up by its bigrams, or by the character itself
+ * when it has only one, so like the {@code LIKE '%…%'} search it replaced a query matches inside longer words
+ * ("길" finds "올레길"). A document matches when all query grams are present; hits are ranked by gram weight
+ * (title grams count three times) and then by recency.
+ * <p>
+ * Documents are numbered with int ordinals and each gram keeps a sorted {@code int[]} of
+ * {@code ordinal << 8 | weight}, so a posting costs four bytes. The board and recency of every ordinal sit in
+ * primitive arrays, so matching and ranking a candidate does not touch its document. Updates append a new ordinal
+ * and leave a tombstone that is dropped when more than half of the ordinals are dead.
+ * The index is rebuilt from the database at startup and kept current by the board services. Changes made
+ * through other instances sharing the database are picked up by {@link #refresh()}: posts updated since the
+ * previous refresh are reindexed, and a board whose row count no longer matches the index is checked for deleted
+ * posts, so every node converges within {@code runners.cluster.refresh-ms}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSearchIndex {
+    
+    public enum Board {
+        POST("자유게시판", "/community/board"),
+        TIPS("팁&노하우", "/community/tips"),
+        REVIEW("달리기 후기", "/community/reviews"),
+        RUNNING_MATE("러닝메이트", "/community/running-mates");
+        
+        private final String displayName;
+        private final String path;
+        
+        Board(String displayName, String path) {
+            this.displayName = displayName;
+            this.path = path;
+        }
+        
+        public String getDisplayName() {
+            return displayName;
+        }
+        
+        public String getPath() {
+            return path;
+        }
+    }
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final int ID_PAGE_SIZE = 10_000;
+    
+    private static final int WEIGHT_BITS = 8;
+    private static final int MAX_WEIGHT = (1 << WEIGHT_BITS) - 1;
+    private static final int MAX_ORDINALS = 1 << (Integer.SIZE - 1 - WEIGHT_BITS);
+    private static final int MIN_DELETED_FOR_COMPACTION = 10_000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte DELETED = -1;
+    
+    private record DocKey(Board board, Long id) {
+    }
+    
+    private record IndexedDocument(DocKey key, String title, String author, LocalDateTime createdAt) {
+    }
+    
+    private record Ranking(List<SearchHit> hits, int totalHits) {
+    }
+    
+    /**
+     * Postings of one gram: {@code ordinal << WEIGHT_BITS | weight}, sorted by ordinal.
+     */
+    private static final class Postings {
+        private int[] entries = new int[2];
+        private int size;
+        
+        private void append(int ordinal, int weight) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = ordinal << WEIGHT_BITS | Math.min(weight, MAX_WEIGHT);
+        }
+        
+        /**
+         * Renumber the entries with {@code ordinals} (-1 drops the entry) and return the new size.
+         */
+        private int renumber(int[] ordinals) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = ordinals[entries[i] >>> WEIGHT_BITS];
+                if (ordinal >= 0) {
+                    entries[kept++] = ordinal << WEIGHT_BITS | entries[i] & MAX_WEIGHT;
+                }
+            }
+            size = kept;
+            if (kept < entries.length / 4) {
+                entries = Arrays.copyOf(entries, Math.max(2, kept));
+            }
+            return kept;
+        }
+        
+        /**
+         * Index of the first entry at or after {@code from} whose ordinal is at least {@code ordinal}
+         * (galloping, so skipping ahead in a long list costs a logarithm of the distance).
+         */
+        private int seek(int from, int ordinal) {
+            int target = ordinal << WEIGHT_BITS;
+            int bound = 1;
+            while (from + bound < size && entries[from + bound] < target) {
+                bound <<= 1;
+            }
+            int low = from + (bound >> 1);
+            int high = Math.min(from + bound, size);
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (entries[mid] < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+    
+    private final PostRepository postRepository;
+    private final TipsRepository tipsRepository;
+    private final ReviewRepository reviewRepository;
+    private final RunningMateRepository runningMateRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<DocKey, Integer> ordinals = new HashMap<>();
+    // 순번 -> 문서, 게시판(삭제되었거나 수정 전 문서는 DELETED), 작성 시각(마이크로초, 없으면 Long.MIN_VALUE)
+    private IndexedDocument[] documents = new IndexedDocument[INITIAL_CAPACITY];
+    private byte[] boards = new byte[INITIAL_CAPACITY];
+    private long[] recency = new long[INITIAL_CAPACITY];
+    private int nextOrdinal;
+    private int deleted;
+    private final int[] liveDocuments = new int[Board.values().length];
+    
+    // 이 시각 이후 수정된 글을 다음 refresh에서 다시 색인한다 (재구성 전에는 null)
+    private volatile LocalDateTime refreshedSince;
+    
+    // 늦게 커밋된 트랜잭션과 노드 간 시계 차이를 덮도록 지난 갱신 시작보다 이만큼 앞부터 다시 읽는다
+    @Value("${runners.cluster.refresh-overlap-ms:60000}")
+    private long refreshOverlapMillis;
+    
+    @Value("${runners.search.max-content-chars:2000}")
+    private int maxContentChars;
+    
+    @Value("${runners.search.max-results:200}")
+    private int maxResults;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime rebuiltFrom = LocalDateTime.now();
+        write(() -> {
+            postings.clear();
+            ordinals.clear();
+            documents = new IndexedDocument[INITIAL_CAPACITY];
+            boards = new byte[INITIAL_CAPACITY];
+            recency = new long[INITIAL_CAPACITY];
+            nextOrdinal = 0;
+            deleted = 0;
+            Arrays.fill(liveDocuments, 0);
+        });
+        
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            this.<Post>rebuild(cursor -> page(cursor, postRepository::findPage, postRepository::findPageAfter, Post::getCreatedAt, Post::getId), this::indexNow);
+            this.<Tips>rebuild(cursor -> page(cursor, tipsRepository::findPage, tipsRepository::findPageAfter, Tips::getCreatedAt, Tips::getId), this::indexNow);
+            this.<Review>rebuild(cursor -> page(cursor, reviewRepository::findPage, reviewRepository::findPageAfter, Review::getCreatedAt, Review::getId), this::indexNow);
+            this.<RunningMate>rebuild(cursor -> page(cursor, runningMateRepository::findPage, runningMateRepository::findPageAfter, RunningMate::getCreatedAt, RunningMate::getId), this::indexNow);
+        }
+        refreshedSince = rebuiltFrom.minus(Duration.ofMillis(refreshOverlapMillis));
+        
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            long entries = 0;
+            for (Postings list : postings.values()) {
+                entries += list.size;
+            }
+            log.info("Built community search index: {} documents, {} grams, {} postings in {} ms",
+                ordinals.size(), postings.size(), entries, System.currentTimeMillis() - startedAt);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Catch up with posts written through other nodes: reindex everything updated since the previous refresh and
+     * drop posts deleted elsewhere. Reads go to the primary so a lagging replica cannot bring back an old version.
+     */
+    @Scheduled(fixedDelayString = "${runners.cluster.refresh-ms:30000}", initialDelayString = "${runners.cluster.refresh-ms:30000}")
+    public void refresh() {
+        LocalDateTime since = refreshedSince;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        
+        int reindexed;
+        int removed;
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            reindexed = this.<Post>catchUp(since, postRepository::findUpdatedAfter, Post::getUpdatedAt, Post::getId, this::indexNow)
+                + this.<Tips>catchUp(since, tipsRepository::findUpdatedAfter, Tips::getUpdatedAt, Tips::getId, this::indexNow)
+                + this.<Review>catchUp(since, reviewRepository::findUpdatedAfter, Review::getUpdatedAt, Review::getId, this::indexNow)
+                + this.<RunningMate>catchUp(since, runningMateRepository::findUpdatedAfter, RunningMate::getUpdatedAt, RunningMate::getId, this::indexNow);
+            removed = sweep(Board.POST, postRepository::findBoardVersion, postRepository::findIdsAfter)
+                + sweep(Board.TIPS, tipsRepository::findBoardVersion, tipsRepository::findIdsAfter)
+                + sweep(Board.REVIEW, reviewRepository::findBoardVersion, reviewRepository::findIdsAfter)
+                + sweep(Board.RUNNING_MATE, runningMateRepository::findBoardVersion, runningMateRepository::findIdsAfter);
+        } catch (DataAccessException e) {
+            // 기준 시각을 옮기지 않았으므로 다음 갱신에서 같은 구간부터 다시 읽는다
+            log.warn("Community search index refresh failed: {}", e.getMessage());
+            return;
+        }
+        refreshedSince = startedAt.minus(Duration.ofMillis(refreshOverlapMillis));
+        log.debug("Refreshed community search index: {} documents reindexed, {} removed in {} ms",
+            reindexed, removed, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+    
+    public void index(Post post) {
+        afterCommit(() -> indexNow(post));
+    }
+    
+    public void index(Tips tips) {
+        afterCommit(() -> indexNow(tips));
+    }
+    
+    public void index(Review review) {
+        afterCommit(() -> indexNow(review));
+    }
+    
+    public void index(RunningMate runningMate) {
+        afterCommit(() -> indexNow(runningMate));
+    }
+    
+    public void remove(Board board, Long id) {
+        afterCommit(() -> write(() -> delete(new DocKey(board, id))));
+    }
+    
+    /**
+     * Ranked, paginated search. {@code board} may be {@code null} to search all boards.
+     */
+    public SearchResult search(String keyword, Board board, int page, int size) {
+        // 요청한 페이지까지만 순위를 유지한다
+        int limit = (int) Math.min((long) page * size + size, Integer.MAX_VALUE);
+        Ranking ranking = rank(keyword, board, limit);
+        List<SearchHit> hits = ranking.hits();
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        return new SearchResult(new ArrayList<>(hits.subList(from, to)), ranking.totalHits(), page, size);
+    }
+    
+    /**
+     * Ids of the best matches on one board, best first, capped at {@code runners.search.max-results}.
+     */
+    public List<Long> searchIds(Board board, String keyword) {
+        List<Long> ids = new ArrayList<>();
+        for (SearchHit hit : search(keyword, board, 0, maxResults).hits()) {
+            ids.add(hit.id());
+        }
+        return ids;
+    }
+    
+    /**
+     * Reorder entities loaded with {@code findAllById} into the ranked order of {@code ids}.
+     */
+    public static <T> List<T> orderByIds(List<T> entities, Function<T, Long> idOf, List<Long> ids) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                ordered.add(entity);
+            }
+        }
+        return ordered;
+    }
+    
+    /**
+     * All matches are counted, but only the best {@code limit} are kept in a bounded heap.
+     */
+    private Ranking rank(String keyword, Board board, int limit) {
+        Map<String, Integer> queryGrams = queryGrams(keyword);
+        if (queryGrams.isEmpty()) {
+            return new Ranking(List.of(), 0);
+        }
+        
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            // 가장 짧은 포스팅 목록을 기준으로 나머지 목록을 건너뛰며 교집합을 구한다
+            Postings[] lists = new Postings[queryGrams.size()];
+            int n = 0;
+            for (String gram : queryGrams.keySet()) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return new Ranking(List.of(), 0);
+                }
+                lists[n++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            
+            Postings shortest = lists[0];
+            int[] cursors = new int[lists.length];
+            int capacity = Math.min(limit, shortest.size);
+            int[] heap = new int[capacity];
+            int[] heapScores = new int[capacity];
+            int heapSize = 0;
+            int totalHits = 0;
+            
+            candidates:
+            for (int i = 0; i < shortest.size; i++) {
+                int ordinal = shortest.entries[i] >>> WEIGHT_BITS;
+                byte documentBoard = boards[ordinal];
+                if (documentBoard == DELETED || board != null && documentBoard != board.ordinal()) {
+                    continue;
+                }
+                int score = shortest.entries[i] & MAX_WEIGHT;
+                for (int l = 1; l < lists.length; l++) {
+                    Postings list = lists[l];
+                    int at = list.seek(cursors[l], ordinal);
+                    cursors[l] = at;
+                    if (at == list.size || list.entries[at] >>> WEIGHT_BITS != ordinal) {
+                        continue candidates;
+                    }
+                    score += list.entries[at] & MAX_WEIGHT;
+                }
+                
+                totalHits++;
+                if (heapSize < capacity) {
+                    heap[heapSize] = ordinal;
+                    heapScores[heapSize] = score;
+                    siftUp(heap, heapScores, heapSize++);
+                } else if (capacity > 0 && compare(ordinal, score, heap[0], heapScores[0]) > 0) {
+                    heap[0] = ordinal;
+                    heapScores[0] = score;
+                    siftDown(heap, heapScores, heapSize);
+                }
+            }
+            
+            // 힙에서 가장 낮은 순위부터 꺼내 뒤에서부터 채운다
+            SearchHit[] ranked = new SearchHit[heapSize];
+            for (int last = heapSize - 1; last >= 0; last--) {
+                IndexedDocument document = documents[heap[0]];
+                ranked[last] = new SearchHit(document.key().board(), document.key().id(), document.title(), document.author(), document.createdAt(), heapScores[0]);
+                heap[0] = heap[last];
+                heapScores[0] = heapScores[last];
+                siftDown(heap, heapScores, last);
+            }
+            return new Ranking(Arrays.asList(ranked), totalHits);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Positive when the first hit ranks higher: by score, then newer {@code createdAt}, then later ordinal.
+     */
+    private int compare(int ordinal, int score, int otherOrdinal, int otherScore) {
+        if (score != otherScore) {
+            return Integer.compare(score, otherScore);
+        }
+        int byRecency = Long.compare(recency[ordinal], recency[otherOrdinal]);
+        return byRecency != 0 ? byRecency : Integer.compare(ordinal, otherOrdinal);
+    }
+    
+    // 최소 힙: 루트가 지금까지 남긴 것 중 가장 낮은 순위
+    private void siftUp(int[] heap, int[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(heap[index], scores[index], heap[parent], scores[parent]) >= 0) {
+                return;
+            }
+            swap(heap, scores, index, parent);
+            index = parent;
+        }
+    }
+    
+    private void siftDown(int[] heap, int[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int lowest = index;
+            for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                if (compare(heap[child], scores[child], heap[lowest], scores[lowest]) < 0) {
+                    lowest = child;
+                }
+            }
+            if (lowest == index) {
+                return;
+            }
+            swap(heap, scores, index, lowest);
+            index = lowest;
+        }
+    }
+    
+    private static void swap(int[] heap, int[] scores, int i, int j) {
+        int ordinal = heap[i];
+        heap[i] = heap[j];
+        heap[j] = ordinal;
+        int score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+    
+    private void indexNow(Post post) {
+        indexNow(Board.POST, post.getId(), post.getTitle(), post.getContent(), post.getAuthor(), post.getCreatedAt());
+    }
+    
+    private void indexNow(Tips tips) {
+        indexNow(Board.TIPS, tips.getId(), tips.getTitle(), tips.getContent(), tips.getAuthor(), tips.getCreatedAt());
+    }
+    
+    private void indexNow(Review review) {
+        indexNow(Board.REVIEW, review.getId(), review.getTitle(), review.getContent(), review.getAuthor(), review.getCreatedAt());
+    }
+    
+    private void indexNow(RunningMate runningMate) {
+        indexNow(Board.RUNNING_MATE, runningMate.getId(), runningMate.getTitle(),
+            runningMate.getLocation() == null ? runningMate.getContent() : runningMate.getLocation() + " " + runningMate.getContent(), runningMate.getAuthor(), runningMate.getCreatedAt());
+    }
+    
+    private void indexNow(Board board, Long id, String title, String content, String author, LocalDateTime createdAt) {
+        Map<String, Integer> grams = grams(title, TITLE_WEIGHT);
+        String indexedContent = content != null && content.length() > maxContentChars ? content.substring(0, maxContentChars) : content;
+        grams(indexedContent, 1).forEach((gram, weight) -> grams.merge(gram, weight, Integer::sum));
+        
+        DocKey key = new DocKey(board, id);
+        IndexedDocument document = new IndexedDocument(key, title, author, createdAt);
+        write(() -> {
+            delete(key);
+            if (nextOrdinal == MAX_ORDINALS) {
+                compact();
+                if (nextOrdinal == MAX_ORDINALS) {
+                    throw new IllegalStateException("검색 색인에 담을 수 있는 문서 수(" + MAX_ORDINALS + ")를 넘었습니다.");
+                }
+            }
+            if (nextOrdinal == documents.length) {
+                int capacity = Math.min(documents.length * 2, MAX_ORDINALS);
+                documents = Arrays.copyOf(documents, capacity);
+                boards = Arrays.copyOf(boards, capacity);
+                recency = Arrays.copyOf(recency, capacity);
+            }
+            int ordinal = nextOrdinal++;
+            liveDocuments[board.ordinal()]++;
+            documents[ordinal] = document;
+            boards[ordinal] = (byte) board.ordinal();
+            recency[ordinal] = createdAt == null ? Long.MIN_VALUE
+                : createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+            ordinals.put(key, ordinal);
+            grams.forEach((gram, weight) -> postings.computeIfAbsent(gram, g -> new Postings()).append(ordinal, weight));
+        });
+    }
+    
+    /**
+     * Tombstone the document's ordinal; its postings are dropped by the next {@link #compact()}.
+     */
+    private void delete(DocKey key) {
+        Integer ordinal = ordinals.remove(key);
+        if (ordinal == null) {
+            return;
+        }
+        documents[ordinal] = null;
+        boards[ordinal] = DELETED;
+        liveDocuments[key.board().ordinal()]--;
+        deleted++;
+        if (deleted >= MIN_DELETED_FOR_COMPACTION && deleted * 2 > nextOrdinal) {
+            compact();
+        }
+    }
+    
+    /**
+     * Renumber the live documents densely and drop the postings of deleted ones. Relative order is kept,
+     * so every postings list stays sorted.
+     */
+    private void compact() {
+        int[] renumbered = new int[nextOrdinal];
+        int live = 0;
+        for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+            IndexedDocument document = documents[ordinal];
+            if (document == null) {
+                renumbered[ordinal] = -1;
+                continue;
+            }
+            renumbered[ordinal] = live;
+            documents[live] = document;
+            boards[live] = boards[ordinal];
+            recency[live] = recency[ordinal];
+            ordinals.put(document.key(), live);
+            live++;
+        }
+        Arrays.fill(documents, live, nextOrdinal, null);
+        Arrays.fill(boards, live, nextOrdinal, DELETED);
+        postings.values().removeIf(list -> list.renumber(renumbered) == 0);
+        log.debug("Compacted community search index: {} deleted documents dropped, {} left", nextOrdinal - live, live);
+        nextOrdinal = live;
+        deleted = 0;
+    }
+    
+    private void write(Runnable action) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * Grams a document is indexed by: every character and every character bigram of each word, weighted by occurrence.
+     */
+    static Map<String, Integer> grams(String text, int weight) {
+        Map<String, Integer> grams = new HashMap<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.merge(word.substring(i, i + 1), weight, Integer::sum);
+                if (i + 1 < word.length()) {
+                    grams.merge(word.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+        }
+        return grams;
+    }
+    
+    /**
+     * Grams a query has to match: the bigrams of each word, or the character itself for a one-character word.
+     */
+    static Map<String, Integer> queryGrams(String keyword) {
+        Map<String, Integer> grams = new HashMap<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                grams.merge(word, 1, Integer::sum);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                grams.merge(word.substring(i, i + 2), 1, Integer::sum);
+            }
+        }
+        return grams;
+    }
+    
+    private static String[] words(String text) {
+        return text == null ? new String[0] : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+    }
+    
+    private <T> int catchUp(LocalDateTime since, PageAfter<T> updatedAfter, Function<T, LocalDateTime> updatedAtOf,
+                            Function<T, Long> idOf, Consumer<T> indexer) {
+        int count = 0;
+        Long lastId = 0L;
+        List<T> rows;
+        do {
+            rows = updatedAfter.find(since, lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (T row : rows) {
+                indexer.accept(row);
+                since = updatedAtOf.apply(row);
+                lastId = idOf.apply(row);
+            }
+            count += rows.size();
+        } while (rows.size() == REBUILD_PAGE_SIZE);
+        return count;
+    }
+    
+    /**
+     * Deletes leave no row to catch up on, so when the board's row count differs from its indexed documents the
+     * indexed ids are compared with the table and the ones it no longer has are removed.
+     */
+    private int sweep(Board board, Supplier<ContentVersion> version, IdsAfter idsAfter) {
+        long rows = version.get().count();
+        Set<Long> missing = new HashSet<>();
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            if (rows == liveDocuments[board.ordinal()]) {
+                return 0;
+            }
+            for (DocKey key : ordinals.keySet()) {
+                if (key.board() == board) {
+                    missing.add(key.id());
+                }
+            }
+        } finally {
+            readLock.unlock();
+        }
+        
+        Long lastId = 0L;
+        List<Long> ids;
+        do {
+            ids = idsAfter.find(lastId, PageRequest.of(0, ID_PAGE_SIZE));
+            ids.forEach(missing::remove);
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == ID_PAGE_SIZE);
+        
+        // 색인은 커밋 뒤에만 하므로 missing의 글은 DB에 있었던 글이다 - id 목록에 없으면 그 사이 지워진 것
+        if (!missing.isEmpty()) {
+            write(() -> missing.forEach(id -> delete(new DocKey(board, id))));
+        }
+        return missing.size();
+    }
+    
+    private <T> void rebuild(Function<String, CursorPage<T>> pages, Consumer<T> indexer) {
+        String cursor = null;
+        do {
+            CursorPage<T> page = pages.apply(cursor);
+            page.content().forEach(indexer);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+    
+    private static <T> CursorPage<T> page(String cursor,
+                                          Function<PageRequest, List<T>> firstPage,
+                                          PageAfter<T> pageAfter,
+                                          Function<T, LocalDateTime> timestampOf,
+                                          Function<T, Long> idOf) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, REBUILD_PAGE_SIZE + 1);
+        List<T> rows = after == null ? firstPage.apply(limit) : pageAfter.find(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, REBUILD_PAGE_SIZE, row -> new PageCursor(timestampOf.apply(row), idOf.apply(row)));
+    }
+    
+    @FunctionalInterface
+    private interface PageAfter<T> {
+        List<T> find(LocalDateTime timestamp, Long id, PageRequest limit);
+    }
+    
+    @FunctionalInterface
+    private interface IdsAfter {
+        List<Long> find(Long id, PageRequest limit);
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
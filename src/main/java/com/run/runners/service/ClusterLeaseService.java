@@ -0,0 +1,183 @@
+package com.run.runners.service;
+
+import com.run.runners.entity.ClusterNode;
+import com.run.runners.entity.SchedulerLease;
+import com.run.runners.repository.ClusterNodeRepository;
+import com.run.runners.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB-backed leader election and node membership for scheduled jobs when several instances share one database.
+ * <p>
+ * Every node heartbeats into {@code cluster_nodes} and tries to acquire or renew the {@value #SCHEDULER_LEASE}
+ * row in {@code scheduler_leases}; the holder is the leader until the lease expires. A node only trusts its
+ * leadership until {@code lease-ttl} has passed since the renewal <em>started</em> (measured on its own monotonic
+ * clock), so it stops acting as leader before another node can take the lease over. Expiry times are written
+ * with each node's wall clock, so node clocks must agree to well within the TTL.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterLeaseService {
+    
+    public static final String SCHEDULER_LEASE = "scheduler";
+    
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final ClusterNodeRepository clusterNodeRepository;
+    
+    // 하트비트 주기(heartbeat-ms)보다 충분히 길어야 한 번 놓쳐도 리더가 바뀌지 않는다
+    @Value("${runners.cluster.lease-ttl-ms:30000}")
+    private long leaseTtlMillis;
+    
+    // 비어 있으면 호스트명 + 임의 접미사
+    @Value("${runners.cluster.node-id:}")
+    private String configuredNodeId;
+    
+    private String nodeId;
+    private volatile boolean heartbeatDone;
+    private volatile long leaderUntilNanos;
+    private volatile List<String> liveNodeIds = List.of();
+    
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId != null && !configuredNodeId.isBlank() ? configuredNodeId : defaultNodeId();
+        log.info("Cluster node id: {}", nodeId);
+    }
+    
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    
+    /**
+     * Refresh this node's heartbeat, the list of live nodes and the scheduler lease.
+     */
+    @Scheduled(fixedDelayString = "${runners.cluster.heartbeat-ms:10000}")
+    public void heartbeat() {
+        long startedNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Duration ttl = Duration.ofMillis(leaseTtlMillis);
+        try {
+            if (clusterNodeRepository.heartbeat(nodeId, now) == 0) {
+                clusterNodeRepository.save(new ClusterNode(nodeId, now, now));
+            }
+            liveNodeIds = clusterNodeRepository.findLiveNodeIds(now.minus(ttl));
+            
+            boolean wasLeader = isLeaseValid();
+            if (tryAcquire(SCHEDULER_LEASE, now, now.plus(ttl))) {
+                leaderUntilNanos = startedNanos + TimeUnit.MILLISECONDS.toNanos(leaseTtlMillis);
+                if (!wasLeader) {
+                    log.info("Node {} acquired the scheduler lease", nodeId);
+                }
+                // 오래 응답이 없는 노드 정리는 리더만 한다
+                clusterNodeRepository.deleteStaleNodes(now.minus(ttl.multipliedBy(3)));
+            } else {
+                leaderUntilNanos = 0;
+                if (wasLeader) {
+                    log.warn("Node {} lost the scheduler lease", nodeId);
+                }
+            }
+        } catch (DataAccessException e) {
+            // 갱신하지 못한 리더십은 leaderUntilNanos가 지나면 자연히 만료된다
+            log.warn("Cluster heartbeat of node {} failed: {}", nodeId, e.getMessage());
+        } finally {
+            heartbeatDone = true;
+        }
+    }
+    
+    private boolean tryAcquire(String name, LocalDateTime now, LocalDateTime expiresAt) {
+        if (schedulerLeaseRepository.acquire(name, nodeId, now, expiresAt) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, nodeId, expiresAt, now));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 행을 만들었다
+            return false;
+        }
+    }
+    
+    /**
+     * Acquire or renew lease {@code name} for this node for one {@code lease-ttl}. Unlike the scheduler lease the
+     * caller decides how long to keep it and must renew it more often than the TTL.
+     *
+     * @return whether this node holds the lease afterwards
+     */
+    public boolean acquireLease(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        return tryAcquire(name, now, now.plus(Duration.ofMillis(leaseTtlMillis)));
+    }
+    
+    public void releaseLease(String name) {
+        schedulerLeaseRepository.release(name, nodeId, LocalDateTime.now());
+    }
+    
+    /**
+     * Whether this node currently holds the scheduler lease. Before the first heartbeat has run (e.g. a scheduled
+     * job firing right at startup) the heartbeat is performed first.
+     */
+    public boolean isLeader() {
+        if (!heartbeatDone) {
+            heartbeat();
+        }
+        return isLeaseValid();
+    }
+    
+    private boolean isLeaseValid() {
+        long until = leaderUntilNanos;
+        return until != 0 && System.nanoTime() - until < 0;
+    }
+    
+    /**
+     * The slice of runners this node is responsible for among the live nodes, or empty when this node is not
+     * registered as live (its heartbeats are failing), in which case it should not run sharded work.
+     */
+    public Optional<RunnerShard> currentShard() {
+        if (!heartbeatDone) {
+            heartbeat();
+        }
+        List<String> nodes = liveNodeIds;
+        int index = nodes.indexOf(nodeId);
+        return index < 0 ? Optional.empty() : Optional.of(new RunnerShard(index, nodes.size()));
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    @PreDestroy
+    void leave() {
+        try {
+            schedulerLeaseRepository.release(SCHEDULER_LEASE, nodeId, LocalDateTime.now());
+            clusterNodeRepository.deleteById(nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Could not release the cluster lease of node {}: {}", nodeId, e.getMessage());
+        }
+    }
+}
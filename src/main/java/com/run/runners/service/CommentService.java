@@ -3,6 +3,7 @@ package com.run.runners.service;
 import com.run.runners.entity.Comment;
 import com.run.runners.entity.Post;
 import com.run.runners.repository.CommentRepository;
+import com.run.runners.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,10 +17,16 @@ import java.util.Optional;
 public class CommentService {
     
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
     
     @Transactional
     public Comment saveComment(Comment comment) {
-        return commentRepository.save(comment);
+        boolean isNew = comment.getId() == null;
+        Comment saved = commentRepository.save(comment);
+        if (isNew) {
+            postRepository.adjustCommentCount(saved.getPost().getId(), 1);
+        }
+        return saved;
     }
     
     public List<Comment> getCommentsByPost(Post post) {
@@ -40,16 +47,23 @@ public class CommentService {
     
     @Transactional
     public void deleteComment(Long id) {
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            postRepository.adjustCommentCount(comment.getPost().getId(), -1);
+        });
     }
     
     @Transactional
     public void deleteCommentsByPost(Post post) {
-        commentRepository.deleteByPost(post);
+        long deleted = commentRepository.deleteByPost(post);
+        postRepository.adjustCommentCount(post.getId(), (int) -deleted);
     }
     
     @Transactional
     public Comment updateComment(Comment comment) {
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        // 댓글 수는 그대로지만 게시글 updatedAt을 올려 상세 페이지의 조건부 GET 버전을 바꾼다
+        postRepository.adjustCommentCount(saved.getPost().getId(), 0);
+        return saved;
     }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.run.runners.service;
 
+import com.run.runners.config.CacheConfig;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.Competition;
 import com.run.runners.repository.CompetitionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +24,27 @@ public class CompetitionService {
     private final CompetitionRepository competitionRepository;
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ALL_COMPETITIONS, CacheConfig.UPCOMING_COMPETITIONS, CacheConfig.COMPETITION_PAGES}, allEntries = true)
     public Competition saveCompetition(Competition competition) {
         return competitionRepository.save(competition);
     }
     
+    @Cacheable(CacheConfig.ALL_COMPETITIONS)
     public List<Competition> getAllCompetitions() {
         return competitionRepository.findAllOrderByCreatedAtDesc();
     }
     
+    @Cacheable(CacheConfig.COMPETITION_PAGES)
+    public CursorPage<Competition> getCompetitionPage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Competition> rows = after == null
+            ? competitionRepository.findPage(limit)
+            : competitionRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, competition -> new PageCursor(competition.getCreatedAt(), competition.getId()));
+    }
+    
+    @Cacheable(CacheConfig.UPCOMING_COMPETITIONS)
     public List<Competition> getUpcomingCompetitions() {
         return competitionRepository.findUpcomingCompetitions(LocalDateTime.now());
     }
@@ -39,11 +58,13 @@ public class CompetitionService {
     }
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ALL_COMPETITIONS, CacheConfig.UPCOMING_COMPETITIONS, CacheConfig.COMPETITION_PAGES}, allEntries = true)
     public void deleteCompetition(Long id) {
         competitionRepository.deleteById(id);
     }
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.ALL_COMPETITIONS, CacheConfig.UPCOMING_COMPETITIONS, CacheConfig.COMPETITION_PAGES}, allEntries = true)
     public Competition updateCompetition(Competition competition) {
         return competitionRepository.save(competition);
     }
@@ -0,0 +1,104 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackData;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Streaming (StAX) reader for GPX 1.1 tracks. Reads {@code trkpt} latitude/longitude, {@code ele}, {@code time}
+ * and the Garmin TrackPointExtension {@code hr}/{@code cad} values; everything else is skipped.
+ * Every point needs {@code lat}, {@code lon} and a {@code time} later than the previous point's.
+ * DTDs and external entities are disabled.
+ */
+public final class GpxTrackParser {
+    
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+    
+    private GpxTrackParser() {
+    }
+    
+    public static TrackData parse(InputStream input) {
+        TrackData.Builder builder = new TrackData.Builder();
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            
+            boolean inPoint = false;
+            double latitude = 0;
+            double longitude = 0;
+            double elevation = 0;
+            long timeMillis = 0;
+            long previousTimeMillis = Long.MIN_VALUE;
+            int heartRate = 0;
+            int cadence = 0;
+            
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("trkpt".equals(name)) {
+                        inPoint = true;
+                        latitude = coordinate(reader, "lat");
+                        longitude = coordinate(reader, "lon");
+                        elevation = 0;
+                        timeMillis = 0;
+                        heartRate = 0;
+                        cadence = 0;
+                    } else if (inPoint) {
+                        switch (name) {
+                            case "ele" -> elevation = Double.parseDouble(reader.getElementText().trim());
+                            case "time" -> timeMillis = Instant.parse(reader.getElementText().trim()).toEpochMilli();
+                            case "hr" -> heartRate = Integer.parseInt(reader.getElementText().trim());
+                            case "cad" -> cadence = Integer.parseInt(reader.getElementText().trim());
+                            default -> {
+                                // 그 밖의 확장 요소는 무시
+                            }
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "trkpt".equals(reader.getLocalName())) {
+                    inPoint = false;
+                    if (timeMillis == 0) {
+                        throw new IllegalArgumentException("시간 정보가 없는 트랙 포인트가 있습니다.");
+                    }
+                    if (timeMillis <= previousTimeMillis) {
+                        throw new IllegalArgumentException("트랙 포인트 시간이 앞 포인트보다 늦지 않습니다: " + Instant.ofEpochMilli(timeMillis));
+                    }
+                    previousTimeMillis = timeMillis;
+                    builder.add(latitude, longitude, elevation, timeMillis, heartRate, cadence);
+                }
+            }
+        } catch (XMLStreamException | NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("GPX 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // 입력 스트림은 호출한 쪽에서 닫는다
+                }
+            }
+        }
+        return builder.build();
+    }
+    
+    private static double coordinate(XMLStreamReader reader, String attribute) {
+        String value = reader.getAttributeValue(null, attribute);
+        if (value == null) {
+            throw new IllegalArgumentException("트랙 포인트에 " + attribute + " 속성이 없습니다.");
+        }
+        return Double.parseDouble(value.trim());
+    }
+    
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,258 @@
+package com.run.runners.service;
+
+import com.run.runners.config.ReplicaRoutingDataSource;
+import com.run.runners.dto.LeaderboardEntry;
+import com.run.runners.entity.RunningStatistics;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory leaderboards per statistics bucket (period, year, month/week) and metric.
+ * <p>
+ * Each leaderboard is an order-statistic tree, so top-N, a runner's rank and the runners around
+ * a rank are answered in O(log n) per entry instead of sorting the whole bucket in the database.
+ * The boards are loaded from {@code running_statistics} at startup and updated whenever
+ * {@link RunningStatisticsService} writes a statistics row. Rows written by other instances sharing the database
+ * (including their shards of the scheduled reconciliation) are picked up by {@link #refresh()}, which rereads the
+ * rows calculated since the previous refresh from the primary, so the boards of every node converge within
+ * {@code runners.cluster.refresh-ms}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+    
+    public enum Metric {
+        DISTANCE(RunningStatistics::getTotalDistanceKm),
+        TIME(RunningStatistics::getTotalTimeMinutes),
+        RUNS(RunningStatistics::getTotalRuns),
+        CALORIES(RunningStatistics::getTotalCaloriesBurned);
+        
+        private final Function<RunningStatistics, Number> extractor;
+        
+        Metric(Function<RunningStatistics, Number> extractor) {
+            this.extractor = extractor;
+        }
+        
+        double scoreOf(RunningStatistics stats) {
+            Number value = extractor.apply(stats);
+            return value == null ? 0.0 : value.doubleValue();
+        }
+    }
+    
+    /**
+     * Identifies one statistics bucket; {@code month} is only set for monthly and {@code week} only for weekly buckets.
+     */
+    public record Bucket(StatisticsPeriod period, int year, Integer month, Integer week) {
+        
+        public static Bucket of(StatisticsPeriod period, int year, Integer month, Integer week) {
+            return new Bucket(period, year,
+                period == StatisticsPeriod.MONTHLY ? month : null,
+                period == StatisticsPeriod.WEEKLY ? week : null);
+        }
+        
+        public static Bucket of(RunningStatistics stats) {
+            return of(stats.getPeriod(), stats.getPeriodYear(), stats.getPeriodMonth(), stats.getPeriodWeek());
+        }
+        
+        /**
+         * The bucket containing {@code date}; weekly buckets use ISO week-based years like the statistics rows.
+         */
+        public static Bucket containing(StatisticsPeriod period, LocalDateTime date) {
+            if (period == StatisticsPeriod.WEEKLY) {
+                return of(period, date.get(IsoFields.WEEK_BASED_YEAR), null, date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            }
+            return of(period, date.getYear(), date.getMonthValue(), null);
+        }
+    }
+    
+    private record BoardKey(Bucket bucket, Metric metric) {
+    }
+    
+    private static final class Board {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final RankingTree tree = new RankingTree();
+    }
+    
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    
+    private final RunningStatisticsRepository runningStatisticsRepository;
+    
+    private final ConcurrentHashMap<BoardKey, Board> boards = new ConcurrentHashMap<>();
+    
+    // 이 시각 이후 계산된 통계 행을 다음 refresh에서 다시 읽는다 (재구성 전에는 null)
+    private volatile LocalDateTime refreshedSince;
+    
+    // 늦게 커밋된 트랜잭션과 노드 간 시계 차이를 덮도록 지난 갱신 시작보다 이만큼 앞부터 다시 읽는다
+    @Value("${runners.cluster.refresh-overlap-ms:60000}")
+    private long refreshOverlapMillis;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime rebuiltFrom = LocalDateTime.now();
+        boards.clear();
+        
+        long loaded = 0;
+        Long lastId = 0L;
+        List<RunningStatistics> page;
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            do {
+                page = runningStatisticsRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (RunningStatistics stats : page) {
+                    applyNow(Bucket.of(stats), stats.getRunnerName(), scoresOf(stats));
+                    lastId = stats.getId();
+                }
+                loaded += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        }
+        refreshedSince = rebuiltFrom.minus(Duration.ofMillis(refreshOverlapMillis));
+        
+        log.info("Built leaderboards from {} statistics rows into {} boards in {} ms",
+            loaded, boards.size(), System.currentTimeMillis() - startedAt);
+    }
+    
+    /**
+     * Apply the statistics rows calculated since the previous refresh, whichever node wrote them. Reads go to the
+     * primary, since a lagging replica could hand back a row older than the one already applied.
+     */
+    @Scheduled(fixedDelayString = "${runners.cluster.refresh-ms:30000}", initialDelayString = "${runners.cluster.refresh-ms:30000}")
+    public void refresh() {
+        LocalDateTime since = refreshedSince;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        
+        long applied = 0;
+        Long lastId = 0L;
+        List<RunningStatistics> page;
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            do {
+                page = runningStatisticsRepository.findCalculatedAfter(since, lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                for (RunningStatistics stats : page) {
+                    applyNow(Bucket.of(stats), stats.getRunnerName(), scoresOf(stats));
+                    since = stats.getLastCalculatedAt();
+                    lastId = stats.getId();
+                }
+                applied += page.size();
+            } while (page.size() == REBUILD_PAGE_SIZE);
+        } catch (DataAccessException e) {
+            // 기준 시각을 옮기지 않았으므로 다음 갱신에서 같은 구간부터 다시 읽는다
+            log.warn("Leaderboard refresh failed: {}", e.getMessage());
+            return;
+        }
+        refreshedSince = startedAt.minus(Duration.ofMillis(refreshOverlapMillis));
+        log.debug("Refreshed leaderboards with {} statistics rows in {} ms",
+            applied, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+    }
+    
+    /**
+     * Reflect a written statistics row in every metric's leaderboard of its bucket. Inside a transaction
+     * the boards change only after commit, so rolled-back writes never become visible.
+     */
+    public void update(RunningStatistics stats) {
+        // 커밋 시점이 아닌 호출 시점의 값을 기록한다 (엔티티는 이후에도 변경될 수 있음)
+        Bucket bucket = Bucket.of(stats);
+        String runnerName = stats.getRunnerName();
+        Map<Metric, Double> scores = scoresOf(stats);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyNow(bucket, runnerName, scores);
+                }
+            });
+        } else {
+            applyNow(bucket, runnerName, scores);
+        }
+    }
+    
+    public List<LeaderboardEntry> top(Bucket bucket, Metric metric, int limit) {
+        return read(bucket, metric, List.of(), tree -> tree.range(1, limit));
+    }
+    
+    public Optional<LeaderboardEntry> rankOf(Bucket bucket, Metric metric, String runnerName) {
+        return read(bucket, metric, Optional.empty(), tree -> {
+            int rank = tree.rankOf(runnerName);
+            return rank == 0 ? Optional.empty() : Optional.of(tree.range(rank, rank).get(0));
+        });
+    }
+    
+    /**
+     * The runner and up to {@code radius} runners ranked directly above and below; empty if the runner is not ranked.
+     */
+    public List<LeaderboardEntry> around(Bucket bucket, Metric metric, String runnerName, int radius) {
+        return read(bucket, metric, List.of(), tree -> {
+            int rank = tree.rankOf(runnerName);
+            return rank == 0 ? List.of() : tree.range(rank - radius, rank + radius);
+        });
+    }
+    
+    private void applyNow(Bucket bucket, String runnerName, Map<Metric, Double> scores) {
+        for (Metric metric : Metric.values()) {
+            Board board = boards.computeIfAbsent(new BoardKey(bucket, metric), key -> new Board());
+            Lock lock = board.lock.writeLock();
+            lock.lock();
+            try {
+                // 기록이 모두 삭제된 러너는 순위에서 뺀다
+                if (scores.isEmpty()) {
+                    board.tree.remove(runnerName);
+                } else {
+                    board.tree.put(runnerName, scores.get(metric));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    private <T> T read(Bucket bucket, Metric metric, T empty, Function<RankingTree, T> query) {
+        Board board = boards.get(new BoardKey(bucket, metric));
+        if (board == null) {
+            return empty;
+        }
+        Lock lock = board.lock.readLock();
+        lock.lock();
+        try {
+            return query.apply(board.tree);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private static Map<Metric, Double> scoresOf(RunningStatistics stats) {
+        Map<Metric, Double> scores = new EnumMap<>(Metric.class);
+        if (stats.getTotalRuns() == null || stats.getTotalRuns() <= 0) {
+            return scores;
+        }
+        for (Metric metric : Metric.values()) {
+            scores.put(metric, metric.scoreOf(stats));
+        }
+        return scores;
+    }
+}
@@ -1,61 +1,106 @@
 package com.run.runners.service;
 
-import com.run.runners.entity.Like;
-import com.run.runners.entity.Post;
+import com.run.runners.dto.LikeToggleResult;
 import com.run.runners.repository.LikeRepository;
 import com.run.runners.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LikeService {
     
+    private static final int MAX_ATTEMPTS = 3;
+    
+    // MySQL 1062 / H2 23505: 유니크 키 중복
+    private static final Set<Integer> DUPLICATE_KEY_ERROR_CODES = Set.of(1062, 23505);
+    
+    // MySQL 1452 / H2 23506: 참조하는 게시글이 없음
+    private static final Set<Integer> MISSING_PARENT_ERROR_CODES = Set.of(1452, 23506);
+    
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
     
-    @Transactional
-    public boolean toggleLike(Long postId, String userIdentifier) {
-        Optional<Post> postOptional = postRepository.findById(postId);
-        if (postOptional.isEmpty()) {
-            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
-        }
+    /**
+     * Toggle the user's like on a post without read-modify-write of the post entity.
+     * The like row is deleted or inserted idempotently and {@code likeCount} is adjusted with an
+     * atomic UPDATE in the same transaction, so concurrent clicks cannot lose updates.
+     * A like committed concurrently by the same user is reported as already liked, and lock
+     * timeouts or deadlocks are retried in a new transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LikeToggleResult toggleLike(Long postId, String userIdentifier) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         
-        Post post = postOptional.get();
-        boolean exists = likeRepository.existsByPostAndUserIdentifier(post, userIdentifier);
-        
-        if (exists) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> toggle(postId, userIdentifier));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying like toggle on post {} (attempt {} failed: {})", postId, attempt, e.getMessage());
+            } catch (DataIntegrityViolationException e) {
+                if (hasErrorCode(e, DUPLICATE_KEY_ERROR_CODES)) {
+                    // 같은 사용자의 좋아요가 동시에 먼저 커밋됨 - 이미 좋아요한 상태로 응답
+                    return transactionTemplate.execute(status -> new LikeToggleResult(true, currentLikeCount(postId)));
+                }
+                if (hasErrorCode(e, MISSING_PARENT_ERROR_CODES)) {
+                    throw new IllegalArgumentException("게시글을 찾을 수 없습니다.", e);
+                }
+                throw e;
+            }
+        }
+    }
+    
+    private LikeToggleResult toggle(Long postId, String userIdentifier) {
+        if (likeRepository.deleteByPostIdAndUserIdentifier(postId, userIdentifier) > 0) {
             // 좋아요 취소
-            likeRepository.deleteByPostAndUserIdentifier(post, userIdentifier);
-            post.setLikeCount(post.getLikeCount() - 1);
-            postRepository.save(post);
-            return false;
-        } else {
-            // 좋아요 추가
-            Like like = new Like();
-            like.setPost(post);
-            like.setUserIdentifier(userIdentifier);
-            likeRepository.save(like);
-            
-            post.setLikeCount(post.getLikeCount() + 1);
-            postRepository.save(post);
-            return true;
+            postRepository.adjustLikeCount(postId, -1);
+            return new LikeToggleResult(false, currentLikeCount(postId));
         }
+        
+        // 좋아요 추가
+        if (likeRepository.insertIfAbsent(postId, userIdentifier, LocalDateTime.now()) > 0) {
+            postRepository.adjustLikeCount(postId, 1);
+        }
+        return new LikeToggleResult(true, currentLikeCount(postId));
     }
     
-    public boolean isLikedByUser(Long postId, String userIdentifier) {
-        Optional<Post> postOptional = postRepository.findById(postId);
-        if (postOptional.isEmpty()) {
-            return false;
+    private long currentLikeCount(Long postId) {
+        Integer likeCount = postRepository.findLikeCountById(postId);
+        return likeCount != null ? likeCount : 0;
+    }
+    
+    private static boolean hasErrorCode(Throwable e, Set<Integer> errorCodes) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && errorCodes.contains(sqlException.getErrorCode())) {
+                return true;
+            }
         }
-        return likeRepository.existsByPostAndUserIdentifier(postOptional.get(), userIdentifier);
+        return false;
+    }
+    
+    // 게시글을 먼저 읽지 않고 좋아요 행만 확인한다 (없는 게시글은 좋아요도 없다)
+    public boolean isLikedByUser(Long postId, String userIdentifier) {
+        return likeRepository.existsByPostIdAndUserIdentifier(postId, userIdentifier);
     }
     
     public long getLikeCount(Long postId) {
         return likeRepository.countByPostId(postId);
     }
-}
\ No newline at end of file
+}
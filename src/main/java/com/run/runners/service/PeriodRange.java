@@ -0,0 +1,51 @@
+package com.run.runners.service;
+
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+
+/**
+ * Half-open {@code [start, end)} range of a statistics bucket, so that period lookups can use
+ * an index range scan on {@code record_date} instead of wrapping it in YEAR()/MONTH()/WEEK().
+ * Weeks follow ISO-8601 numbering ({@link IsoFields#WEEK_OF_WEEK_BASED_YEAR}).
+ */
+public record PeriodRange(LocalDateTime start, LocalDateTime end) {
+    
+    /**
+     * Range of the bucket of the given period that contains {@code date}.
+     */
+    public static PeriodRange of(StatisticsPeriod period, LocalDateTime date) {
+        switch (period) {
+            case WEEKLY:
+                return ofWeek(date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY:
+                return ofMonth(date.getYear(), date.getMonthValue());
+            case YEARLY:
+                return ofYear(date.getYear());
+            default:
+                throw new IllegalArgumentException("Unknown period: " + period);
+        }
+    }
+    
+    public static PeriodRange ofWeek(int weekBasedYear, int week) {
+        // 1월 4일은 항상 해당 주차 연도의 1주차에 속한다
+        LocalDate monday = LocalDate.of(weekBasedYear, 1, 4)
+            .with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, week)
+            .with(DayOfWeek.MONDAY);
+        return new PeriodRange(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay());
+    }
+    
+    public static PeriodRange ofMonth(int year, int month) {
+        LocalDate first = YearMonth.of(year, month).atDay(1);
+        return new PeriodRange(first.atStartOfDay(), first.plusMonths(1).atStartOfDay());
+    }
+    
+    public static PeriodRange ofYear(int year) {
+        LocalDate first = LocalDate.of(year, 1, 1);
+        return new PeriodRange(first.atStartOfDay(), first.plusYears(1).atStartOfDay());
+    }
+}
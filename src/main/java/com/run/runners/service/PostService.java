@@ -1,11 +1,16 @@
 package com.run.runners.service;
 
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.Post;
 import com.run.runners.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,27 +20,49 @@ import java.util.Optional;
 public class PostService {
     
     private final PostRepository postRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final BoardSearchIndex boardSearchIndex;
     
     @Transactional
     public Post savePost(Post post) {
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     public List<Post> getAllPosts() {
         return postRepository.findAllOrderByCreatedAtDesc();
     }
     
+    public CursorPage<Post> getPostPage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Post> rows = after == null
+            ? postRepository.findPage(limit)
+            : postRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, post -> new PageCursor(post.getCreatedAt(), post.getId()));
+    }
+    
+    // 조건부 GET 용 목록 버전: 좋아요/댓글 수 변경도 updatedAt을 올리므로 함께 반영된다
+    public ContentVersion getBoardVersion() {
+        return postRepository.findBoardVersion();
+    }
+    
+    public Optional<LocalDateTime> getUpdatedAt(Long id) {
+        return postRepository.findUpdatedAtById(id);
+    }
+    
     public Optional<Post> getPostById(Long id) {
         return postRepository.findById(id);
     }
     
-    @Transactional
     public Optional<Post> getPostByIdAndIncrementView(Long id) {
         Optional<Post> post = postRepository.findById(id);
         if (post.isPresent()) {
-            postRepository.incrementViewCount(id);
-            // 조회수 증가 후 다시 조회
-            return postRepository.findById(id);
+            viewCountBuffer.increment(ViewCountBuffer.Target.POST, id);
+            // 아직 DB에 반영되지 않은 조회수를 더해서 보여준다 (읽기 전용 트랜잭션이라 UPDATE 되지 않음)
+            Post current = post.get();
+            current.setViewCount(current.getViewCount() + (int) viewCountBuffer.getPendingCount(ViewCountBuffer.Target.POST, id));
         }
         return post;
     }
@@ -49,16 +76,21 @@ public class PostService {
     }
     
     public List<Post> searchByTitleOrContent(String keyword) {
-        return postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(keyword, keyword);
+        // LIKE '%keyword%' 전체 스캔 대신 검색 인덱스로 순위가 매겨진 id를 찾는다
+        List<Long> ids = boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, keyword);
+        return BoardSearchIndex.orderByIds(postRepository.findAllById(ids), Post::getId, ids);
     }
     
     @Transactional
     public void deletePost(Long id) {
         postRepository.deleteById(id);
+        boardSearchIndex.remove(BoardSearchIndex.Board.POST, id);
     }
     
     @Transactional
     public Post updatePost(Post post) {
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        boardSearchIndex.index(saved);
+        return saved;
     }
 }
\ No newline at end of file
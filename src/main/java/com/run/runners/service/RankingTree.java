@@ -0,0 +1,177 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic treap of runner scores, ordered by score (highest first) and then by runner name.
+ * Every node keeps the size of its subtree, so inserts, removals, rank lookups and positional access
+ * are all O(log n) expected.
+ * <p>
+ * Not thread-safe; callers guard each tree with their own lock.
+ */
+class RankingTree {
+    
+    private static final class Node {
+        private final String runnerName;
+        private final double score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private Node left;
+        private Node right;
+        private int size = 1;
+        
+        private Node(String runnerName, double score) {
+            this.runnerName = runnerName;
+            this.score = score;
+        }
+    }
+    
+    private final Map<String, Double> scores = new HashMap<>();
+    private Node root;
+    
+    int size() {
+        return size(root);
+    }
+    
+    void put(String runnerName, double score) {
+        Double previous = scores.put(runnerName, score);
+        if (previous != null) {
+            root = delete(root, previous, runnerName);
+        }
+        Node[] parts = split(root, score, runnerName);
+        root = merge(merge(parts[0], new Node(runnerName, score)), parts[1]);
+    }
+    
+    void remove(String runnerName) {
+        Double previous = scores.remove(runnerName);
+        if (previous != null) {
+            root = delete(root, previous, runnerName);
+        }
+    }
+    
+    /**
+     * 1-based rank of the runner, or {@code 0} if the runner is not ranked.
+     */
+    int rankOf(String runnerName) {
+        Double score = scores.get(runnerName);
+        if (score == null) {
+            return 0;
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int c = compare(score, runnerName, node);
+            if (c < 0) {
+                node = node.left;
+            } else if (c > 0) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return before + size(node.left) + 1;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * Entries ranked {@code fromRank} to {@code toRank} (both 1-based, inclusive), clipped to the tree size.
+     */
+    List<LeaderboardEntry> range(int fromRank, int toRank) {
+        int from = Math.max(fromRank, 1);
+        int to = Math.min(toRank, size());
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.max(to - from + 1, 0));
+        for (int rank = from; rank <= to; rank++) {
+            Node node = select(rank - 1);
+            entries.add(new LeaderboardEntry(rank, node.runnerName, node.score));
+        }
+        return entries;
+    }
+    
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException(index);
+    }
+    
+    /**
+     * Split into nodes ordered before the key and nodes ordered at or after it.
+     */
+    private static Node[] split(Node node, double score, String runnerName) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(score, runnerName, node) > 0) {
+            Node[] parts = split(node.right, score, runnerName);
+            node.right = parts[0];
+            update(node);
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, runnerName);
+        node.left = parts[1];
+        update(node);
+        return new Node[] {parts[0], node};
+    }
+    
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+    
+    private static Node delete(Node node, double score, String runnerName) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(score, runnerName, node);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = delete(node.left, score, runnerName);
+        } else {
+            node.right = delete(node.right, score, runnerName);
+        }
+        update(node);
+        return node;
+    }
+    
+    // 음수면 (score, runnerName)이 node보다 앞 순위
+    private static int compare(double score, String runnerName, Node node) {
+        int c = Double.compare(node.score, score);
+        return c != 0 ? c : runnerName.compareTo(node.runnerName);
+    }
+    
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+    
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
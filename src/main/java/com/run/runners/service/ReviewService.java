@@ -1,11 +1,19 @@
 package com.run.runners.service;
 
+import com.run.runners.config.CacheConfig;
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.Review;
 import com.run.runners.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,39 +23,68 @@ import java.util.Optional;
 public class ReviewService {
     
     private final ReviewRepository reviewRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final BoardSearchIndex boardSearchIndex;
     
+    @Cacheable(cacheNames = CacheConfig.REVIEW_LISTS, key = "#root.methodName")
     public List<Review> getAllReviews() {
         return reviewRepository.findAllByOrderByCreatedAtDesc();
     }
     
+    @Cacheable(CacheConfig.REVIEW_PAGES)
+    public CursorPage<Review> getReviewPage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Review> rows = after == null
+            ? reviewRepository.findPage(limit)
+            : reviewRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, review -> new PageCursor(review.getCreatedAt(), review.getId()));
+    }
+    
+    // 조건부 GET 용 목록 버전 (캐시하지 않는다)
+    public ContentVersion getBoardVersion() {
+        return reviewRepository.findBoardVersion();
+    }
+    
+    public Optional<LocalDateTime> getUpdatedAt(Long id) {
+        return reviewRepository.findUpdatedAtById(id);
+    }
+    
     public Optional<Review> getReviewById(Long id) {
         return reviewRepository.findById(id);
     }
     
-    @Transactional
     public Optional<Review> getReviewByIdAndIncrementView(Long id) {
         Optional<Review> reviewOptional = reviewRepository.findById(id);
         if (reviewOptional.isPresent()) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.REVIEW, id);
             Review review = reviewOptional.get();
-            review.setViewCount(review.getViewCount() + 1);
-            reviewRepository.save(review);
+            review.setViewCount(review.getViewCount() + (int) viewCountBuffer.getPendingCount(ViewCountBuffer.Target.REVIEW, id));
         }
         return reviewOptional;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.REVIEW_LISTS, CacheConfig.REVIEW_PAGES}, allEntries = true)
     public Review saveReview(Review review) {
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.REVIEW_LISTS, CacheConfig.REVIEW_PAGES}, allEntries = true)
     public Review updateReview(Review review) {
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.REVIEW_LISTS, CacheConfig.REVIEW_PAGES}, allEntries = true)
     public void deleteReview(Long id) {
         reviewRepository.deleteById(id);
+        boardSearchIndex.remove(BoardSearchIndex.Board.REVIEW, id);
     }
     
     public List<Review> searchByTitle(String title) {
@@ -59,13 +96,17 @@ public class ReviewService {
     }
     
     public List<Review> searchByTitleOrContent(String keyword) {
-        return reviewRepository.findByTitleOrContentContaining(keyword);
+        // LIKE '%keyword%' 전체 스캔 대신 검색 인덱스로 순위가 매겨진 id를 찾는다
+        List<Long> ids = boardSearchIndex.searchIds(BoardSearchIndex.Board.REVIEW, keyword);
+        return BoardSearchIndex.orderByIds(reviewRepository.findAllById(ids), Review::getId, ids);
     }
     
+    @Cacheable(cacheNames = CacheConfig.REVIEW_LISTS, key = "#root.methodName")
     public List<Review> getReviewsByPopularity() {
         return reviewRepository.findAllByOrderByViewCountDesc();
     }
     
+    @Cacheable(cacheNames = CacheConfig.REVIEW_LISTS, key = "#root.methodName")
     public List<Review> getReviewsByLikes() {
         return reviewRepository.findAllByOrderByLikeCountDesc();
     }
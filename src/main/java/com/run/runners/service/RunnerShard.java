@@ -0,0 +1,24 @@
+package com.run.runners.service;
+
+/**
+ * One of {@code count} disjoint slices of the runners, chosen by the hash of the runner name.
+ * {@link String#hashCode()} is specified by the JLS, so every node assigns a runner to the same shard.
+ */
+public record RunnerShard(int index, int count) {
+    
+    public static final RunnerShard ALL = new RunnerShard(0, 1);
+    
+    public RunnerShard {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+    }
+    
+    public boolean contains(String runnerName) {
+        return count == 1 || Math.floorMod(runnerName.hashCode(), count) == index;
+    }
+    
+    public boolean isAll() {
+        return count == 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.run.runners.service;
 
 import com.run.runners.entity.RunningMateComment;
 import com.run.runners.repository.RunningMateCommentRepository;
+import com.run.runners.repository.RunningMateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +15,15 @@ import java.util.List;
 public class RunningMateCommentService {
     
     private final RunningMateCommentRepository runningMateCommentRepository;
+    private final RunningMateRepository runningMateRepository;
     
     public RunningMateComment saveComment(RunningMateComment comment) {
-        return runningMateCommentRepository.save(comment);
+        boolean isNew = comment.getId() == null;
+        RunningMateComment saved = runningMateCommentRepository.save(comment);
+        if (isNew) {
+            runningMateRepository.adjustCommentCount(saved.getRunningMate().getId(), 1);
+        }
+        return saved;
     }
     
     @Transactional(readOnly = true)
@@ -25,7 +32,10 @@ public class RunningMateCommentService {
     }
     
     public void deleteComment(Long id) {
-        runningMateCommentRepository.deleteById(id);
+        runningMateCommentRepository.findById(id).ifPresent(comment -> {
+            runningMateCommentRepository.delete(comment);
+            runningMateRepository.adjustCommentCount(comment.getRunningMate().getId(), -1);
+        });
     }
     
     @Transactional(readOnly = true)
@@ -1,11 +1,16 @@
 package com.run.runners.service;
 
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.RunningMate;
 import com.run.runners.repository.RunningMateRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +20,13 @@ import java.util.Optional;
 public class RunningMateService {
     
     private final RunningMateRepository runningMateRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final BoardSearchIndex boardSearchIndex;
     
     public RunningMate saveRunningMate(RunningMate runningMate) {
-        return runningMateRepository.save(runningMate);
+        RunningMate saved = runningMateRepository.save(runningMate);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     @Transactional(readOnly = true)
@@ -25,16 +34,38 @@ public class RunningMateService {
         return runningMateRepository.findAllOrderByCreatedAtDesc();
     }
     
+    @Transactional(readOnly = true)
+    public CursorPage<RunningMate> getRunningMatePage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<RunningMate> rows = after == null
+            ? runningMateRepository.findPage(limit)
+            : runningMateRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, runningMate -> new PageCursor(runningMate.getCreatedAt(), runningMate.getId()));
+    }
+    
+    @Transactional(readOnly = true)
+    public ContentVersion getBoardVersion() {
+        return runningMateRepository.findBoardVersion();
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getUpdatedAt(Long id) {
+        return runningMateRepository.findUpdatedAtById(id);
+    }
+    
     @Transactional(readOnly = true)
     public Optional<RunningMate> getRunningMateById(Long id) {
         return runningMateRepository.findById(id);
     }
     
+    @Transactional(readOnly = true)
     public Optional<RunningMate> getRunningMateByIdAndIncrementView(Long id) {
         Optional<RunningMate> runningMate = runningMateRepository.findById(id);
         if (runningMate.isPresent()) {
-            runningMateRepository.incrementViewCount(id);
-            return runningMateRepository.findById(id);
+            viewCountBuffer.increment(ViewCountBuffer.Target.RUNNING_MATE, id);
+            RunningMate current = runningMate.get();
+            current.setViewCount(current.getViewCount() + (int) viewCountBuffer.getPendingCount(ViewCountBuffer.Target.RUNNING_MATE, id));
         }
         return runningMate;
     }
@@ -51,7 +82,9 @@ public class RunningMateService {
     
     @Transactional(readOnly = true)
     public List<RunningMate> searchByTitleOrContent(String keyword) {
-        return runningMateRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc(keyword, keyword);
+        // LIKE '%keyword%' 전체 스캔 대신 검색 인덱스로 순위가 매겨진 id를 찾는다
+        List<Long> ids = boardSearchIndex.searchIds(BoardSearchIndex.Board.RUNNING_MATE, keyword);
+        return BoardSearchIndex.orderByIds(runningMateRepository.findAllById(ids), RunningMate::getId, ids);
     }
     
     @Transactional(readOnly = true)
@@ -61,9 +94,12 @@ public class RunningMateService {
     
     public void deleteRunningMate(Long id) {
         runningMateRepository.deleteById(id);
+        boardSearchIndex.remove(BoardSearchIndex.Board.RUNNING_MATE, id);
     }
     
     public RunningMate updateRunningMate(RunningMate runningMate) {
-        return runningMateRepository.save(runningMate);
+        RunningMate saved = runningMateRepository.save(runningMate);
+        boardSearchIndex.index(saved);
+        return saved;
     }
 }
\ No newline at end of file
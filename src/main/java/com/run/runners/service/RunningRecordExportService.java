@@ -0,0 +1,291 @@
+package com.run.runners.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningStatistics;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningStatisticsRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams running records and statistics to an {@link OutputStream} with constant memory.
+ * <p>
+ * Rows are read from a database cursor ({@code Stream} repository methods with a fetch size hint) inside a
+ * read-only transaction, written out one by one and detached right away, so the persistence context never
+ * holds more than the row being written. Must be called from the thread that writes the response
+ * (e.g. inside a {@code StreamingResponseBody}) so that the transaction spans the whole export.
+ */
+@Service
+@RequiredArgsConstructor
+public class RunningRecordExportService {
+    
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson"),
+        COLUMNAR("application/octet-stream", "rrc");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+    }
+    
+    /**
+     * Magic number at the start of a {@link Format#COLUMNAR} export ("RRC1").
+     */
+    public static final int COLUMNAR_MAGIC = 0x52524331;
+    
+    private static final int COLUMNAR_BLOCK_ROWS = 4096;
+    
+    private static final String[] RECORD_COLUMNS = {"runnerName", "recordDate", "runTimeMinutes", "distanceKm",
+        "cadence", "maxHeartRate", "maxSpeedKmh", "caloriesBurned"};
+    
+    private static final String[] STATISTICS_COLUMNS = {"runnerName", "period", "periodYear", "periodMonth", "periodWeek",
+        "totalRuns", "totalDistanceKm", "totalTimeMinutes", "totalCaloriesBurned", "averageSpeedKmh", "averagePaceMinutesPerKm"};
+    
+    private final RunningRecordRepository runningRecordRepository;
+    private final RunningStatisticsRepository runningStatisticsRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Export all records, or only one runner's records when {@code runnerName} is given.
+     * The CSV and NDJSON columns match the bulk import, so an export can be imported again.
+     */
+    @Transactional(readOnly = true)
+    public void exportRecords(String runnerName, Format format, OutputStream output) throws IOException {
+        try (Stream<RunningRecord> records = runnerName == null || runnerName.isBlank()
+                ? runningRecordRepository.streamAll()
+                : runningRecordRepository.streamByRunnerName(runnerName)) {
+            switch (format) {
+                case CSV -> writeRecordsCsv(records.iterator(), output);
+                case NDJSON -> writeRecordsNdjson(records.iterator(), output);
+                case COLUMNAR -> writeRecordsColumnar(records.iterator(), output);
+            }
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportStatistics(Format format, OutputStream output) throws IOException {
+        if (format == Format.COLUMNAR) {
+            throw new IllegalArgumentException("통계는 CSV 또는 NDJSON으로만 내보낼 수 있습니다.");
+        }
+        try (Stream<RunningStatistics> statistics = runningStatisticsRepository.streamAll()) {
+            Iterator<RunningStatistics> rows = statistics.iterator();
+            if (format == Format.CSV) {
+                Writer writer = csvWriter(output, STATISTICS_COLUMNS);
+                while (rows.hasNext()) {
+                    RunningStatistics stats = rows.next();
+                    writeCsvRow(writer, stats.getRunnerName(), stats.getPeriod(), stats.getPeriodYear(), stats.getPeriodMonth(),
+                        stats.getPeriodWeek(), stats.getTotalRuns(), stats.getTotalDistanceKm(), stats.getTotalTimeMinutes(),
+                        stats.getTotalCaloriesBurned(), stats.getAverageSpeedKmh(), stats.getAveragePaceMinutesPerKm());
+                    entityManager.detach(stats);
+                }
+                writer.flush();
+            } else {
+                JsonGenerator generator = ndjsonGenerator(output);
+                while (rows.hasNext()) {
+                    RunningStatistics stats = rows.next();
+                    generator.writeStartObject();
+                    generator.writeStringField("runnerName", stats.getRunnerName());
+                    generator.writeStringField("period", stats.getPeriod().name());
+                    writeNumberField(generator, "periodYear", stats.getPeriodYear());
+                    writeNumberField(generator, "periodMonth", stats.getPeriodMonth());
+                    writeNumberField(generator, "periodWeek", stats.getPeriodWeek());
+                    writeNumberField(generator, "totalRuns", stats.getTotalRuns());
+                    writeNumberField(generator, "totalDistanceKm", stats.getTotalDistanceKm());
+                    writeNumberField(generator, "totalTimeMinutes", stats.getTotalTimeMinutes());
+                    writeNumberField(generator, "totalCaloriesBurned", stats.getTotalCaloriesBurned());
+                    writeNumberField(generator, "averageSpeedKmh", stats.getAverageSpeedKmh());
+                    writeNumberField(generator, "averagePaceMinutesPerKm", stats.getAveragePaceMinutesPerKm());
+                    generator.writeEndObject();
+                    entityManager.detach(stats);
+                }
+                generator.flush();
+            }
+        }
+    }
+    
+    private void writeRecordsCsv(Iterator<RunningRecord> records, OutputStream output) throws IOException {
+        Writer writer = csvWriter(output, RECORD_COLUMNS);
+        while (records.hasNext()) {
+            RunningRecord record = records.next();
+            writeCsvRow(writer, record.getRunnerName(), record.getRecordDate(), record.getRunTimeMinutes(), record.getDistanceKm(),
+                record.getCadence(), record.getMaxHeartRate(), record.getMaxSpeedKmh(), record.getCaloriesBurned());
+            entityManager.detach(record);
+        }
+        writer.flush();
+    }
+    
+    private void writeRecordsNdjson(Iterator<RunningRecord> records, OutputStream output) throws IOException {
+        JsonGenerator generator = ndjsonGenerator(output);
+        while (records.hasNext()) {
+            RunningRecord record = records.next();
+            generator.writeStartObject();
+            generator.writeStringField("runnerName", record.getRunnerName());
+            generator.writeStringField("recordDate", record.getRecordDate().toString());
+            writeNumberField(generator, "runTimeMinutes", record.getRunTimeMinutes());
+            writeNumberField(generator, "distanceKm", record.getDistanceKm());
+            writeNumberField(generator, "cadence", record.getCadence());
+            writeNumberField(generator, "maxHeartRate", record.getMaxHeartRate());
+            writeNumberField(generator, "maxSpeedKmh", record.getMaxSpeedKmh());
+            writeNumberField(generator, "caloriesBurned", record.getCaloriesBurned());
+            generator.writeEndObject();
+            entityManager.detach(record);
+        }
+        generator.flush();
+    }
+    
+    /**
+     * Binary columnar layout (big-endian, {@link DataOutputStream} encoding):
+     * <pre>
+     * int magic ("RRC1"), then blocks of up to 4096 rows, each:
+     *   int rowCount
+     *   rowCount x UTF runnerName
+     *   rowCount x long recordDate (epoch seconds, UTC)
+     *   rowCount x int runTimeMinutes, rowCount x double distanceKm, rowCount x int cadence,
+     *   rowCount x int maxHeartRate, rowCount x double maxSpeedKmh, rowCount x double caloriesBurned
+     * terminated by a block with rowCount 0.
+     * </pre>
+     * Values of one column are stored together, so readers can scan a single metric without decoding whole rows.
+     */
+    private void writeRecordsColumnar(Iterator<RunningRecord> records, OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output, 64 * 1024));
+        out.writeInt(COLUMNAR_MAGIC);
+        
+        String[] runnerNames = new String[COLUMNAR_BLOCK_ROWS];
+        long[] recordDates = new long[COLUMNAR_BLOCK_ROWS];
+        int[] runTimeMinutes = new int[COLUMNAR_BLOCK_ROWS];
+        double[] distanceKm = new double[COLUMNAR_BLOCK_ROWS];
+        int[] cadence = new int[COLUMNAR_BLOCK_ROWS];
+        int[] maxHeartRate = new int[COLUMNAR_BLOCK_ROWS];
+        double[] maxSpeedKmh = new double[COLUMNAR_BLOCK_ROWS];
+        double[] caloriesBurned = new double[COLUMNAR_BLOCK_ROWS];
+        
+        int count = 0;
+        while (records.hasNext()) {
+            RunningRecord record = records.next();
+            runnerNames[count] = record.getRunnerName();
+            recordDates[count] = record.getRecordDate().toEpochSecond(ZoneOffset.UTC);
+            runTimeMinutes[count] = record.getRunTimeMinutes();
+            distanceKm[count] = record.getDistanceKm();
+            cadence[count] = record.getCadence();
+            maxHeartRate[count] = record.getMaxHeartRate();
+            maxSpeedKmh[count] = record.getMaxSpeedKmh();
+            caloriesBurned[count] = record.getCaloriesBurned();
+            entityManager.detach(record);
+            
+            if (++count == COLUMNAR_BLOCK_ROWS) {
+                writeColumnarBlock(out, count, runnerNames, recordDates, runTimeMinutes, distanceKm, cadence, maxHeartRate, maxSpeedKmh, caloriesBurned);
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            writeColumnarBlock(out, count, runnerNames, recordDates, runTimeMinutes, distanceKm, cadence, maxHeartRate, maxSpeedKmh, caloriesBurned);
+        }
+        out.writeInt(0);
+        out.flush();
+    }
+    
+    private static void writeColumnarBlock(DataOutputStream out, int count, String[] runnerNames, long[] recordDates,
+                                           int[] runTimeMinutes, double[] distanceKm, int[] cadence, int[] maxHeartRate,
+                                           double[] maxSpeedKmh, double[] caloriesBurned) throws IOException {
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            out.writeUTF(runnerNames[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeLong(recordDates[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeInt(runTimeMinutes[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeDouble(distanceKm[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeInt(cadence[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeInt(maxHeartRate[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeDouble(maxSpeedKmh[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeDouble(caloriesBurned[i]);
+        }
+    }
+    
+    private static Writer csvWriter(OutputStream output, String[] columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+        return writer;
+    }
+    
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+    
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    
+    private JsonGenerator ndjsonGenerator(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        // 응답 스트림은 서블릿 컨테이너가 닫는다
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return generator;
+    }
+    
+    private static void writeNumberField(JsonGenerator generator, String name, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else if (value instanceof Integer intValue) {
+            generator.writeNumberField(name, intValue);
+        } else {
+            generator.writeNumberField(name, value.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.ImportResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line bulk import. Runs only when {@code runners.import.file} is set, imports the file and exits:
+ * <pre>
+ * java -jar runners.jar --spring.main.web-application-type=none --runners.import.file=/data/club-history.csv
+ * </pre>
+ * Files ending in {@code .ndjson}, {@code .jsonl} or {@code .json} are read as NDJSON, everything else as CSV.
+ */
+@Component
+@ConditionalOnProperty(name = "runners.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class RunningRecordImportRunner implements ApplicationRunner {
+    
+    private final RunningRecordImportService runningRecordImportService;
+    private final ApplicationContext applicationContext;
+    
+    @Value("${runners.import.file}")
+    private String file;
+    
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        RunningRecordImportService.Format format = RunningRecordImportService.Format.fromFileName(path.getFileName().toString());
+        log.info("Importing running records from {} as {}", path, format);
+        
+        ImportResult result;
+        try (InputStream input = Files.newInputStream(path)) {
+            result = runningRecordImportService.importRecords(input, format);
+        }
+        result.errors().forEach(error -> log.warn("Rejected row - {}", error));
+        log.info("Import finished: {} rows imported, {} rejected, {} rows/s",
+            result.importedRows(), result.rejectedRows(), Math.round(result.getRowsPerSecond()));
+        
+        // 스케줄러가 JVM을 붙잡지 않도록 가져오기가 끝나면 종료
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
@@ -0,0 +1,298 @@
+package com.run.runners.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.run.runners.dto.ImportResult;
+import com.run.runners.dto.RunningRecordImportRow;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningRecordBatchWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams running records from a CSV or NDJSON source into the database.
+ * <p>
+ * The input is read line by line, so files of any size are imported with constant memory. Valid rows are
+ * collected into batches of {@code runners.import.batch-size}, their calories are computed for the whole batch
+ * and they are inserted through JDBC batches, one transaction per batch. Invalid rows are skipped and reported.
+ * Once all rows are in, statistics are regenerated only for the runners and periods the import touched.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RunningRecordImportService {
+    
+    public enum Format {
+        CSV, NDJSON;
+        
+        public static Format fromFileName(String fileName) {
+            String lower = fileName.toLowerCase(Locale.ROOT);
+            return lower.endsWith(".ndjson") || lower.endsWith(".jsonl") || lower.endsWith(".json") ? NDJSON : CSV;
+        }
+    }
+    
+    /**
+     * CSV header columns; the header line may list them in any order.
+     */
+    public static final List<String> CSV_COLUMNS = List.of(
+        "runnerName", "recordDate", "runTimeMinutes", "distanceKm", "cadence", "maxHeartRate", "maxSpeedKmh");
+    
+    private static final int MAX_REPORTED_ERRORS = 100;
+    
+    private record BucketStart(StatisticsPeriod period, LocalDateTime start) {
+    }
+    
+    private final RunningRecordBatchWriter runningRecordBatchWriter;
+    private final RunningStatisticsService runningStatisticsService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${runners.import.batch-size:1000}")
+    private int batchSize;
+    
+    public ImportResult importRecords(InputStream input, Format format) throws IOException {
+        long startedAt = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        List<RunningRecord> batch = new ArrayList<>(batchSize);
+        int[] runTimeMinutes = new int[batchSize];
+        double[] distanceKm = new double[batchSize];
+        double[] calories = new double[batchSize];
+        
+        Map<BucketStart, Set<String>> affectedRunners = new HashMap<>();
+        List<String> errors = new ArrayList<>();
+        long imported = 0;
+        long rejected = 0;
+        
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, Integer> csvColumns = null;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            long recordLine = lineNumber;
+            if (format == Format.CSV) {
+                // 따옴표 안의 줄바꿈은 값의 일부이므로 따옴표가 닫힐 때까지 다음 줄을 이어 붙인다
+                String next;
+                while (hasOpenQuote(line) && (next = reader.readLine()) != null) {
+                    lineNumber++;
+                    line = line + "\n" + next;
+                }
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvColumns == null) {
+                csvColumns = parseCsvHeader(line);
+                continue;
+            }
+            
+            try {
+                RunningRecordImportRow row = format == Format.CSV
+                    ? parseCsvRow(line, csvColumns)
+                    : objectMapper.readValue(line, RunningRecordImportRow.class);
+                RunningRecord record = toRunningRecord(row);
+                batch.add(record);
+                for (StatisticsPeriod period : StatisticsPeriod.values()) {
+                    BucketStart bucket = new BucketStart(period, PeriodRange.of(period, record.getRecordDate()).start());
+                    affectedRunners.computeIfAbsent(bucket, key -> new HashSet<>()).add(record.getRunnerName());
+                }
+            } catch (IllegalArgumentException | DateTimeException | JsonProcessingException e) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(recordLine + "행: " + e.getMessage());
+                }
+            }
+            
+            if (batch.size() == batchSize) {
+                imported += insertBatch(batch, runTimeMinutes, distanceKm, calories, transactionTemplate);
+                log.debug("Imported {} running records so far", imported);
+            }
+        }
+        imported += insertBatch(batch, runTimeMinutes, distanceKm, calories, transactionTemplate);
+        
+        long insertedAt = System.nanoTime();
+        affectedRunners.forEach((bucket, runnerNames) ->
+            runningStatisticsService.regenerateStatistics(bucket.period(), bucket.start(), runnerNames));
+        
+        ImportResult result = new ImportResult(imported, rejected, errors, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("Imported {} running records ({} rejected) in {} ms ({} rows/s); statistics of {} buckets regenerated in {} ms",
+            imported, rejected, result.elapsedMillis(), Math.round(result.getRowsPerSecond()),
+            affectedRunners.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - insertedAt));
+        return result;
+    }
+    
+    private long insertBatch(List<RunningRecord> batch, int[] runTimeMinutes, double[] distanceKm, double[] calories,
+                             TransactionTemplate transactionTemplate) {
+        int count = batch.size();
+        if (count == 0) {
+            return 0;
+        }
+        // 칼로리는 배치 단위로 한 번에 계산 (엔티티 콜백은 JDBC 삽입에서 실행되지 않음)
+        for (int i = 0; i < count; i++) {
+            runTimeMinutes[i] = batch.get(i).getRunTimeMinutes();
+            distanceKm[i] = batch.get(i).getDistanceKm();
+        }
+        RunningRecord.calculateCalories(runTimeMinutes, distanceKm, calories, count);
+        for (int i = 0; i < count; i++) {
+            batch.get(i).setCaloriesBurned(calories[i]);
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> runningRecordBatchWriter.insert(batch));
+        batch.clear();
+        return count;
+    }
+    
+    private RunningRecord toRunningRecord(RunningRecordImportRow row) {
+        if (row.runnerName() == null || row.runnerName().isBlank()) {
+            throw new IllegalArgumentException("러너 이름이 없습니다.");
+        }
+        if (row.recordDate() == null || row.recordDate().isBlank()) {
+            throw new IllegalArgumentException("기록 날짜가 없습니다.");
+        }
+        RunningRecord record = new RunningRecord();
+        record.setRunnerName(row.runnerName().trim());
+        record.setRecordDate(parseRecordDate(row.recordDate().trim()));
+        record.setRunTimeMinutes(requirePositive(row.runTimeMinutes(), "달리기 시간"));
+        record.setDistanceKm(requirePositive(row.distanceKm(), "거리"));
+        record.setCadence(requireNonNegative(row.cadence(), "케이던스"));
+        record.setMaxHeartRate(requireNonNegative(row.maxHeartRate(), "최대 심박수"));
+        record.setMaxSpeedKmh(requireNonNegative(row.maxSpeedKmh(), "최고 속도"));
+        return record;
+    }
+    
+    private static LocalDateTime parseRecordDate(String value) {
+        return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+    }
+    
+    private static <T extends Number> T requirePositive(T value, String name) {
+        if (value == null || value.doubleValue() <= 0) {
+            throw new IllegalArgumentException(name + " 값은 0보다 커야 합니다.");
+        }
+        return value;
+    }
+    
+    private static <T extends Number> T requireNonNegative(T value, String name) {
+        if (value == null || value.doubleValue() < 0) {
+            throw new IllegalArgumentException(name + " 값이 없거나 음수입니다.");
+        }
+        return value;
+    }
+    
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        String[] names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            for (String column : CSV_COLUMNS) {
+                if (column.equalsIgnoreCase(names[i])) {
+                    columns.put(column, i);
+                }
+            }
+        }
+        if (columns.size() != CSV_COLUMNS.size()) {
+            throw new IllegalArgumentException("CSV 헤더에 필요한 컬럼이 없습니다: " + CSV_COLUMNS);
+        }
+        return columns;
+    }
+    
+    private static RunningRecordImportRow parseCsvRow(String line, Map<String, Integer> columns) {
+        String[] values = splitCsv(line);
+        if (values.length < columns.size()) {
+            throw new IllegalArgumentException("컬럼 수가 부족합니다.");
+        }
+        return new RunningRecordImportRow(
+            value(values, columns, "runnerName"),
+            value(values, columns, "recordDate"),
+            toInteger(value(values, columns, "runTimeMinutes")),
+            toDouble(value(values, columns, "distanceKm")),
+            toInteger(value(values, columns, "cadence")),
+            toInteger(value(values, columns, "maxHeartRate")),
+            toDouble(value(values, columns, "maxSpeedKmh")));
+    }
+    
+    /**
+     * Split one CSV record (RFC 4180): a value in double quotes may contain commas, line breaks and doubled
+     * quotes ({@code ""}) standing for one quote, as written by {@code RunningRecordExportService}. Whitespace
+     * around a value is dropped, inside quotes it is kept.
+     */
+    private static String[] splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == ',') {
+                values.add(quoted ? value.toString() : value.toString().trim());
+                value.setLength(0);
+                quoted = false;
+            } else if (c == '"' && !quoted && value.toString().isBlank()) {
+                value.setLength(0);
+                inQuotes = true;
+                quoted = true;
+            } else if (!quoted || !Character.isWhitespace(c)) {
+                value.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        values.add(quoted ? value.toString() : value.toString().trim());
+        return values.toArray(String[]::new);
+    }
+    
+    // 값 안의 따옴표는 두 번 쓰므로 따옴표 개수가 홀수면 아직 닫히지 않은 값이 있다
+    private static boolean hasOpenQuote(String line) {
+        int quotes = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+    
+    private static String value(String[] values, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < values.length && !values[index].isEmpty() ? values[index] : null;
+    }
+    
+    private static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+    
+    private static Double toDouble(String value) {
+        return value == null ? null : Double.valueOf(value);
+    }
+}
@@ -1,8 +1,12 @@
 package com.run.runners.service;
 
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.RunningRecord;
 import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningTrackRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,16 +20,29 @@ import java.util.Optional;
 public class RunningRecordService {
     
     private final RunningRecordRepository runningRecordRepository;
+    private final RunningTrackRepository runningTrackRepository;
+    private final RunningStatisticsService runningStatisticsService;
     
     @Transactional
     public RunningRecord saveRunningRecord(RunningRecord runningRecord) {
-        return runningRecordRepository.save(runningRecord);
+        RunningRecord saved = runningRecordRepository.save(runningRecord);
+        runningStatisticsService.applyRecordAdded(saved);
+        return saved;
     }
     
     public List<RunningRecord> getAllRunningRecords() {
         return runningRecordRepository.findAllOrderByRecordDateDesc();
     }
     
+    public CursorPage<RunningRecord> getRunningRecordPage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<RunningRecord> rows = after == null
+            ? runningRecordRepository.findPage(limit)
+            : runningRecordRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, runningRecord -> new PageCursor(runningRecord.getRecordDate(), runningRecord.getId()));
+    }
+    
     public Optional<RunningRecord> getRunningRecordById(Long id) {
         return runningRecordRepository.findById(id);
     }
@@ -73,13 +90,46 @@ public class RunningRecordService {
         return (totalDistance / totalRunTime) * 60; // km/h
     }
     
+    // 기록 행을 잠그고 읽어 같은 기록의 동시 수정/삭제가 이전 값을 통계에서 두 번 빼지 않게 한다
     @Transactional
     public void deleteRunningRecord(Long id) {
-        runningRecordRepository.deleteById(id);
+        Optional<RunningRecord> existing = runningRecordRepository.findByIdForUpdate(id);
+        if (existing.isEmpty()) {
+            return;
+        }
+        RunningRecord previous = snapshotOf(existing.get());
+        runningTrackRepository.deleteByRunningRecordId(id);
+        runningRecordRepository.delete(existing.get());
+        runningRecordRepository.flush();
+        runningStatisticsService.applyRecordRemoved(previous);
     }
     
     @Transactional
     public RunningRecord updateRunningRecord(RunningRecord runningRecord) {
-        return runningRecordRepository.save(runningRecord);
+        Optional<RunningRecord> existing = runningRecord.getId() != null
+            ? runningRecordRepository.findByIdForUpdate(runningRecord.getId())
+            : Optional.empty();
+        if (existing.isEmpty()) {
+            return saveRunningRecord(runningRecord);
+        }
+        // 병합 시 기존 엔티티가 덮어써지므로 변경 전 값을 먼저 복사해 둔다
+        RunningRecord previous = snapshotOf(existing.get());
+        RunningRecord updated = runningRecordRepository.saveAndFlush(runningRecord);
+        runningStatisticsService.applyRecordUpdated(previous, updated);
+        return updated;
+    }
+    
+    private static RunningRecord snapshotOf(RunningRecord record) {
+        RunningRecord snapshot = new RunningRecord();
+        snapshot.setId(record.getId());
+        snapshot.setRunnerName(record.getRunnerName());
+        snapshot.setRunTimeMinutes(record.getRunTimeMinutes());
+        snapshot.setDistanceKm(record.getDistanceKm());
+        snapshot.setCadence(record.getCadence());
+        snapshot.setMaxHeartRate(record.getMaxHeartRate());
+        snapshot.setMaxSpeedKmh(record.getMaxSpeedKmh());
+        snapshot.setRecordDate(record.getRecordDate());
+        snapshot.setCaloriesBurned(record.getCaloriesBurned());
+        return snapshot;
     }
 }
\ No newline at end of file
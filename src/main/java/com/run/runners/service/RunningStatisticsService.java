@@ -1,119 +1,512 @@
 package com.run.runners.service;
 
+import com.run.runners.config.CacheConfig;
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.LeaderboardEntry;
+import com.run.runners.dto.RunningRecordAggregate;
 import com.run.runners.entity.RunningRecord;
 import com.run.runners.entity.RunningStatistics;
 import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.entity.RunningTrack;
 import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningStatisticsBatchWriter;
 import com.run.runners.repository.RunningStatisticsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.temporal.IsoFields;
-import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RunningStatisticsService {
     
+    // 증분 갱신에서 두 버킷을 잠글 때의 순서 (교착 방지)
+    private static final Comparator<RunningStatistics> BUCKET_ORDER = Comparator.comparing(RunningStatistics::getRunnerName)
+        .thenComparing(RunningStatistics::getPeriodYear)
+        .thenComparing(RunningStatistics::getPeriodMonth)
+        .thenComparing(RunningStatistics::getPeriodWeek);
+    
     private final RunningRecordRepository runningRecordRepository;
     private final RunningStatisticsRepository runningStatisticsRepository;
+    private final RunningStatisticsBatchWriter runningStatisticsBatchWriter;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+    private final LeaderboardService leaderboardService;
+    private final MeterRegistry meterRegistry;
     
-    @Scheduled(fixedDelay = 600000) // Every 10 minutes (600,000 milliseconds)
-    @Transactional
+    @Qualifier("statisticsTaskExecutor")
+    private final AsyncTaskExecutor statisticsTaskExecutor;
+    
+    @Value("${runners.statistics.partition-size:500}")
+    private int partitionSize;
+    
+    @Value("${runners.statistics.partition-max-attempts:3}")
+    private int partitionMaxAttempts;
+    
+    // 러너별 완료 로그는 DEBUG에서 N명마다 한 번만 남긴다
+    @Value("${runners.statistics.runner-log-sample-rate:100}")
+    private int runnerLogSampleRate;
+    
+    private final AtomicLong lastCompletedAtMillis = new AtomicLong(System.currentTimeMillis());
+    private Timer jobTimer;
+    private Counter failedPartitionCounter;
+    
+    @PostConstruct
+    void registerMetrics() {
+        jobTimer = Timer.builder("runners.statistics.job")
+            .description("Duration of a full statistics rebuild")
+            .register(meterRegistry);
+        failedPartitionCounter = Counter.builder("runners.statistics.job.failed.partitions")
+            .description("Statistics partitions that failed after all retries")
+            .register(meterRegistry);
+        // 마지막으로 성공한 전체 재계산 이후 경과 시간 (기동 직후에는 기동 시점 기준)
+        Gauge.builder("runners.statistics.job.lag", lastCompletedAtMillis,
+                completedAt -> (System.currentTimeMillis() - completedAt.get()) / 1000.0)
+            .description("Seconds since the last completed statistics reconciliation")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * Progress callback of a statistics rebuild: called once with 0 before the first partition starts
+     * and after every finished partition with the number of runners done so far.
+     */
+    public interface ProgressListener {
+        void onProgress(int completedRunners, int totalRunners);
+    }
+    
+    /**
+     * Full rebuild of the current week, month and year for every runner.
+     * Statistics are kept up to date incrementally by {@link #applyRecordAdded} and
+     * {@link #applyRecordRemoved}, so this job only reconciles drift (e.g. rounding of averages).
+     * The periodic run is submitted by {@link StatisticsJobService#reconcile()} so it never overlaps a rebuild
+     * requested by a user; this method runs the same rebuild synchronously on the calling thread.
+     */
     public void generateStatistics() {
         log.info("Starting automatic statistics generation...");
+        generateStatistics(null, null, LocalDateTime.now(), RunnerShard.ALL, (completed, total) -> { });
+    }
+    
+    /**
+     * Rebuild the buckets containing {@code date}. {@code runnerName} and {@code period} narrow the rebuild
+     * to one runner and/or one period; {@code null} means all runners / all periods. When all runners are rebuilt,
+     * only those in {@code shard} are processed, so several nodes can split one reconciliation.
+     * <p>
+     * Runners are split into partitions of {@code runners.statistics.partition-size} that are processed
+     * on the statistics worker pool, each in its own short transaction and retried independently.
+     *
+     * @return the number of partitions that still failed after all retries
+     */
+    public int generateStatistics(String runnerName, StatisticsPeriod period, LocalDateTime date, RunnerShard shard,
+                                  ProgressListener listener) {
+        long startedAt = System.nanoTime();
+        boolean fullRebuild = runnerName == null && period == null;
+        
+        List<String> runnerNames = runnerName != null
+            ? List.of(runnerName)
+            : runningRecordRepository.findDistinctRunnerNames().stream().filter(shard::contains).toList();
+        List<StatisticsPeriod> periods = period != null ? List.of(period) : List.of(StatisticsPeriod.values());
+        listener.onProgress(0, runnerNames.size());
+        
+        List<List<String>> partitions = partition(runnerNames, partitionSize);
+        AtomicInteger completedRunners = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            List<String> partition = partitions.get(i);
+            futures.add(statisticsTaskExecutor.submit(() -> {
+                processPartition(partitionIndex, partitions.size(), partition, periods, date, completedRunners, runnerNames.size());
+                listener.onProgress(completedRunners.get(), runnerNames.size());
+            }));
+        }
         
-        List<String> runnerNames = runningRecordRepository.findDistinctRunnerNames();
-        LocalDateTime now = LocalDateTime.now();
+        int failedPartitions = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for statistics partitions");
+                // 기다리지 못한 파티션은 실패로 센다
+                return failedPartitions + futures.size() - i;
+            } catch (ExecutionException e) {
+                failedPartitions++;
+            }
+        }
         
-        for (String runnerName : runnerNames) {
+        failedPartitionCounter.increment(failedPartitions);
+        if (fullRebuild) {
+            jobTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (failedPartitions == 0) {
+                lastCompletedAtMillis.set(System.currentTimeMillis());
+            }
+        }
+        
+        log.info("Completed statistics generation (runner {}, period {}, shard {}/{}): {} runners, {} partitions ({} failed) in {} ms",
+            runnerName != null ? runnerName : "all", period != null ? period : "all", shard.index() + 1, shard.count(),
+            runnerNames.size(), partitions.size(), failedPartitions, elapsedMillis(startedAt));
+        return failedPartitions;
+    }
+    
+    private void processPartition(int partitionIndex, int partitionCount, List<String> runnerNames,
+                                  List<StatisticsPeriod> periods, LocalDateTime date,
+                                  AtomicInteger completedRunners, int totalRunners) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long startedAt = System.nanoTime();
+        
+        for (int attempt = 1; ; attempt++) {
             try {
-                generateWeeklyStatistics(runnerName, now);
-                generateMonthlyStatistics(runnerName, now);
-                generateYearlyStatistics(runnerName, now);
-                log.info("Generated statistics for runner: {}", runnerName);
-            } catch (Exception e) {
-                log.error("Error generating statistics for runner: {}", runnerName, e);
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (StatisticsPeriod period : periods) {
+                        generatePeriodStatistics(runnerNames, period, date);
+                    }
+                    if (log.isDebugEnabled()) {
+                        for (int i = 0; i < runnerNames.size(); i += Math.max(1, runnerLogSampleRate)) {
+                            log.debug("Generated statistics for runner: {} (1 of every {} logged)", runnerNames.get(i), runnerLogSampleRate);
+                        }
+                    }
+                });
+                runnerNames.forEach(this::evictCachedStatistics);
+                break;
+            } catch (RuntimeException e) {
+                if (attempt >= partitionMaxAttempts) {
+                    log.error("Error generating statistics for partition {}/{} after {} attempts (runners {}..{})",
+                        partitionIndex + 1, partitionCount, attempt,
+                        runnerNames.get(0), runnerNames.get(runnerNames.size() - 1), e);
+                    throw e;
+                }
+                log.warn("Retrying statistics partition {}/{} (attempt {} failed: {})",
+                    partitionIndex + 1, partitionCount, attempt, e.getMessage());
             }
         }
         
-        log.info("Completed automatic statistics generation");
+        int completed = completedRunners.addAndGet(runnerNames.size());
+        log.info("Statistics partition {}/{} done: {} runners in {} ms ({}/{} runners)",
+            partitionIndex + 1, partitionCount, runnerNames.size(), elapsedMillis(startedAt), completed, totalRunners);
+    }
+    
+    private static List<List<String>> partition(List<String> runnerNames, int size) {
+        List<List<String>> partitions = new ArrayList<>();
+        for (int from = 0; from < runnerNames.size(); from += size) {
+            partitions.add(runnerNames.subList(from, Math.min(from + size, runnerNames.size())));
+        }
+        return partitions;
+    }
+    
+    private static long elapsedMillis(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+    
+    /**
+     * Recalculate the bucket of {@code period} containing {@code date} for the given runners only,
+     * e.g. after a bulk import. Runners are processed in partitions, each in its own transaction.
+     */
+    public void regenerateStatistics(StatisticsPeriod period, LocalDateTime date, Collection<String> runnerNames) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (List<String> partition : partition(new ArrayList<>(runnerNames), partitionSize)) {
+            transactionTemplate.executeWithoutResult(status -> generatePeriodStatistics(partition, period, date));
+            partition.forEach(this::evictCachedStatistics);
+        }
     }
     
     @Transactional
     public void generateWeeklyStatistics(String runnerName, LocalDateTime now) {
-        int year = now.getYear();
-        int week = now.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-        
-        List<RunningRecord> weeklyRecords = runningRecordRepository.findByRunnerNameAndWeek(runnerName, year, week);
-        
-        Optional<RunningStatistics> existingStats = runningStatisticsRepository
-            .findByRunnerNameAndPeriodAndPeriodYearAndPeriodWeek(runnerName, StatisticsPeriod.WEEKLY, year, week);
-        
-        RunningStatistics stats = existingStats.orElse(new RunningStatistics());
-        
-        stats.setRunnerName(runnerName);
-        stats.setPeriod(StatisticsPeriod.WEEKLY);
-        stats.setPeriodYear(year);
-        stats.setPeriodWeek(week);
-        
-        calculateStatistics(stats, weeklyRecords);
-        
-        runningStatisticsRepository.save(stats);
+        recalculateStatistics(runnerName, StatisticsPeriod.WEEKLY, now);
     }
     
     @Transactional
     public void generateMonthlyStatistics(String runnerName, LocalDateTime now) {
-        int year = now.getYear();
-        int month = now.getMonthValue();
-        
-        List<RunningRecord> monthlyRecords = runningRecordRepository.findByRunnerNameAndMonth(runnerName, year, month);
-        
-        Optional<RunningStatistics> existingStats = runningStatisticsRepository
-            .findByRunnerNameAndPeriodAndPeriodYearAndPeriodMonth(runnerName, StatisticsPeriod.MONTHLY, year, month);
-        
-        RunningStatistics stats = existingStats.orElse(new RunningStatistics());
-        
-        stats.setRunnerName(runnerName);
-        stats.setPeriod(StatisticsPeriod.MONTHLY);
-        stats.setPeriodYear(year);
-        stats.setPeriodMonth(month);
-        
-        calculateStatistics(stats, monthlyRecords);
-        
-        runningStatisticsRepository.save(stats);
+        recalculateStatistics(runnerName, StatisticsPeriod.MONTHLY, now);
     }
     
     @Transactional
     public void generateYearlyStatistics(String runnerName, LocalDateTime now) {
-        int year = now.getYear();
-        
-        List<RunningRecord> yearlyRecords = runningRecordRepository.findByRunnerNameAndYear(runnerName, year);
+        recalculateStatistics(runnerName, StatisticsPeriod.YEARLY, now);
+    }
+    
+    /**
+     * Recalculate one period bucket for a partition of runners. The records are aggregated by the
+     * database in a single query and all rows are upserted on the bucket key through JDBC batches
+     * instead of one find/save pair per runner.
+     */
+    private void generatePeriodStatistics(List<String> runnerNames, StatisticsPeriod period, LocalDateTime date) {
+        Map<String, RunningRecordAggregate> aggregates = aggregate(runnerNames, period, date);
+        
+        List<RunningStatistics> statistics = new ArrayList<>(runnerNames.size());
+        for (String runnerName : runnerNames) {
+            RunningStatistics stats = newStatistics(runnerName, period, date);
+            calculateStatistics(stats, aggregates.get(runnerName));
+            statistics.add(stats);
+        }
         
-        Optional<RunningStatistics> existingStats = runningStatisticsRepository
-            .findByRunnerNameAndPeriodAndPeriodYear(runnerName, StatisticsPeriod.YEARLY, year);
+        runningStatisticsBatchWriter.upsert(statistics);
+        statistics.forEach(leaderboardService::update);
+    }
+    
+    private Map<String, RunningRecordAggregate> aggregate(List<String> runnerNames, StatisticsPeriod period, LocalDateTime date) {
+        PeriodRange range = PeriodRange.of(period, date);
         
-        RunningStatistics stats = existingStats.orElse(new RunningStatistics());
+        Map<String, RunningRecordAggregate> aggregates = new HashMap<>();
+        for (RunningRecordAggregate aggregate : runningRecordRepository
+                .aggregateByRunnerNamesAndRecordDateRange(runnerNames, range.start(), range.end())) {
+            aggregates.put(aggregate.runnerName(), aggregate);
+        }
+        return aggregates;
+    }
+    
+    /**
+     * Apply a newly saved record to the weekly, monthly and yearly statistics it belongs to
+     * without reloading the runner's other records.
+     * <p>
+     * Each bucket row is locked ({@code SELECT ... FOR UPDATE}) before it is read, so concurrent saves for the
+     * same runner are applied one after another instead of overwriting each other's totals.
+     */
+    @Transactional
+    public void applyRecordAdded(RunningRecord record) {
+        evictCachedStatistics(record.getRunnerName());
+        for (StatisticsPeriod period : StatisticsPeriod.values()) {
+            addToBucket(record, period);
+        }
+    }
+    
+    /**
+     * Remove a record that has already been deleted (or changed) from the statistics it belonged to.
+     * Sums are subtracted in place; a bucket is only recalculated from its records when the removed
+     * record may have been one of its maxima.
+     */
+    @Transactional
+    public void applyRecordRemoved(RunningRecord record) {
+        evictCachedStatistics(record.getRunnerName());
+        for (StatisticsPeriod period : StatisticsPeriod.values()) {
+            removeFromBucket(record, period);
+        }
+    }
+    
+    /**
+     * Apply an update of a record. {@code previous} must hold the values the record had before the update,
+     * and the updated record must already be flushed. When the removal recalculates a bucket from the stored
+     * records, that bucket already contains the updated record and it is not added a second time.
+     */
+    @Transactional
+    public void applyRecordUpdated(RunningRecord previous, RunningRecord updated) {
+        evictCachedStatistics(previous.getRunnerName());
+        evictCachedStatistics(updated.getRunnerName());
+        for (StatisticsPeriod period : StatisticsPeriod.values()) {
+            lockBuckets(period, previous, updated);
+            boolean recalculated = removeFromBucket(previous, period);
+            // 재계산은 이미 flush된 변경 후 기록을 포함하므로 같은 버킷이면 다시 더하지 않는다
+            if (!(recalculated && isSameBucket(previous, updated, period))) {
+                addToBucket(updated, period);
+            }
+        }
+    }
+    
+    /**
+     * Lower the personal bests of the record's buckets to the best efforts measured on its GPS track.
+     */
+    @Transactional
+    public void applyPersonalBests(RunningRecord record, RunningTrack track) {
+        evictCachedStatistics(record.getRunnerName());
+        for (StatisticsPeriod period : StatisticsPeriod.values()) {
+            RunningStatistics stats = lockBucket(record.getRunnerName(), period, record.getRecordDate());
+            stats.setBest1kSeconds(minOf(stats.getBest1kSeconds(), track.getBest1kSeconds()));
+            stats.setBest5kSeconds(minOf(stats.getBest5kSeconds(), track.getBest5kSeconds()));
+            stats.setBest10kSeconds(minOf(stats.getBest10kSeconds(), track.getBest10kSeconds()));
+            stats.setBestHalfMarathonSeconds(minOf(stats.getBestHalfMarathonSeconds(), track.getBestHalfMarathonSeconds()));
+            stats.setBestMarathonSeconds(minOf(stats.getBestMarathonSeconds(), track.getBestMarathonSeconds()));
+            runningStatisticsRepository.save(stats);
+        }
+    }
+    
+    private void addToBucket(RunningRecord record, StatisticsPeriod period) {
+        RunningStatistics stats = lockBucket(record.getRunnerName(), period, record.getRecordDate());
+        addRecord(stats, record);
+        runningStatisticsRepository.save(stats);
+        leaderboardService.update(stats);
+    }
+    
+    /**
+     * @return {@code true} if the bucket was recalculated from the stored records instead of being adjusted
+     */
+    private boolean removeFromBucket(RunningRecord record, StatisticsPeriod period) {
+        Optional<RunningStatistics> existingStats = findLockedBucket(newStatistics(record.getRunnerName(), period, record.getRecordDate()));
+        if (existingStats.isEmpty()) {
+            return false;
+        }
+        RunningStatistics stats = existingStats.get();
+        if (isMaximumContributor(stats, record)) {
+            recalculateStatistics(record.getRunnerName(), period, record.getRecordDate());
+            return true;
+        }
+        removeRecord(stats, record);
+        runningStatisticsRepository.save(stats);
+        leaderboardService.update(stats);
+        return false;
+    }
+    
+    private static boolean isSameBucket(RunningRecord previous, RunningRecord updated, StatisticsPeriod period) {
+        return previous.getRunnerName().equals(updated.getRunnerName())
+            && PeriodRange.of(period, previous.getRecordDate()).equals(PeriodRange.of(period, updated.getRecordDate()));
+    }
+    
+    /**
+     * Recalculate a single runner's bucket through the persistence context, so that entities
+     * already loaded in the current transaction stay consistent with the database.
+     */
+    private void recalculateStatistics(String runnerName, StatisticsPeriod period, LocalDateTime date) {
+        evictCachedStatistics(runnerName);
+        // 버킷을 먼저 잠근 뒤 집계해야 잠금을 기다리던 다른 저장의 기록이 빠지거나 두 번 들어가지 않는다
+        RunningStatistics stats = lockBucket(runnerName, period, date);
+        RunningRecordAggregate aggregate = aggregate(List.of(runnerName), period, date).get(runnerName);
+        
+        calculateStatistics(stats, aggregate);
         
+        runningStatisticsRepository.save(stats);
+        leaderboardService.update(stats);
+    }
+    
+    /**
+     * Lock the two buckets touched by an update in a fixed order, so that two updates moving records
+     * between the same buckets in opposite directions cannot deadlock.
+     */
+    private void lockBuckets(StatisticsPeriod period, RunningRecord previous, RunningRecord updated) {
+        List<RunningStatistics> buckets = new ArrayList<>(List.of(
+            newStatistics(previous.getRunnerName(), period, previous.getRecordDate()),
+            newStatistics(updated.getRunnerName(), period, updated.getRecordDate())));
+        buckets.sort(BUCKET_ORDER);
+        for (RunningStatistics bucket : buckets) {
+            lockBucket(bucket);
+        }
+    }
+    
+    /**
+     * Lock the runner's bucket of {@code period} containing {@code date}. A missing bucket is inserted empty
+     * first; the unique bucket key turns concurrent inserts of the same bucket into one row.
+     */
+    private RunningStatistics lockBucket(String runnerName, StatisticsPeriod period, LocalDateTime date) {
+        return lockBucket(newStatistics(runnerName, period, date));
+    }
+    
+    private RunningStatistics lockBucket(RunningStatistics bucket) {
+        runningStatisticsBatchWriter.insertIfAbsent(bucket);
+        return findLockedBucket(bucket)
+            .orElseThrow(() -> new IllegalStateException("Statistics bucket was not created: " + bucket.getRunnerName() + " " + bucket.getPeriod()));
+    }
+    
+    private Optional<RunningStatistics> findLockedBucket(RunningStatistics bucket) {
+        return runningStatisticsRepository.findBucketForUpdate(bucket.getRunnerName(), bucket.getPeriod(),
+            bucket.getPeriodYear(), bucket.getPeriodMonth(), bucket.getPeriodWeek());
+    }
+    
+    private RunningStatistics newStatistics(String runnerName, StatisticsPeriod period, LocalDateTime date) {
+        RunningStatistics stats = new RunningStatistics();
         stats.setRunnerName(runnerName);
-        stats.setPeriod(StatisticsPeriod.YEARLY);
-        stats.setPeriodYear(year);
+        stats.setPeriod(period);
+        stats.setPeriodYear(date.getYear());
+        if (period == StatisticsPeriod.WEEKLY) {
+            stats.setPeriodYear(date.get(IsoFields.WEEK_BASED_YEAR));
+            stats.setPeriodWeek(date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        } else if (period == StatisticsPeriod.MONTHLY) {
+            stats.setPeriodMonth(date.getMonthValue());
+        }
+        return stats;
+    }
+    
+    private boolean isMaximumContributor(RunningStatistics stats, RunningRecord record) {
+        // 개인 최고 기록은 기록 값만으로 빼낼 수 없으므로 1km 이상이면 트랙 기준으로 다시 계산한다
+        return valueOf(stats.getTotalRuns()) <= 1
+            || (stats.hasPersonalBests() && record.getDistanceKm() >= 1.0)
+            || record.getDistanceKm() >= valueOf(stats.getMaxDistanceKm())
+            || record.getRunTimeMinutes() >= valueOf(stats.getMaxTimeMinutes())
+            || record.getMaxSpeedKmh() >= valueOf(stats.getMaxSpeedKmh());
+    }
+    
+    private void addRecord(RunningStatistics stats, RunningRecord record) {
+        int runs = valueOf(stats.getTotalRuns());
+        
+        stats.setTotalRuns(runs + 1);
+        stats.setTotalDistanceKm(Math.round((valueOf(stats.getTotalDistanceKm()) + record.getDistanceKm()) * 100.0) / 100.0);
+        stats.setTotalTimeMinutes(valueOf(stats.getTotalTimeMinutes()) + record.getRunTimeMinutes());
+        stats.setTotalCaloriesBurned(Math.round((valueOf(stats.getTotalCaloriesBurned()) + record.calculateCalories()) * 10.0) / 10.0);
+        stats.setAverageHeartRate((int) Math.round((valueOf(stats.getAverageHeartRate()) * (double) runs + record.getMaxHeartRate()) / (runs + 1)));
+        stats.setAverageCadence((int) Math.round((valueOf(stats.getAverageCadence()) * (double) runs + record.getCadence()) / (runs + 1)));
+        stats.setMaxSpeedKmh(Math.max(valueOf(stats.getMaxSpeedKmh()), Math.round(record.getMaxSpeedKmh() * 100.0) / 100.0));
+        stats.setMaxDistanceKm(Math.max(valueOf(stats.getMaxDistanceKm()), Math.round(record.getDistanceKm() * 100.0) / 100.0));
+        stats.setMaxTimeMinutes(Math.max(valueOf(stats.getMaxTimeMinutes()), record.getRunTimeMinutes()));
+        updateAverages(stats);
+    }
+    
+    private void removeRecord(RunningStatistics stats, RunningRecord record) {
+        int runs = valueOf(stats.getTotalRuns());
+        
+        stats.setTotalRuns(runs - 1);
+        stats.setTotalDistanceKm(Math.round((valueOf(stats.getTotalDistanceKm()) - record.getDistanceKm()) * 100.0) / 100.0);
+        stats.setTotalTimeMinutes(valueOf(stats.getTotalTimeMinutes()) - record.getRunTimeMinutes());
+        stats.setTotalCaloriesBurned(Math.round((valueOf(stats.getTotalCaloriesBurned()) - record.calculateCalories()) * 10.0) / 10.0);
+        stats.setAverageHeartRate((int) Math.round((valueOf(stats.getAverageHeartRate()) * (double) runs - record.getMaxHeartRate()) / (runs - 1)));
+        stats.setAverageCadence((int) Math.round((valueOf(stats.getAverageCadence()) * (double) runs - record.getCadence()) / (runs - 1)));
+        updateAverages(stats);
+    }
+    
+    private void updateAverages(RunningStatistics stats) {
+        double totalDistance = stats.getTotalDistanceKm();
+        int totalTime = stats.getTotalTimeMinutes();
         
-        calculateStatistics(stats, yearlyRecords);
+        double averageSpeed = totalTime > 0 ? (totalDistance / totalTime) * 60 : 0.0;
+        stats.setAverageSpeedKmh(Math.round(averageSpeed * 100.0) / 100.0);
         
-        runningStatisticsRepository.save(stats);
+        double averagePace = totalDistance > 0 ? totalTime / totalDistance : 0.0;
+        stats.setAveragePaceMinutesPerKm(Math.round(averagePace * 100.0) / 100.0);
+    }
+    
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
     }
     
-    private void calculateStatistics(RunningStatistics stats, List<RunningRecord> records) {
-        if (records.isEmpty()) {
+    private static double valueOf(Double value) {
+        return value != null ? value : 0.0;
+    }
+    
+    private static Integer minOf(Integer current, Integer candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        return candidate != null ? Math.min(current, candidate) : current;
+    }
+    
+    private void calculateStatistics(RunningStatistics stats, RunningRecordAggregate aggregate) {
+        if (aggregate == null || aggregate.totalRuns() == 0) {
             stats.setTotalRuns(0);
             stats.setTotalDistanceKm(0.0);
             stats.setTotalTimeMinutes(0);
@@ -125,25 +518,23 @@ public class RunningStatisticsService {
             stats.setMaxSpeedKmh(0.0);
             stats.setMaxDistanceKm(0.0);
             stats.setMaxTimeMinutes(0);
+            stats.setBest1kSeconds(null);
+            stats.setBest5kSeconds(null);
+            stats.setBest10kSeconds(null);
+            stats.setBestHalfMarathonSeconds(null);
+            stats.setBestMarathonSeconds(null);
             return;
         }
         
-        stats.setTotalRuns(records.size());
+        stats.setTotalRuns(aggregate.totalRuns().intValue());
         
-        double totalDistance = records.stream()
-            .mapToDouble(RunningRecord::getDistanceKm)
-            .sum();
+        double totalDistance = aggregate.totalDistanceKm();
         stats.setTotalDistanceKm(Math.round(totalDistance * 100.0) / 100.0);
         
-        int totalTime = records.stream()
-            .mapToInt(RunningRecord::getRunTimeMinutes)
-            .sum();
+        int totalTime = aggregate.totalTimeMinutes().intValue();
         stats.setTotalTimeMinutes(totalTime);
         
-        double totalCalories = records.stream()
-            .mapToDouble(RunningRecord::getCaloriesBurned)
-            .sum();
-        stats.setTotalCaloriesBurned(Math.round(totalCalories * 10.0) / 10.0);
+        stats.setTotalCaloriesBurned(Math.round(aggregate.totalCaloriesBurned() * 10.0) / 10.0);
         
         double averageSpeed = totalTime > 0 ? (totalDistance / totalTime) * 60 : 0.0;
         stats.setAverageSpeedKmh(Math.round(averageSpeed * 100.0) / 100.0);
@@ -151,65 +542,84 @@ public class RunningStatisticsService {
         double averagePace = totalDistance > 0 ? totalTime / totalDistance : 0.0;
         stats.setAveragePaceMinutesPerKm(Math.round(averagePace * 100.0) / 100.0);
         
-        double averageHeartRate = records.stream()
-            .mapToInt(RunningRecord::getMaxHeartRate)
-            .average()
-            .orElse(0.0);
-        stats.setAverageHeartRate((int) Math.round(averageHeartRate));
-        
-        double averageCadence = records.stream()
-            .mapToInt(RunningRecord::getCadence)
-            .average()
-            .orElse(0.0);
-        stats.setAverageCadence((int) Math.round(averageCadence));
-        
-        double maxSpeed = records.stream()
-            .mapToDouble(RunningRecord::getMaxSpeedKmh)
-            .max()
-            .orElse(0.0);
-        stats.setMaxSpeedKmh(Math.round(maxSpeed * 100.0) / 100.0);
-        
-        double maxDistance = records.stream()
-            .mapToDouble(RunningRecord::getDistanceKm)
-            .max()
-            .orElse(0.0);
-        stats.setMaxDistanceKm(Math.round(maxDistance * 100.0) / 100.0);
-        
-        int maxTime = records.stream()
-            .mapToInt(RunningRecord::getRunTimeMinutes)
-            .max()
-            .orElse(0);
-        stats.setMaxTimeMinutes(maxTime);
+        stats.setAverageHeartRate((int) Math.round(aggregate.averageHeartRate()));
+        stats.setAverageCadence((int) Math.round(aggregate.averageCadence()));
+        stats.setMaxSpeedKmh(Math.round(aggregate.maxSpeedKmh() * 100.0) / 100.0);
+        stats.setMaxDistanceKm(Math.round(aggregate.maxDistanceKm() * 100.0) / 100.0);
+        stats.setMaxTimeMinutes(aggregate.maxTimeMinutes());
+        stats.setBest1kSeconds(aggregate.best1kSeconds());
+        stats.setBest5kSeconds(aggregate.best5kSeconds());
+        stats.setBest10kSeconds(aggregate.best10kSeconds());
+        stats.setBestHalfMarathonSeconds(aggregate.bestHalfMarathonSeconds());
+        stats.setBestMarathonSeconds(aggregate.bestMarathonSeconds());
     }
     
     public List<RunningStatistics> getStatisticsByRunner(String runnerName) {
         return runningStatisticsRepository.findByRunnerNameOrderByPeriodYearDescPeriodWeekDescPeriodMonthDesc(runnerName);
     }
     
+    @Cacheable(CacheConfig.RUNNER_STATISTICS)
     public List<RunningStatistics> getStatisticsByRunnerAndPeriod(String runnerName, StatisticsPeriod period) {
         return runningStatisticsRepository.findByRunnerNameAndPeriodOrderByPeriodYearDescPeriodWeekDescPeriodMonthDesc(runnerName, period);
     }
     
+    /**
+     * Drop the cached statistics of one runner. The cache manager is transaction-aware, so inside a
+     * transaction the eviction is deferred until the statistics rows have been committed.
+     */
+    private void evictCachedStatistics(String runnerName) {
+        Cache cache = cacheManager.getCache(CacheConfig.RUNNER_STATISTICS);
+        if (cache == null) {
+            return;
+        }
+        for (StatisticsPeriod period : StatisticsPeriod.values()) {
+            // getStatisticsByRunnerAndPeriod의 기본 캐시 키와 동일하게 만든다
+            cache.evict(new SimpleKey(runnerName, period));
+        }
+    }
+    
     public List<String> getAllRunnerNames() {
         return runningStatisticsRepository.findAllRunnerNames();
     }
     
-    public List<RunningStatistics> getTopRunnersByPeriod(StatisticsPeriod period, Integer year, Integer month, Integer week) {
-        switch (period) {
-            case WEEKLY:
-                return runningStatisticsRepository.findTopRunnersByPeriodAndYearAndWeek(period, year, week);
-            case MONTHLY:
-                return runningStatisticsRepository.findTopRunnersByPeriodAndYearAndMonth(period, year, month);
-            case YEARLY:
-                return runningStatisticsRepository.findTopRunnersByPeriodAndYear(period, year);
-            default:
-                return List.of();
+    /**
+     * Version of the whole statistics table for conditional GETs; it changes whenever the list of runners does.
+     */
+    public ContentVersion getStatisticsVersion() {
+        return runningStatisticsRepository.findVersion();
+    }
+    
+    /**
+     * Version of one runner's statistics for conditional GETs. Every rebuild and incremental update rewrites
+     * {@code lastCalculatedAt}, so it changes whenever the cached statistics are evicted.
+     */
+    public ContentVersion getStatisticsVersion(String runnerName) {
+        return runningStatisticsRepository.findVersionByRunnerName(runnerName);
+    }
+    
+    /**
+     * Top runners of a bucket by total distance, ranked by the in-memory leaderboard.
+     */
+    public List<RunningStatistics> getTopRunnersByPeriod(StatisticsPeriod period, Integer year, Integer month, Integer week, int limit) {
+        List<String> runnerNames = leaderboardService.top(LeaderboardService.Bucket.of(period, year, month, week),
+                LeaderboardService.Metric.DISTANCE, limit).stream()
+            .map(LeaderboardEntry::runnerName)
+            .toList();
+        if (runnerNames.isEmpty()) {
+            return List.of();
         }
+        
+        List<RunningStatistics> stats = switch (period) {
+            case WEEKLY -> runningStatisticsRepository.findByPeriodAndPeriodYearAndPeriodWeekAndRunnerNameIn(period, year, week, runnerNames);
+            case MONTHLY -> runningStatisticsRepository.findByPeriodAndPeriodYearAndPeriodMonthAndRunnerNameIn(period, year, month, runnerNames);
+            case YEARLY -> runningStatisticsRepository.findByPeriodAndPeriodYearAndRunnerNameIn(period, year, runnerNames);
+        };
+        Map<String, RunningStatistics> byRunner = new HashMap<>();
+        stats.forEach(row -> byRunner.put(row.getRunnerName(), row));
+        return runnerNames.stream().map(byRunner::get).filter(Objects::nonNull).toList();
     }
     
-    @Transactional
-    public void generateImmediateStatistics() {
-        log.info("Generating immediate statistics for all runners...");
-        generateStatistics();
+    public boolean hasRecords(String runnerName) {
+        return runningRecordRepository.countByRunnerName(runnerName) > 0;
     }
 }
\ No newline at end of file
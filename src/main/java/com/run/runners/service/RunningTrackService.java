@@ -0,0 +1,251 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackAnalysis;
+import com.run.runners.dto.TrackData;
+import com.run.runners.dto.TrackPoint;
+import com.run.runners.dto.TrackSummary;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningTrack;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningTrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Attaches GPS tracks (GPX) to running records, stores them delta-encoded and serves downsampled points.
+ * Distance, run time, max speed, max heart rate and cadence of the record are replaced by the values
+ * measured on the track, so statistics follow the recorded data.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RunningTrackService {
+    
+    // 최고 속도는 GPS 튐을 줄이기 위해 최소 5초 구간의 평균으로 잰다
+    private static final long MIN_SPEED_WINDOW_MILLIS = 5_000;
+    // 고도 노이즈(±1m 내외)가 누적 상승에 쌓이지 않도록 이 값 이상 오른 경우만 반영
+    private static final double ELEVATION_THRESHOLD_METERS = 1.0;
+    
+    private final RunningTrackRepository runningTrackRepository;
+    private final RunningRecordRepository runningRecordRepository;
+    private final RunningRecordService runningRecordService;
+    private final RunningStatisticsService runningStatisticsService;
+    
+    // 심박 존 계산 기준 최대 심박수
+    @Value("${runners.track.max-heart-rate:190}")
+    private int maxHeartRate;
+    
+    @Transactional
+    public TrackSummary attachTrack(Long runningRecordId, InputStream gpx) {
+        TrackData track = GpxTrackParser.parse(gpx);
+        if (track.size() < 2) {
+            throw new IllegalArgumentException("트랙 포인트가 2개 이상 필요합니다.");
+        }
+        // 수정과 같이 행을 잠그고 읽는다: 그사이 다른 수정이 커밋되면 통계 증분이 낡은 이전 값으로 계산된다 (파싱은 잠그기 전에)
+        RunningRecord record = runningRecordRepository.findByIdForUpdate(runningRecordId)
+            .orElseThrow(() -> new IllegalArgumentException("달리기 기록을 찾을 수 없습니다: " + runningRecordId));
+        
+        byte[] encoded = TrackCodec.encode(track);
+        TrackSummary summary = summarize(runningRecordId, track, encoded.length);
+        
+        RunningTrack runningTrack = runningTrackRepository.findByRunningRecordId(runningRecordId).orElseGet(RunningTrack::new);
+        runningTrack.setRunningRecord(record);
+        runningTrack.setPointCount(summary.pointCount());
+        runningTrack.setDistanceKm(summary.distanceKm());
+        runningTrack.setDurationSeconds(summary.durationSeconds());
+        runningTrack.setMaxSpeedKmh(summary.maxSpeedKmh());
+        runningTrack.setAverageHeartRate(summary.averageHeartRate());
+        runningTrack.setMaxHeartRate(summary.maxHeartRate());
+        runningTrack.setAverageCadence(summary.averageCadence());
+        runningTrack.setElevationGainMeters(summary.elevationGainMeters());
+        TrackAnalysis analysis = new TrackAnalyzer(maxHeartRate).analyze(track);
+        runningTrack.setBest1kSeconds(analysis.bestEffortSecondsOrNull(0));
+        runningTrack.setBest5kSeconds(analysis.bestEffortSecondsOrNull(1));
+        runningTrack.setBest10kSeconds(analysis.bestEffortSecondsOrNull(2));
+        runningTrack.setBestHalfMarathonSeconds(analysis.bestEffortSecondsOrNull(3));
+        runningTrack.setBestMarathonSeconds(analysis.bestEffortSecondsOrNull(4));
+        runningTrack.setPoints(encoded);
+        runningTrackRepository.save(runningTrack);
+        
+        // 관리 중인 엔티티를 직접 바꾸면 통계 증분 계산용 이전 값이 사라지므로 복사본으로 갱신한다
+        RunningRecord updated = runningRecordService.updateRunningRecord(withTrackValues(record, summary));
+        runningStatisticsService.applyPersonalBests(updated, runningTrack);
+        log.info("Attached track to running record {}: {} points, {} bytes", runningRecordId, summary.pointCount(), encoded.length);
+        return summary;
+    }
+    
+    public Optional<TrackSummary> getTrackSummary(Long runningRecordId) {
+        return runningTrackRepository.findByRunningRecordId(runningRecordId)
+            .map(track -> new TrackSummary(runningRecordId, track.getPointCount(), track.getPoints().length,
+                track.getDistanceKm(), track.getDurationSeconds(), track.getMaxSpeedKmh(), track.getAverageHeartRate(),
+                track.getMaxHeartRate(), track.getAverageCadence(), track.getElevationGainMeters()));
+    }
+    
+    public Optional<TrackData> getTrackData(Long runningRecordId) {
+        return runningTrackRepository.findByRunningRecordId(runningRecordId)
+            .map(track -> TrackCodec.decode(track.getPoints()));
+    }
+    
+    /**
+     * Splits, best efforts, zones and cadence distribution of the stored track.
+     */
+    public Optional<TrackAnalysis> getTrackAnalysis(Long runningRecordId) {
+        return getTrackData(runningRecordId).map(track -> new TrackAnalyzer(maxHeartRate).analyze(track));
+    }
+    
+    /**
+     * Track points reduced to at most {@code maxPoints} with Largest-Triangle-Three-Buckets on
+     * cumulative distance/elevation, which keeps the shape of the route and the elevation profile.
+     */
+    public Optional<List<TrackPoint>> getTrackPoints(Long runningRecordId, int maxPoints) {
+        return getTrackData(runningRecordId).map(track -> toPoints(track, downsample(track, maxPoints)));
+    }
+    
+    static TrackSummary summarize(Long runningRecordId, TrackData track, int encodedBytes) {
+        int size = track.size();
+        double[] cumulativeMeters = TrackAnalyzer.cumulativeDistances(track);
+        long[] times = track.timesMillis();
+        
+        double maxSpeedKmh = 0;
+        int windowStart = 0;
+        for (int i = 1; i < size; i++) {
+            while (windowStart < i && times[i] - times[windowStart + 1] >= MIN_SPEED_WINDOW_MILLIS) {
+                windowStart++;
+            }
+            long elapsed = times[i] - times[windowStart];
+            if (elapsed >= MIN_SPEED_WINDOW_MILLIS) {
+                double speedKmh = (cumulativeMeters[i] - cumulativeMeters[windowStart]) / elapsed * 3600.0;
+                maxSpeedKmh = Math.max(maxSpeedKmh, speedKmh);
+            }
+        }
+        
+        long heartRateSum = 0;
+        int heartRateCount = 0;
+        int maxHeartRate = 0;
+        long cadenceSum = 0;
+        int cadenceCount = 0;
+        for (int i = 0; i < size; i++) {
+            int heartRate = track.heartRates()[i];
+            if (heartRate > 0) {
+                heartRateSum += heartRate;
+                heartRateCount++;
+                maxHeartRate = Math.max(maxHeartRate, heartRate);
+            }
+            int cadence = track.cadences()[i];
+            if (cadence > 0) {
+                cadenceSum += cadence;
+                cadenceCount++;
+            }
+        }
+        
+        double elevationGain = 0;
+        double reference = track.elevations()[0];
+        for (int i = 1; i < size; i++) {
+            double elevation = track.elevations()[i];
+            if (elevation - reference >= ELEVATION_THRESHOLD_METERS) {
+                elevationGain += elevation - reference;
+                reference = elevation;
+            } else if (elevation < reference) {
+                reference = elevation;
+            }
+        }
+        
+        return new TrackSummary(runningRecordId, size, encodedBytes,
+            Math.round(cumulativeMeters[size - 1] / 10.0) / 100.0,
+            (times[size - 1] - times[0]) / 1000,
+            Math.round(maxSpeedKmh * 10.0) / 10.0,
+            heartRateCount == 0 ? 0 : (int) Math.round((double) heartRateSum / heartRateCount),
+            maxHeartRate,
+            cadenceCount == 0 ? 0 : (int) Math.round((double) cadenceSum / cadenceCount),
+            Math.round(elevationGain * 10.0) / 10.0);
+    }
+    
+    /**
+     * Indexes of the points kept by LTTB; the first and last point are always kept.
+     */
+    static int[] downsample(TrackData track, int maxPoints) {
+        int size = track.size();
+        if (maxPoints >= size || maxPoints < 3) {
+            int kept = maxPoints < 3 ? Math.min(size, 2) : size;
+            int[] indexes = new int[kept];
+            for (int i = 0; i < kept; i++) {
+                indexes[i] = i == kept - 1 ? size - 1 : i;
+            }
+            return indexes;
+        }
+        
+        double[] x = TrackAnalyzer.cumulativeDistances(track);
+        double[] y = track.elevations();
+        int[] indexes = new int[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0;
+        indexes[0] = 0;
+        
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+            
+            // 다음 버킷의 평균점 (마지막 버킷은 마지막 포인트)
+            int nextStart = end;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+            
+            double maxArea = -1;
+            int selected = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[previous] - averageX) * (y[i] - y[previous])
+                    - (x[previous] - x[i]) * (averageY - y[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = i;
+                }
+            }
+            indexes[bucket + 1] = selected;
+            previous = selected;
+        }
+        indexes[maxPoints - 1] = size - 1;
+        return indexes;
+    }
+    
+    private static List<TrackPoint> toPoints(TrackData track, int[] indexes) {
+        List<TrackPoint> points = new ArrayList<>(indexes.length);
+        for (int i : indexes) {
+            points.add(new TrackPoint(track.latitudes()[i], track.longitudes()[i], track.elevations()[i],
+                track.timesMillis()[i], track.heartRates()[i], track.cadences()[i]));
+        }
+        return points;
+    }
+    
+    private static RunningRecord withTrackValues(RunningRecord record, TrackSummary summary) {
+        RunningRecord updated = new RunningRecord();
+        updated.setId(record.getId());
+        updated.setRunnerName(record.getRunnerName());
+        updated.setRecordDate(record.getRecordDate());
+        updated.setCreatedAt(record.getCreatedAt());
+        updated.setUpdatedAt(record.getUpdatedAt());
+        updated.setDistanceKm(summary.distanceKm());
+        updated.setRunTimeMinutes((int) Math.max(1, Math.round(summary.durationSeconds() / 60.0)));
+        updated.setMaxSpeedKmh(summary.maxSpeedKmh());
+        updated.setMaxHeartRate(summary.maxHeartRate() > 0 ? summary.maxHeartRate() : record.getMaxHeartRate());
+        updated.setCadence(summary.averageCadence() > 0 ? summary.averageCadence() : record.getCadence());
+        updated.setCaloriesBurned(RunningRecord.calculateCalories(updated.getRunTimeMinutes(), updated.getDistanceKm()));
+        return updated;
+    }
+}
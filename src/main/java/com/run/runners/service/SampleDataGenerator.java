@@ -0,0 +1,334 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.ImportResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Fills an empty database with production-like volumes for local load tests ({@code seed} profile):
+ * <pre>
+ * java -jar runners.jar --spring.profiles.active=dev,seed --runners.seed.records=1000000
+ * </pre>
+ * Runner activity and board popularity follow Zipf distributions, so a few runners own most records and a
+ * few posts get most views, comments and likes. Running records go through the CSV bulk import (and its
+ * statistics regeneration); all other tables are written with JDBC batches. Runs before
+ * {@code ApplicationReadyEvent}, so the search index and leaderboards are built from the seeded data.
+ */
+@Component
+@ConditionalOnProperty(name = "runners.seed.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SampleDataGenerator implements ApplicationRunner {
+    
+    private static final String[] WORDS = {
+        "마라톤", "러닝", "조깅", "페이스", "인터벌", "케이던스", "심박", "하프", "풀코스", "10km", "5km", "트랙",
+        "한강", "공원", "새벽", "저녁", "훈련", "회복", "스트레칭", "부상", "러닝화", "쿠션", "기록", "완주",
+        "언덕", "지속주", "LSD", "템포런", "크루", "대회", "준비", "후기", "물", "에너지젤", "날씨", "호흡"
+    };
+    private static final String[] LOCATIONS = {
+        "서울 여의도 한강공원", "서울 올림픽공원", "서울 남산", "부산 광안리", "대구 수성못", "인천 송도", "대전 갑천", "광주 상무지구"
+    };
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final RunningRecordImportService runningRecordImportService;
+    
+    @Value("${runners.seed.random-seed:42}")
+    private long randomSeed;
+    
+    @Value("${runners.seed.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${runners.seed.days:1095}")
+    private int days;
+    
+    @Value("${runners.seed.runners:2000}")
+    private int runners;
+    
+    @Value("${runners.seed.records:200000}")
+    private int records;
+    
+    @Value("${runners.seed.runner-activity-exponent:1.1}")
+    private double runnerActivityExponent;
+    
+    @Value("${runners.seed.posts:20000}")
+    private int posts;
+    
+    @Value("${runners.seed.comments:100000}")
+    private int comments;
+    
+    @Value("${runners.seed.likes:200000}")
+    private int likes;
+    
+    @Value("${runners.seed.users:50000}")
+    private int users;
+    
+    @Value("${runners.seed.tips:2000}")
+    private int tips;
+    
+    @Value("${runners.seed.reviews:2000}")
+    private int reviews;
+    
+    @Value("${runners.seed.running-mates:3000}")
+    private int runningMates;
+    
+    @Value("${runners.seed.running-mate-comments:15000}")
+    private int runningMateComments;
+    
+    @Value("${runners.seed.competitions:300}")
+    private int competitions;
+    
+    @Value("${runners.seed.popularity-exponent:1.0}")
+    private double popularityExponent;
+    
+    private LocalDateTime now;
+    
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM running_records", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Skipping sample data: running_records already has {} rows", existing);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Random random = new Random(randomSeed);
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        
+        List<String> runnerNames = new ArrayList<>(runners);
+        for (int i = 0; i < runners; i++) {
+            runnerNames.add(String.format("러너%05d", i));
+        }
+        ZipfSampler authors = new ZipfSampler(runners, runnerActivityExponent);
+        
+        seedRunningRecords(random, runnerNames, authors);
+        seedCompetitions(random);
+        
+        Board postBoard = seedBoard(random, runnerNames, authors, "r_posts", posts,
+            "INSERT INTO r_posts (title, content, author, view_count, like_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, 0, ?, ?)");
+        batchInsert("INSERT INTO r_comments (post_id, content, author, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            postBoard.ids.isEmpty() ? 0 : comments, i -> {
+                int post = postBoard.samplePost(random);
+                Timestamp createdAt = postBoard.after(post, random);
+                return new Object[] {postBoard.ids.get(post), sentence(random, 5, 25), runnerNames.get(authors.sample(random)), createdAt, createdAt};
+            });
+        seedLikes(random, postBoard);
+        jdbcTemplate.update("UPDATE r_posts p SET comment_count = (SELECT COUNT(*) FROM r_comments c WHERE c.post_id = p.id), " +
+            "like_count = (SELECT COUNT(*) FROM r_likes l WHERE l.post_id = p.id)");
+        
+        seedBoard(random, runnerNames, authors, "r_tips", tips,
+            "INSERT INTO r_tips (title, content, author, view_count, like_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)");
+        seedBoard(random, runnerNames, authors, "r_reviews", reviews,
+            "INSERT INTO r_reviews (title, content, author, view_count, like_count, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)");
+        
+        Board mateBoard = seedRunningMates(random, runnerNames, authors);
+        batchInsert("INSERT INTO r_running_mate_comments (running_mate_id, author, content, phone_number, created_at) VALUES (?, ?, ?, ?, ?)",
+            mateBoard.ids.isEmpty() ? 0 : runningMateComments, i -> {
+                int mate = mateBoard.samplePost(random);
+                return new Object[] {mateBoard.ids.get(mate), runnerNames.get(authors.sample(random)), sentence(random, 3, 12),
+                    String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)), mateBoard.after(mate, random)};
+            });
+        jdbcTemplate.update("UPDATE r_running_mates m SET comment_count = " +
+            "(SELECT COUNT(*) FROM r_running_mate_comments c WHERE c.running_mate_id = m.id)");
+        
+        log.info("Sample data generated in {} s: {} runners, {} records, {} posts, {} comments, {} likes, {} tips, {} reviews, " +
+                "{} running mates, {} competitions",
+            TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt), runners, records, posts, comments, likes,
+            tips, reviews, runningMates, competitions);
+    }
+    
+    /**
+     * Writes the records as CSV to a temporary file and loads it through the bulk import, which also
+     * regenerates the statistics of every bucket it touched.
+     */
+    private void seedRunningRecords(Random random, List<String> runnerNames, ZipfSampler activity) throws IOException {
+        // 러너마다 기본 페이스(분/km)를 고정해 두고 기록마다 ±10% 흔든다
+        double[] basePace = new double[runners];
+        for (int i = 0; i < runners; i++) {
+            basePace[i] = 4.5 + random.nextDouble() * 3.0;
+        }
+        
+        Path csv = Files.createTempFile("runners-seed-", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                writer.write(String.join(",", RunningRecordImportService.CSV_COLUMNS));
+                writer.newLine();
+                for (int i = 0; i < records; i++) {
+                    int runner = activity.sample(random);
+                    double distance = Math.min(42.2, 3 + Math.abs(random.nextGaussian()) * 6);
+                    double pace = basePace[runner] * (0.9 + random.nextDouble() * 0.2);
+                    int runTime = Math.max(1, (int) Math.round(distance * pace));
+                    LocalDateTime recordDate = now.minusDays(random.nextInt(days)).withHour(5 + random.nextInt(17)).withMinute(random.nextInt(60));
+                    writer.write(runnerNames.get(runner) + "," + recordDate + "," + runTime + "," + Math.round(distance * 100) / 100.0 + "," +
+                        (160 + random.nextInt(30)) + "," + (145 + random.nextInt(50)) + "," + Math.round(60 / pace * 1.25 * 10) / 10.0);
+                    writer.newLine();
+                }
+            }
+            ImportResult result;
+            try (InputStream input = Files.newInputStream(csv)) {
+                result = runningRecordImportService.importRecords(input, RunningRecordImportService.Format.CSV);
+            }
+            log.info("Seeded {} running records ({} rejected)", result.importedRows(), result.rejectedRows());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+    
+    private void seedCompetitions(Random random) {
+        batchInsert("INSERT INTO r_competitions (name, event_date_time, location, course, gifts, participation_fee, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)", competitions, i -> new Object[] {
+                LOCATIONS[random.nextInt(LOCATIONS.length)].split(" ")[0] + " 러닝 페스티벌 " + (i + 1),
+                Timestamp.valueOf(now.plusDays(random.nextInt(730) - 365L).withHour(8).withMinute(0)),
+                LOCATIONS[random.nextInt(LOCATIONS.length)],
+                random.nextBoolean() ? "5km, 10km, 하프" : "10km, 풀코스",
+                random.nextInt(3) == 0 ? null : "기념 티셔츠, 메달",
+                (2 + random.nextInt(9)) * 10_000,
+                Timestamp.valueOf(now.minusDays(random.nextInt(days)))
+            });
+    }
+    
+    private Board seedRunningMates(Random random, List<String> runnerNames, ZipfSampler authors) {
+        Board board = new Board(runningMates, popularityExponent, random);
+        batchInsert("INSERT INTO r_running_mates (title, content, author, location, max_participants, running_date_time, view_count, " +
+            "comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)", runningMates, i -> {
+                Timestamp createdAt = board.createdAt(i, now, days, random);
+                return new Object[] {sentence(random, 3, 6) + " 같이 달려요", sentence(random, 15, 60), runnerNames.get(authors.sample(random)),
+                    LOCATIONS[random.nextInt(LOCATIONS.length)], 2 + random.nextInt(19),
+                    Timestamp.valueOf(createdAt.toLocalDateTime().plusDays(1 + random.nextInt(14))),
+                    board.viewCount(i, random), createdAt, createdAt};
+            });
+        board.ids.addAll(jdbcTemplate.queryForList("SELECT id FROM r_running_mates ORDER BY id", Long.class));
+        return board;
+    }
+    
+    private Board seedBoard(Random random, List<String> runnerNames, ZipfSampler authors, String table, int count, String insertSql) {
+        Board board = new Board(count, popularityExponent, random);
+        batchInsert(insertSql, count, i -> {
+            Timestamp createdAt = board.createdAt(i, now, days, random);
+            return new Object[] {sentence(random, 3, 8), sentence(random, 20, 150), runnerNames.get(authors.sample(random)),
+                board.viewCount(i, random), createdAt, createdAt};
+        });
+        board.ids.addAll(jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class));
+        return board;
+    }
+    
+    private void seedLikes(Random random, Board postBoard) {
+        // (게시글, 사용자) 유니크 제약에 걸리지 않도록 중복 조합은 다시 뽑는다
+        Set<Long> liked = new HashSet<>(likes * 2);
+        int maxLikes = postBoard.ids.isEmpty() ? 0 : (int) Math.min(likes, (long) posts * users);
+        batchInsert("INSERT INTO r_likes (post_id, user_identifier, created_at) VALUES (?, ?, ?)", maxLikes, i -> {
+            int post;
+            int user;
+            do {
+                post = postBoard.samplePost(random);
+                user = random.nextInt(users);
+            } while (!liked.add((long) post * users + user));
+            return new Object[] {postBoard.ids.get(post), "10." + (user >> 16) + "." + ((user >> 8) & 0xFF) + "." + (user & 0xFF),
+                postBoard.after(post, random)};
+        });
+    }
+    
+    private void batchInsert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < count; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+    
+    private static String sentence(Random random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Popularity of the rows of one board: row {@code i} gets a random Zipf rank, which drives its view count
+     * and how often comments and likes pick it.
+     */
+    private static class Board {
+        private final ZipfSampler popularity;
+        private final int[] rankToRow;
+        private final int[] rowToRank;
+        private final long[] createdAtSeconds;
+        private final List<Long> ids = new ArrayList<>();
+        
+        private Board(int count, double exponent, Random random) {
+            popularity = new ZipfSampler(Math.max(1, count), exponent);
+            rankToRow = new int[Math.max(1, count)];
+            rowToRank = new int[Math.max(1, count)];
+            createdAtSeconds = new long[Math.max(1, count)];
+            for (int i = 0; i < rankToRow.length; i++) {
+                rankToRow[i] = i;
+            }
+            for (int i = rankToRow.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = rankToRow[i];
+                rankToRow[i] = rankToRow[j];
+                rankToRow[j] = swap;
+            }
+            for (int rank = 0; rank < rankToRow.length; rank++) {
+                rowToRank[rankToRow[rank]] = rank;
+            }
+        }
+        
+        private Timestamp createdAt(int row, LocalDateTime now, int days, Random random) {
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(days * 24 * 60));
+            createdAtSeconds[row] = createdAt.toEpochSecond(ZoneOffset.UTC);
+            return Timestamp.valueOf(createdAt);
+        }
+        
+        private int viewCount(int row, Random random) {
+            // 게시글 하나당 평균 50회 조회를 인기도에 비례해 나눈다
+            return (int) Math.round(popularity.size() * 50.0 * popularity.probability(rowToRank[row])) + random.nextInt(5);
+        }
+        
+        private int samplePost(Random random) {
+            return rankToRow[popularity.sample(random)];
+        }
+        
+        /**
+         * A moment after row {@code row} was created (up to a week later, capped at the present).
+         */
+        private Timestamp after(int row, Random random) {
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(createdAtSeconds[row], 0, ZoneOffset.UTC);
+            LocalDateTime moment = createdAt.plusMinutes(random.nextInt(7 * 24 * 60));
+            LocalDateTime limit = LocalDateTime.now();
+            return Timestamp.valueOf(moment.isAfter(limit) ? limit : moment);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.run.runners.service;
+
+import com.run.runners.config.ReplicaRoutingDataSource;
+import com.run.runners.dto.StatisticsJobStatus;
+import com.run.runners.dto.StatisticsJobStatus.State;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.entity.StatisticsJob;
+import com.run.runners.repository.StatisticsJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs statistics rebuilds in the background and keeps their progress for polling.
+ * <p>
+ * Only one rebuild runs at a time: a request made while another job is queued or running is refused, and the
+ * scheduled reconciliation is skipped for that round. A job can cover every runner and period or be narrowed
+ * to one runner and/or one period.
+ * <p>
+ * With several instances, the scheduled reconciliation runs only on the holder of the scheduler lease
+ * ({@link ClusterLeaseService}), or, with {@code runners.cluster.sharding-enabled}, on every live node for its
+ * own runner shard. Jobs requested by users run on the node that received the request. A job that is not split
+ * by shard also holds the {@value #JOB_LEASE} lease while it is queued or running, so a second one is refused on
+ * every node; shard jobs cover disjoint runners and are only limited to one per node. Job state is written to
+ * {@code statistics_jobs} when it changes and on every heartbeat, so status requests can be served by any node;
+ * a queued or running job whose node stopped heartbeating for {@code lease-ttl} is reported as failed. Rows are
+ * kept for seven days.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsJobService {
+    
+    static final String JOB_LEASE = "statistics-job";
+    
+    private static final int MAX_FINISHED_JOBS = 20;
+    private static final Duration JOB_RETENTION = Duration.ofDays(7);
+    private static final EnumSet<State> ACTIVE_STATES = EnumSet.of(State.QUEUED, State.RUNNING);
+    
+    private final RunningStatisticsService runningStatisticsService;
+    private final ClusterLeaseService clusterLeaseService;
+    private final StatisticsJobRepository statisticsJobRepository;
+    
+    @Qualifier("statisticsJobExecutor")
+    private final TaskExecutor statisticsJobExecutor;
+    
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<Job> activeJob = new AtomicReference<>();
+    
+    // 켜면 모든 노드가 러너 해시로 나눈 자기 몫만 재계산한다 (끄면 리스 보유 노드만 전체 재계산)
+    @Value("${runners.cluster.sharding-enabled:false}")
+    private boolean shardingEnabled;
+    
+    // 이 시간 동안 갱신되지 않은 대기/실행 중 작업은 노드가 죽은 것으로 본다
+    @Value("${runners.cluster.lease-ttl-ms:30000}")
+    private long leaseTtlMillis;
+    
+    /**
+     * Periodic full reconciliation (see {@link RunningStatisticsService#generateStatistics()}).
+     */
+    @Scheduled(fixedDelayString = "${runners.statistics.reconcile-delay-ms:3600000}")
+    public void reconcile() {
+        RunnerShard shard;
+        if (shardingEnabled) {
+            Optional<RunnerShard> own = clusterLeaseService.currentShard();
+            if (own.isEmpty()) {
+                log.warn("Skipping scheduled statistics reconciliation: node {} is not registered as live",
+                    clusterLeaseService.getNodeId());
+                return;
+            }
+            shard = own.get();
+        } else if (clusterLeaseService.isLeader()) {
+            shard = RunnerShard.ALL;
+        } else {
+            log.debug("Skipping scheduled statistics reconciliation: node {} does not hold the scheduler lease",
+                clusterLeaseService.getNodeId());
+            return;
+        }
+        
+        try {
+            submit(null, null, null, shard);
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled statistics reconciliation: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Renew the job lease of the active job and record its progress for the other nodes.
+     */
+    @Scheduled(fixedDelayString = "${runners.cluster.heartbeat-ms:10000}")
+    public void heartbeat() {
+        Job job = activeJob.get();
+        if (job == null) {
+            return;
+        }
+        synchronized (job) {
+            // 끝난 작업의 리스를 다시 잡지 않도록 release()와 같은 잠금 안에서 확인한다
+            if (!job.isFinished() && job.isClusterWide()) {
+                try {
+                    if (!clusterLeaseService.acquireLease(JOB_LEASE)) {
+                        log.warn("Statistics job {} lost the {} lease to another node", job.id, JOB_LEASE);
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("Could not renew the {} lease for statistics job {}: {}", JOB_LEASE, job.id, e.getMessage());
+                }
+            }
+        }
+        tryPersist(job);
+    }
+    
+    /**
+     * Queue a rebuild of the buckets containing {@code date} (today when {@code null}).
+     *
+     * @throws IllegalStateException    when another job is still queued or running on this node, or a job that is
+     *                                  not split by shard is on another node
+     * @throws IllegalArgumentException when {@code runnerName} has no records
+     */
+    public StatisticsJobStatus submit(String runnerName, StatisticsPeriod period, LocalDate date) {
+        return submit(runnerName, period, date, RunnerShard.ALL);
+    }
+    
+    private StatisticsJobStatus submit(String runnerName, StatisticsPeriod period, LocalDate date, RunnerShard shard) {
+        String runner = runnerName == null || runnerName.trim().isEmpty() ? null : runnerName.trim();
+        if (runner != null && !runningStatisticsService.hasRecords(runner)) {
+            throw new IllegalArgumentException("기록이 없는 러너입니다: " + runner);
+        }
+        
+        Job job = new Job(UUID.randomUUID().toString(), clusterLeaseService.getNodeId(), runner, period, date, shard);
+        Job running = activeJob.compareAndExchange(null, job);
+        if (running != null) {
+            throw new IllegalStateException("이미 실행 중인 통계 재계산 작업이 있습니다: " + running.id);
+        }
+        
+        boolean leased = false;
+        try {
+            if (job.isClusterWide()) {
+                leased = clusterLeaseService.acquireLease(JOB_LEASE);
+                if (!leased) {
+                    String other = findActiveJob().map(StatisticsJobStatus::jobId).orElse(JOB_LEASE);
+                    throw new IllegalStateException("다른 노드에서 실행 중인 통계 재계산 작업이 있습니다: " + other);
+                }
+            }
+            jobs.put(job.id, job);
+            pruneFinishedJobs();
+            persist(job);
+            statisticsJobExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            job.fail("작업을 시작하지 못했습니다: " + e.getMessage());
+            if (jobs.containsKey(job.id)) {
+                tryPersist(job);
+            }
+            release(job, leased);
+            throw e;
+        }
+        log.info("Queued statistics job {} (runner {}, period {}, date {}, shard {}/{})",
+            job.id, runner != null ? runner : "all", period != null ? period : "all", date != null ? date : "today",
+            shard.index() + 1, shard.count());
+        return job.snapshot();
+    }
+    
+    /**
+     * A job submitted on any node. Jobs of this node are answered from memory, others from {@code statistics_jobs}.
+     */
+    public Optional<StatisticsJobStatus> getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job != null) {
+            return Optional.of(job.snapshot());
+        }
+        // 방금 등록된 작업이 복제 지연으로 안 보이지 않도록 primary에서 읽는다
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            return statisticsJobRepository.findById(jobId).map(this::toStatus);
+        }
+    }
+    
+    /**
+     * The queued or running job of this node, or else the most recent one of another live node.
+     */
+    public Optional<StatisticsJobStatus> getActiveJob() {
+        Job job = activeJob.get();
+        if (job != null) {
+            return Optional.of(job.snapshot());
+        }
+        return findActiveJob();
+    }
+    
+    private Optional<StatisticsJobStatus> findActiveJob() {
+        LocalDateTime liveSince = LocalDateTime.now().minus(Duration.ofMillis(leaseTtlMillis));
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            return statisticsJobRepository.findFirstByStateInAndUpdatedAtAfterOrderBySubmittedAtDesc(ACTIVE_STATES, liveSince)
+                .map(StatisticsJob::toStatus);
+        }
+    }
+    
+    /**
+     * Recent jobs of all nodes, most recently submitted first.
+     */
+    public List<StatisticsJobStatus> getJobs() {
+        Map<String, StatisticsJobStatus> statuses = new LinkedHashMap<>();
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            for (StatisticsJob row : statisticsJobRepository.findTop20ByOrderBySubmittedAtDesc()) {
+                statuses.put(row.getId(), toStatus(row));
+            }
+        }
+        // 이 노드의 작업은 메모리의 진행 상황이 더 최신이다
+        for (Job job : jobs.values()) {
+            statuses.put(job.id, job.snapshot());
+        }
+        return statuses.values().stream()
+            .sorted(Comparator.comparing(StatisticsJobStatus::submittedAt).reversed())
+            .toList();
+    }
+    
+    private StatisticsJobStatus toStatus(StatisticsJob row) {
+        StatisticsJobStatus status = row.toStatus();
+        LocalDateTime liveSince = LocalDateTime.now().minus(Duration.ofMillis(leaseTtlMillis));
+        if (status.isFinished() || row.getUpdatedAt().isAfter(liveSince)) {
+            return status;
+        }
+        return new StatisticsJobStatus(status.jobId(), status.nodeId(), status.runnerName(), status.period(), status.date(),
+            status.shardIndex(), status.shardCount(), State.FAILED, status.totalRunners(), status.completedRunners(),
+            status.failedPartitions(), status.submittedAt(), status.startedAt(), status.finishedAt(),
+            status.elapsedSeconds(), null, "노드 " + status.nodeId() + "의 응답이 없습니다 (마지막 갱신 " + row.getUpdatedAt() + ")");
+    }
+    
+    private void run(Job job) {
+        job.start();
+        tryPersist(job);
+        try {
+            // 오늘 버킷은 기존 스케줄 작업과 같이 현재 시각 기준으로 계산한다
+            LocalDateTime target = job.date != null ? job.date.atStartOfDay() : LocalDateTime.now();
+            int failedPartitions = runningStatisticsService.generateStatistics(job.runnerName, job.period, target, job.shard,
+                job::progress);
+            job.finish(failedPartitions);
+        } catch (RuntimeException e) {
+            log.error("Statistics job {} failed", job.id, e);
+            job.fail(e.getMessage());
+        } finally {
+            tryPersist(job);
+            release(job, job.isClusterWide());
+            pruneStoredJobs(job.submittedAt.minus(JOB_RETENTION));
+        }
+    }
+    
+    private void pruneStoredJobs(LocalDateTime before) {
+        try {
+            statisticsJobRepository.deleteSubmittedBefore(before);
+        } catch (DataAccessException e) {
+            log.warn("Could not delete statistics jobs submitted before {}: {}", before, e.getMessage());
+        }
+    }
+    
+    private void persist(Job job) {
+        // 하트비트와 작업 스레드가 동시에 써도 마지막에 쓴 쪽이 최신 스냅샷이 되도록 잠근다
+        synchronized (job) {
+            statisticsJobRepository.save(StatisticsJob.of(job.snapshot(), LocalDateTime.now(), !job.persisted));
+            job.persisted = true;
+        }
+    }
+    
+    private void tryPersist(Job job) {
+        try {
+            persist(job);
+        } catch (DataAccessException e) {
+            log.warn("Could not record the state of statistics job {}: {}", job.id, e.getMessage());
+        }
+    }
+    
+    private void release(Job job, boolean leased) {
+        activeJob.compareAndSet(job, null);
+        if (!leased) {
+            return;
+        }
+        synchronized (job) {
+            try {
+                clusterLeaseService.releaseLease(JOB_LEASE);
+            } catch (DataAccessException e) {
+                // 풀지 못한 리스는 lease-ttl 뒤에 만료된다
+                log.warn("Could not release the {} lease after statistics job {}: {}", JOB_LEASE, job.id, e.getMessage());
+            }
+        }
+    }
+    
+    private void pruneFinishedJobs() {
+        List<Job> finished = jobs.values().stream()
+            .filter(Job::isFinished)
+            .sorted(Comparator.comparing((Job job) -> job.submittedAt))
+            .toList();
+        for (int i = 0; i < finished.size() - MAX_FINISHED_JOBS; i++) {
+            jobs.remove(finished.get(i).id);
+        }
+    }
+    
+    /**
+     * Mutable job state. Progress is reported from the partition workers, so the counters are atomic and
+     * the remaining fields are only written by the job thread.
+     */
+    private static class Job {
+        
+        private final String id;
+        private final String nodeId;
+        private final String runnerName;
+        private final StatisticsPeriod period;
+        private final LocalDate date;
+        private final RunnerShard shard;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicInteger totalRunners = new AtomicInteger();
+        private final AtomicInteger completedRunners = new AtomicInteger();
+        
+        private volatile State state = State.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+        private volatile int failedPartitions;
+        private volatile String error;
+        // persist()의 잠금 안에서만 읽고 쓴다
+        private boolean persisted;
+        
+        private Job(String id, String nodeId, String runnerName, StatisticsPeriod period, LocalDate date, RunnerShard shard) {
+            this.id = id;
+            this.nodeId = nodeId;
+            this.runnerName = runnerName;
+            this.period = period;
+            this.date = date;
+            this.shard = shard;
+        }
+        
+        private void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            state = State.RUNNING;
+        }
+        
+        private void progress(int completed, int total) {
+            totalRunners.set(total);
+            // 파티션 완료 순서가 뒤바뀌어도 진행률이 뒤로 가지 않게 한다
+            completedRunners.accumulateAndGet(completed, Math::max);
+        }
+        
+        private void finish(int failed) {
+            failedPartitions = failed;
+            if (failed > 0) {
+                error = failed + "개 파티션이 재시도 후에도 실패했습니다.";
+            }
+            end(failed > 0 ? State.FAILED : State.COMPLETED);
+        }
+        
+        private void fail(String message) {
+            error = message;
+            end(State.FAILED);
+        }
+        
+        private void end(State finalState) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+        
+        private boolean isFinished() {
+            return state == State.COMPLETED || state == State.FAILED;
+        }
+        
+        private boolean isClusterWide() {
+            return shard.count() == 1;
+        }
+        
+        private StatisticsJobStatus snapshot() {
+            State current = state;
+            int total = totalRunners.get();
+            int completed = completedRunners.get();
+            long elapsedNanos = 0;
+            if (startedNanos != 0) {
+                elapsedNanos = (finishedNanos != 0 ? finishedNanos : System.nanoTime()) - startedNanos;
+            }
+            
+            Long etaSeconds = null;
+            if (current == State.RUNNING && completed > 0) {
+                // 지금까지의 러너당 처리 속도로 남은 러너를 처리하는 시간
+                etaSeconds = TimeUnit.NANOSECONDS.toSeconds(elapsedNanos / completed * (total - completed));
+            } else if (current == State.COMPLETED) {
+                etaSeconds = 0L;
+            }
+            
+            return new StatisticsJobStatus(id, nodeId, runnerName, period, date, shard.index(), shard.count(), current, total, completed, failedPartitions,
+                submittedAt, startedAt, finishedAt, TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), etaSeconds, error);
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.run.runners.service;
 
+import com.run.runners.config.CacheConfig;
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.Tips;
 import com.run.runners.repository.TipsRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,45 +23,75 @@ import java.util.Optional;
 public class TipsService {
     
     private final TipsRepository tipsRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final BoardSearchIndex boardSearchIndex;
     
     // 모든 팁 조회 (최신순)
+    @Cacheable(cacheNames = CacheConfig.TIPS_LISTS, key = "#root.methodName")
     public List<Tips> getAllTips() {
         return tipsRepository.findAllByOrderByCreatedAtDesc();
     }
     
+    // 커서 기반 페이지 조회 (최신순)
+    @Cacheable(CacheConfig.TIPS_PAGES)
+    public CursorPage<Tips> getTipsPage(String cursor, int size) {
+        PageCursor after = PageCursor.parse(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<Tips> rows = after == null
+            ? tipsRepository.findPage(limit)
+            : tipsRepository.findPageAfter(after.timestamp(), after.id(), limit);
+        return CursorPage.of(rows, size, tips -> new PageCursor(tips.getCreatedAt(), tips.getId()));
+    }
+    
+    // 조건부 GET 용 목록 버전 (캐시하지 않는다)
+    public ContentVersion getBoardVersion() {
+        return tipsRepository.findBoardVersion();
+    }
+    
+    public Optional<LocalDateTime> getUpdatedAt(Long id) {
+        return tipsRepository.findUpdatedAtById(id);
+    }
+    
     // 팁 ID로 조회
     public Optional<Tips> getTipsById(Long id) {
         return tipsRepository.findById(id);
     }
     
-    // 팁 ID로 조회하고 조회수 증가
-    @Transactional
+    // 팁 ID로 조회하고 조회수 증가 (조회수는 ViewCountBuffer가 모아서 반영)
     public Optional<Tips> getTipsByIdAndIncrementView(Long id) {
         Optional<Tips> tipsOptional = tipsRepository.findById(id);
         if (tipsOptional.isPresent()) {
+            viewCountBuffer.increment(ViewCountBuffer.Target.TIPS, id);
             Tips tips = tipsOptional.get();
-            tips.setViewCount(tips.getViewCount() + 1);
-            tipsRepository.save(tips);
+            tips.setViewCount(tips.getViewCount() + (int) viewCountBuffer.getPendingCount(ViewCountBuffer.Target.TIPS, id));
         }
         return tipsOptional;
     }
     
     // 새 팁 저장
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TIPS_LISTS, CacheConfig.TIPS_PAGES}, allEntries = true)
     public Tips saveTips(Tips tips) {
-        return tipsRepository.save(tips);
+        Tips saved = tipsRepository.save(tips);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     // 팁 수정
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TIPS_LISTS, CacheConfig.TIPS_PAGES}, allEntries = true)
     public Tips updateTips(Tips tips) {
-        return tipsRepository.save(tips);
+        Tips saved = tipsRepository.save(tips);
+        boardSearchIndex.index(saved);
+        return saved;
     }
     
     // 팁 삭제
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TIPS_LISTS, CacheConfig.TIPS_PAGES}, allEntries = true)
     public void deleteTips(Long id) {
         tipsRepository.deleteById(id);
+        boardSearchIndex.remove(BoardSearchIndex.Board.TIPS, id);
     }
     
     // 제목으로 검색
@@ -68,15 +106,19 @@ public class TipsService {
     
     // 제목 또는 내용으로 검색
     public List<Tips> searchByTitleOrContent(String keyword) {
-        return tipsRepository.findByTitleOrContentContaining(keyword);
+        // LIKE '%keyword%' 전체 스캔 대신 검색 인덱스로 순위가 매겨진 id를 찾는다
+        List<Long> ids = boardSearchIndex.searchIds(BoardSearchIndex.Board.TIPS, keyword);
+        return BoardSearchIndex.orderByIds(tipsRepository.findAllById(ids), Tips::getId, ids);
     }
     
     // 인기순으로 조회 (조회수 높은 순)
+    @Cacheable(cacheNames = CacheConfig.TIPS_LISTS, key = "#root.methodName")
     public List<Tips> getTipsByPopularity() {
         return tipsRepository.findAllByOrderByViewCountDesc();
     }
     
     // 좋아요 많은 순으로 조회
+    @Cacheable(cacheNames = CacheConfig.TIPS_LISTS, key = "#root.methodName")
     public List<Tips> getTipsByLikes() {
         return tipsRepository.findAllByOrderByLikeCountDesc();
     }
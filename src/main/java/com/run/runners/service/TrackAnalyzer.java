@@ -0,0 +1,199 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackAnalysis;
+import com.run.runners.dto.TrackData;
+
+/**
+ * Splits, best efforts, heart-rate/pace zones and cadence distribution of a GPS track over the primitive
+ * arrays of {@link TrackData}.
+ * <p>
+ * One pass computes the cumulative distance, splits and zones; each best-effort distance is then a linear
+ * sweep with a trailing pointer over the cumulative distance (faster than interleaving all distances in the
+ * main loop). An instance keeps its scratch buffer between calls and is not thread-safe; together with a
+ * reused {@link TrackAnalysis} an analysis does not allocate.
+ */
+public final class TrackAnalyzer {
+    
+    public static final double[] BEST_EFFORT_METERS = {1_000, 5_000, 10_000, 21_097.5, 42_195};
+    public static final String[] BEST_EFFORT_NAMES = {"1km", "5km", "10km", "하프", "풀코스"};
+    // 최대 심박 대비 비율(%) 경계: Z1 < 60 ≤ Z2 < 70 ≤ Z3 < 80 ≤ Z4 < 90 ≤ Z5
+    public static final int[] HEART_RATE_ZONE_PERCENT = {60, 70, 80, 90};
+    // 페이스(초/km) 경계, 느린 쪽부터: Z1 > 7:00 ≥ Z2 > 6:00 ≥ Z3 > 5:00 ≥ Z4 > 4:30 ≥ Z5
+    public static final int[] PACE_ZONE_SECONDS_PER_KM = {420, 360, 300, 270};
+    // 케이던스(spm) 경계: <150, 150-159, ..., 190 이상
+    public static final int[] CADENCE_BUCKET_SPM = {150, 160, 170, 180, 190};
+    
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double SPLIT_METERS = 1_000;
+    
+    private final int maxHeartRate;
+    // 나눗셈 없이 비교하도록 미리 곱해 둔 심박 존 경계 (심박 x 100 과 비교)
+    private final int[] heartRateZoneThresholds = new int[HEART_RATE_ZONE_PERCENT.length];
+    private double[] cumulativeMeters = new double[0];
+    
+    public TrackAnalyzer(int maxHeartRate) {
+        this.maxHeartRate = maxHeartRate;
+        for (int zone = 0; zone < HEART_RATE_ZONE_PERCENT.length; zone++) {
+            heartRateZoneThresholds[zone] = HEART_RATE_ZONE_PERCENT[zone] * maxHeartRate;
+        }
+    }
+    
+    public static TrackAnalysis newAnalysis() {
+        return new TrackAnalysis(BEST_EFFORT_METERS.length, HEART_RATE_ZONE_PERCENT.length + 1,
+            PACE_ZONE_SECONDS_PER_KM.length + 1, CADENCE_BUCKET_SPM.length + 1);
+    }
+    
+    public TrackAnalysis analyze(TrackData track) {
+        TrackAnalysis analysis = newAnalysis();
+        analyze(track, analysis);
+        return analysis;
+    }
+    
+    public void analyze(TrackData track, TrackAnalysis analysis) {
+        analysis.reset();
+        int size = track.size();
+        if (size == 0) {
+            return;
+        }
+        if (cumulativeMeters.length < size) {
+            cumulativeMeters = new double[size];
+        }
+        
+        double[] latitudes = track.latitudes();
+        double[] longitudes = track.longitudes();
+        long[] times = track.timesMillis();
+        int[] heartRates = track.heartRates();
+        int[] cadences = track.cadences();
+        double[] cumulative = cumulativeMeters;
+        long[] heartRateZones = analysis.getHeartRateZoneMillis();
+        long[] paceZones = analysis.getPaceZoneMillis();
+        long[] cadenceBuckets = analysis.getCadenceBucketMillis();
+        
+        DistanceScale scale = new DistanceScale(latitudes[0]);
+        double nextSplit = SPLIT_METERS;
+        double lastSplitTime = times[0];
+        cumulative[0] = 0;
+        
+        for (int i = 1; i < size; i++) {
+            double segment = scale.meters(latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
+            double distance = cumulative[i - 1] + segment;
+            cumulative[i] = distance;
+            long dt = times[i] - times[i - 1];
+            
+            if (heartRates[i] > 0 && maxHeartRate > 0) {
+                heartRateZones[ascendingBucket(heartRates[i] * 100, heartRateZoneThresholds)] += dt;
+            }
+            if (segment > 0) {
+                paceZones[paceZone(dt, segment)] += dt;
+            }
+            if (cadences[i] > 0) {
+                cadenceBuckets[ascendingBucket(cadences[i], CADENCE_BUCKET_SPM)] += dt;
+            }
+            
+            // 1km 지점 통과 시각을 구간 안에서 보간해 스플릿을 만든다
+            while (distance >= nextSplit) {
+                double crossing = times[i - 1] + dt * (nextSplit - cumulative[i - 1]) / segment;
+                analysis.addSplit(Math.round(crossing - lastSplitTime));
+                lastSplitTime = crossing;
+                nextSplit += SPLIT_METERS;
+            }
+        }
+        
+        double totalDistance = cumulative[size - 1];
+        for (int k = 0; k < BEST_EFFORT_METERS.length && BEST_EFFORT_METERS[k] <= totalDistance; k++) {
+            analysis.offerBestEffort(k, fastestWindowMillis(cumulative, times, size, BEST_EFFORT_METERS[k]) / 1000.0);
+        }
+        analysis.finish(cumulative[size - 1], times[size - 1] - times[0]);
+    }
+    
+    /**
+     * Fastest time over {@code target} metres: a trailing pointer keeps the shortest window ending at each point
+     * that still covers the distance, and the time of its first segment is interpolated to the exact distance.
+     */
+    private static double fastestWindowMillis(double[] cumulative, long[] times, int size, double target) {
+        double best = Double.MAX_VALUE;
+        int start = 0;
+        for (int i = 1; i < size; i++) {
+            double distance = cumulative[i];
+            if (distance < target) {
+                continue;
+            }
+            while (distance - cumulative[start + 1] >= target) {
+                start++;
+            }
+            long windowMillis = times[i] - times[start];
+            long firstSegmentMillis = times[start + 1] - times[start];
+            // 보간해도 현재 기록보다 빨라질 수 없는 창은 나눗셈 없이 건너뛴다
+            if (windowMillis - firstSegmentMillis >= best) {
+                continue;
+            }
+            // 창의 첫 구간에서 목표 거리를 넘는 만큼의 시간을 비례해서 뺀다
+            double firstSegment = cumulative[start + 1] - cumulative[start];
+            double millis = windowMillis;
+            if (firstSegment > 0) {
+                millis -= firstSegmentMillis * (distance - cumulative[start] - target) / firstSegment;
+            }
+            best = Math.min(best, millis);
+        }
+        return best;
+    }
+    
+    /**
+     * Cumulative distance in metres at every point, using the same distance approximation as {@link #analyze}.
+     */
+    public static double[] cumulativeDistances(TrackData track) {
+        int size = track.size();
+        double[] cumulative = new double[size];
+        if (size == 0) {
+            return cumulative;
+        }
+        DistanceScale scale = new DistanceScale(track.latitudes()[0]);
+        for (int i = 1; i < size; i++) {
+            cumulative[i] = cumulative[i - 1] + scale.meters(
+                track.latitudes()[i - 1], track.longitudes()[i - 1], track.latitudes()[i], track.longitudes()[i]);
+        }
+        return cumulative;
+    }
+    
+    private static int paceZone(long millis, double meters) {
+        // ms/m 는 초/km 와 같은 값이므로 millis / meters <= 경계 를 곱셈으로 비교한다
+        int zone = 0;
+        while (zone < PACE_ZONE_SECONDS_PER_KM.length && millis <= PACE_ZONE_SECONDS_PER_KM[zone] * meters) {
+            zone++;
+        }
+        return zone;
+    }
+    
+    private static int ascendingBucket(int value, int[] boundaries) {
+        int bucket = 0;
+        while (bucket < boundaries.length && value >= boundaries[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+    
+    /**
+     * Equirectangular distance between consecutive points. GPS points are metres apart, where this matches
+     * haversine to well below GPS accuracy; cos(latitude) is linearised around the first point instead of
+     * calling {@link Math#cos} per point (relative error ~1e-5 for a track spanning half a degree).
+     */
+    private static final class DistanceScale {
+        private final double referenceRadians;
+        private final double cosReference;
+        private final double sinReference;
+        
+        private DistanceScale(double referenceLatitude) {
+            this.referenceRadians = Math.toRadians(referenceLatitude);
+            this.cosReference = Math.cos(referenceRadians);
+            this.sinReference = Math.sin(referenceRadians);
+        }
+        
+        private double meters(double latitude1, double longitude1, double latitude2, double longitude2) {
+            double midRadians = Math.toRadians((latitude1 + latitude2) * 0.5);
+            double cosMid = cosReference - sinReference * (midRadians - referenceRadians);
+            double x = Math.toRadians(longitude2 - longitude1) * cosMid;
+            double y = Math.toRadians(latitude2 - latitude1);
+            return Math.sqrt(x * x + y * y) * EARTH_RADIUS_METERS;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackData;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Compact binary encoding of GPS tracks.
+ * <p>
+ * Coordinates are quantized to 1e-6 degrees (about 11 cm), elevation to decimetres and time to milliseconds.
+ * Every value is stored as the zigzag-encoded difference to the previous point and written as a varint, so a
+ * point recorded every second usually takes 6-8 bytes instead of a 50+ byte table row:
+ * <pre>
+ * byte version, varint pointCount,
+ * pointCount x (Δlat, Δlon, Δelevation, Δtime, ΔheartRate, Δcadence)
+ * </pre>
+ */
+public final class TrackCodec {
+    
+    private static final byte FORMAT_VERSION = 1;
+    private static final double COORDINATE_SCALE = 1_000_000.0;
+    private static final double ELEVATION_SCALE = 10.0;
+    
+    private TrackCodec() {
+    }
+    
+    public static byte[] encode(TrackData track) {
+        int size = track.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 8 + 8);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, size);
+        
+        long previousLatitude = 0;
+        long previousLongitude = 0;
+        long previousElevation = 0;
+        long previousTime = 0;
+        long previousHeartRate = 0;
+        long previousCadence = 0;
+        for (int i = 0; i < size; i++) {
+            long latitude = Math.round(track.latitudes()[i] * COORDINATE_SCALE);
+            long longitude = Math.round(track.longitudes()[i] * COORDINATE_SCALE);
+            long elevation = Math.round(track.elevations()[i] * ELEVATION_SCALE);
+            long time = track.timesMillis()[i];
+            long heartRate = track.heartRates()[i];
+            long cadence = track.cadences()[i];
+            
+            writeVarLong(out, zigzag(latitude - previousLatitude));
+            writeVarLong(out, zigzag(longitude - previousLongitude));
+            writeVarLong(out, zigzag(elevation - previousElevation));
+            writeVarLong(out, zigzag(time - previousTime));
+            writeVarLong(out, zigzag(heartRate - previousHeartRate));
+            writeVarLong(out, zigzag(cadence - previousCadence));
+            
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+            previousElevation = elevation;
+            previousTime = time;
+            previousHeartRate = heartRate;
+            previousCadence = cadence;
+        }
+        return out.toByteArray();
+    }
+    
+    public static TrackData decode(byte[] encoded) {
+        Reader in = new Reader(encoded);
+        byte version = encoded[in.position++];
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported track format version: " + version);
+        }
+        int size = (int) in.readVarLong();
+        
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        double[] elevations = new double[size];
+        long[] timesMillis = new long[size];
+        int[] heartRates = new int[size];
+        int[] cadences = new int[size];
+        
+        long latitude = 0;
+        long longitude = 0;
+        long elevation = 0;
+        long time = 0;
+        long heartRate = 0;
+        long cadence = 0;
+        for (int i = 0; i < size; i++) {
+            latitude += unzigzag(in.readVarLong());
+            longitude += unzigzag(in.readVarLong());
+            elevation += unzigzag(in.readVarLong());
+            time += unzigzag(in.readVarLong());
+            heartRate += unzigzag(in.readVarLong());
+            cadence += unzigzag(in.readVarLong());
+            
+            latitudes[i] = latitude / COORDINATE_SCALE;
+            longitudes[i] = longitude / COORDINATE_SCALE;
+            elevations[i] = elevation / ELEVATION_SCALE;
+            timesMillis[i] = time;
+            heartRates[i] = (int) heartRate;
+            cadences[i] = (int) cadence;
+        }
+        return new TrackData(latitudes, longitudes, elevations, timesMillis, heartRates, cadences);
+    }
+    
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+    
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+    
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+    
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+        
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+        
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
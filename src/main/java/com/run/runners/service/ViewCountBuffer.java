@@ -0,0 +1,132 @@
+package com.run.runners.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for detail page view counts.
+ * Views are counted in memory per entity id and flushed to the database in one batched UPDATE
+ * per board every few seconds, so popular posts no longer take a row lock on every view.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountBuffer {
+    
+    public enum Target {
+        POST("r_posts"),
+        RUNNING_MATE("r_running_mates"),
+        TIPS("r_tips"),
+        REVIEW("r_reviews");
+        
+        private final String tableName;
+        
+        Target(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final Map<Target, ConcurrentHashMap<Long, Counter>> pending = createPending();
+    
+    public void increment(Target target, Long id) {
+        add(pending.get(target), id, 1);
+    }
+    
+    private static void add(ConcurrentHashMap<Long, Counter> counters, Long id, long delta) {
+        while (delta > 0) {
+            Counter counter = counters.computeIfAbsent(id, key -> new Counter());
+            counter.add(delta);
+            // flush가 비어 있다고 보고 떼어 낸 카운터에 더했을 수 있다: 남은 값을 맵에 있는 카운터로 옮긴다
+            delta = counter.retired ? counter.sumThenReset() : 0;
+        }
+    }
+    
+    /**
+     * Views counted for the entity that have not been written to the database yet.
+     */
+    public long getPendingCount(Target target, Long id) {
+        Counter counter = pending.get(target).get(id);
+        return counter != null ? counter.sum() : 0;
+    }
+    
+    @Scheduled(fixedDelayString = "${runners.view-count.flush-delay-ms:5000}")
+    public void flush() {
+        for (Target target : Target.values()) {
+            flush(target);
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing pending view counts before shutdown");
+        flush();
+    }
+    
+    private void flush(Target target) {
+        ConcurrentHashMap<Long, Counter> counters = pending.get(target);
+        List<Object[]> updates = new ArrayList<>();
+        
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                updates.add(new Object[] {delta, entry.getKey()});
+            } else {
+                // 지난 주기 이후 조회가 없던 카운터는 비었는지 확인과 제거를 한 번에 한다
+                counters.computeIfPresent(entry.getKey(), (id, counter) -> counter.retireIfEmpty() ? null : counter);
+            }
+        }
+        
+        if (updates.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate("UPDATE " + target.tableName + " SET view_count = view_count + ? WHERE id = ?", updates);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} view counts for {}, keeping them for the next flush", updates.size(), target, e);
+            for (Object[] update : updates) {
+                add(counters, (Long) update[1], (Long) update[0]);
+            }
+        }
+    }
+    
+    private static Map<Target, ConcurrentHashMap<Long, Counter>> createPending() {
+        Map<Target, ConcurrentHashMap<Long, Counter>> pending = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            pending.put(target, new ConcurrentHashMap<>());
+        }
+        return pending;
+    }
+    
+    /**
+     * View counter that can be retired by {@link ViewCountBuffer#flush()}. Retiring sets the flag before checking
+     * the sum and writers add before reading the flag, so a view racing with the removal either keeps the counter
+     * in the map or is moved by its writer to the counter that replaced it.
+     */
+    private static final class Counter extends LongAdder {
+        
+        private volatile boolean retired;
+        
+        private boolean retireIfEmpty() {
+            retired = true;
+            if (sum() == 0) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+    }
+}
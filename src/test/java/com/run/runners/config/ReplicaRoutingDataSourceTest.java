@@ -0,0 +1,166 @@
+package com.run.runners.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    private HikariDataSource replica1;
+    private HikariDataSource replica2;
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    // 각 DB에 자기 이름을 적은 표식 테이블을 만들어 어느 DB로 갔는지 확인한다
+    private HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+        pools.add(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+    private ReplicaRoutingDataSource router(ReplicaRoutingDataSource.Strategy strategy) {
+        replica1 = database("replica-1");
+        replica2 = database("replica-2");
+        return new ReplicaRoutingDataSource(database("primary"),
+            List.of(new ReplicaRoutingDataSource.Replica("replica-1", replica1),
+                new ReplicaRoutingDataSource.Replica("replica-2", replica2)),
+            strategy, 1);
+    }
+
+    private static String read(DataSource dataSource, boolean readOnly) {
+        DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(lazy));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(lazy).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_레플리카로_간다() {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+
+        assertTrue(read(router, true).startsWith("replica-"));
+        assertEquals("primary", read(router, false));
+        // 트랜잭션 밖의 쿼리도 primary
+        assertEquals("primary", new JdbcTemplate(new LazyConnectionDataSourceProxy(router))
+            .queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void 라운드_로빈은_레플리카를_번갈아_쓴다() {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+
+        String first = read(router, true);
+        String second = read(router, true);
+        String third = read(router, true);
+
+        assertNotEquals(first, second);
+        assertEquals(first, third);
+    }
+
+    @Test
+    void 최소_연결은_한가한_레플리카를_고른다() throws Exception {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.LEAST_CONNECTIONS);
+
+        // 읽기 전용 트랜잭션 안에서 받은 레플리카 커넥션을 닫지 않고 쥐고 있는다
+        Connection held;
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            held = router.getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        try (held; Statement statement = held.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT name FROM marker")) {
+            resultSet.next();
+            String busy = resultSet.getString(1);
+            assertTrue(busy.startsWith("replica-"));
+            for (int i = 0; i < 3; i++) {
+                assertNotEquals(busy, read(router, true));
+            }
+        }
+        assertTrue(router.getReplicas().stream().allMatch(replica -> replica.getActiveConnections() == 0));
+    }
+
+    @Test
+    void 헬스_체크에_실패한_레플리카는_건너뛴다() {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+
+        replica1.close();
+        router.checkReplicas();
+        assertFalse(router.getReplicas().get(0).isHealthy());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("replica-2", read(router, true));
+        }
+
+        // 레플리카가 모두 내려가면 primary 로 읽는다
+        replica2.close();
+        router.checkReplicas();
+        assertEquals("primary", read(router, true));
+    }
+
+    @Test
+    void 자기_쓰기_직후에는_primary에서_읽는다() {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+
+        try (ReplicaRoutingDataSource.PrimaryScope ignored = ReplicaRoutingDataSource.preferPrimary()) {
+            assertEquals("primary", read(router, true));
+        }
+        assertTrue(read(router, true).startsWith("replica-"));
+    }
+
+    @Test
+    void 캐시를_채우는_조회는_primary에서_읽는다() {
+        ReplicaRoutingDataSource router = router(ReplicaRoutingDataSource.Strategy.ROUND_ROBIN);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MarkerReader(router));
+        factory.addAspect(new CacheLoadRoutingAspect());
+        MarkerReader proxy = factory.getProxy();
+
+        assertEquals("primary", proxy.cached());
+        assertTrue(proxy.uncached().startsWith("replica-"));
+    }
+
+    static class MarkerReader {
+
+        private final DataSource dataSource;
+
+        MarkerReader(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Cacheable("markers")
+        public String cached() {
+            return read(dataSource, true);
+        }
+
+        public String uncached() {
+            return read(dataSource, true);
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package com.run.runners.controller;
+
+import com.run.runners.entity.Comment;
+import com.run.runners.entity.Competition;
+import com.run.runners.entity.Post;
+import com.run.runners.entity.Review;
+import com.run.runners.entity.RunningMate;
+import com.run.runners.entity.RunningMateComment;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.Tips;
+import com.run.runners.service.CommentService;
+import com.run.runners.service.CompetitionService;
+import com.run.runners.service.LikeService;
+import com.run.runners.service.PostService;
+import com.run.runners.service.ReviewService;
+import com.run.runners.service.RunningMateCommentService;
+import com.run.runners.service.RunningMateService;
+import com.run.runners.service.RunningRecordService;
+import com.run.runners.service.RunningTrackService;
+import com.run.runners.service.StatisticsJobService;
+import com.run.runners.service.TipsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static com.run.runners.support.QueryCountAssertions.assertQueryCount;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for every endpoint of {@link WebController}. Each list is seeded with more rows than a page
+ * and every row has children (comments, likes, tracks), so a lazy association touched per row shows up as extra
+ * statements and fails the budget. Caches are cleared before each request so the budget covers the cold path.
+ * Revalidations carrying a matching ETag must answer 304 after the version queries alone.
+ * Writes are counted on their own rows so they do not change the data the read budgets run against; statements
+ * issued through {@code JdbcTemplate} (statistics upserts, bulk import) are not Hibernate statements and not counted.
+ * The CSV exports stream on an async thread and are not counted here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "runners.statistics.reconcile-delay-ms=86400000",
+    // ETag의 조회수 갱신 주기가 테스트 도중 바뀌지 않도록
+    "runners.cache.list-ttl-seconds=86400"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WebControllerQueryBudgetTest {
+
+    private static final int ROWS = 25;
+    // 폼 전송은 성공 메시지와 함께 목록/상세로 리다이렉트한다 (실패도 리다이렉트하므로 메시지까지 확인)
+    private static final ResultMatcher[] SAVED = {status().is3xxRedirection(), flash().attributeExists("successMessage")};
+    private static final String[] RUNNERS = {"김러너", "이러너", "박러너"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private TipsService tipsService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RunningMateService runningMateService;
+
+    @Autowired
+    private RunningMateCommentService runningMateCommentService;
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private RunningRecordService runningRecordService;
+
+    @Autowired
+    private RunningTrackService runningTrackService;
+
+    @Autowired
+    private StatisticsJobService statisticsJobService;
+
+    private Long postId;
+    private Long tipsId;
+    private Long reviewId;
+    private Long runningMateId;
+    private Long competitionId;
+    private Long runningRecordId;
+
+    @BeforeAll
+    void 테스트_데이터_준비() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ROWS; i++) {
+            Post post = postService.savePost(post("게시글 " + i));
+            postId = post.getId();
+            for (int c = 0; c < 3; c++) {
+                Comment comment = new Comment();
+                comment.setPost(post);
+                comment.setAuthor("댓글러" + c);
+                comment.setContent("댓글 " + c);
+                commentService.saveComment(comment);
+            }
+            likeService.toggleLike(post.getId(), "10.0.0." + i);
+
+            tipsId = tipsService.saveTips(tips("팁 " + i)).getId();
+            reviewId = reviewService.saveReview(review("후기 " + i)).getId();
+
+            RunningMate runningMate = runningMateService.saveRunningMate(runningMate("같이 달려요 " + i, now.plusDays(i)));
+            runningMateId = runningMate.getId();
+            for (int c = 0; c < 2; c++) {
+                RunningMateComment comment = new RunningMateComment();
+                comment.setRunningMate(runningMate);
+                comment.setAuthor("참가자" + c);
+                comment.setContent("참여합니다");
+                comment.setPhoneNumber("010-0000-000" + c);
+                runningMateCommentService.saveComment(comment);
+            }
+
+            competitionId = competitionService.saveCompetition(competition("마라톤 " + i, now.plusWeeks(i))).getId();
+
+            for (String runner : RUNNERS) {
+                runningRecordId = runningRecordService.saveRunningRecord(runningRecord(runner, now.minusDays(i))).getId();
+            }
+        }
+        runningTrackService.attachTrack(runningRecordId, new ByteArrayInputStream(gpx(60).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @BeforeEach
+    void 캐시_비우기() {
+        for (String name : cacheManager.getCacheNames()) {
+            cacheManager.getCache(name).clear();
+        }
+    }
+
+    @Test
+    void 정적_페이지는_쿼리를_실행하지_않는다() {
+        budget("홈", 0, "/");
+        budget("나의 러닝", 0, "/my-running");
+        budget("커뮤니티", 0, "/community");
+        budget("도움말", 0, "/help");
+        budget("대회 등록 폼", 0, "/competitions/register");
+        budget("기록 작성 폼", 0, "/my-running/records/write");
+        budget("게시글 작성 폼", 0, "/community/board/write");
+        budget("팁 작성 폼", 0, "/community/tips/write");
+        budget("후기 작성 폼", 0, "/community/reviews/write");
+        budget("러닝메이트 작성 폼", 0, "/community/running-mates/write");
+    }
+
+    @Test
+    void 대회_쿼리_예산() {
+        budget("대회 목록", 2, "/competitions");
+        budget("대회 상세", 1, "/competitions/" + competitionId);
+    }
+
+    @Test
+    void 자유게시판_쿼리_예산() {
+        // 목록 버전(ETag) + 페이지 조회
+        budget("게시판 목록", 3, "/community/board");
+        // 게시글 + 댓글 + 좋아요 여부
+        budget("게시글 상세", 3, "/community/board/" + postId);
+        budget("게시글 검색", 2, "/community/board/search?keyword=게시글");
+        budget("게시글 작성자 검색", 2, "/community/board/search?keyword=작성자&type=author");
+    }
+
+    @Test
+    void 팁_후기_게시판_쿼리_예산() {
+        budget("팁 목록", 3, "/community/tips");
+        budget("팁 상세", 1, "/community/tips/" + tipsId);
+        budget("팁 검색", 2, "/community/tips/search?keyword=팁");
+        budget("후기 목록", 3, "/community/reviews");
+        budget("후기 상세", 1, "/community/reviews/" + reviewId);
+        budget("후기 검색", 2, "/community/reviews/search?keyword=후기");
+    }
+
+    @Test
+    void 러닝메이트_쿼리_예산() {
+        budget("러닝메이트 목록", 3, "/community/running-mates");
+        // 모집글 + 참여 신청 목록
+        budget("러닝메이트 상세", 2, "/community/running-mates/" + runningMateId);
+        budget("러닝메이트 지역 검색", 2, "/community/running-mates/search?keyword=한강&type=location");
+    }
+
+    @Test
+    void 통합_검색은_색인만_조회한다() {
+        budget("통합 검색", 0, "/community/search?keyword=달려요");
+    }
+
+    @Test
+    void 달리기_기록_쿼리_예산() {
+        budget("기록 목록", 2, "/my-running/records");
+        budget("기록 상세", 1, "/my-running/records/" + runningRecordId);
+        budget("기록 검색", 2, "/my-running/records/search?keyword=러너");
+        budget("트랙 요약", 1, "/my-running/records/" + runningRecordId + "/track/summary");
+        budget("트랙 포인트", 1, "/my-running/records/" + runningRecordId + "/track?maxPoints=20");
+        budget("트랙 분석", 1, "/my-running/records/" + runningRecordId + "/track/analysis");
+    }
+
+    @Test
+    void 통계와_리더보드_쿼리_예산() {
+        // 통계 전체 버전 + 선택한 러너의 통계 버전(ETag) + 러너 목록 + 주간/월간/연간 통계
+        budget("통계", 6, "/my-running/statistics?runnerName=" + RUNNERS[0]);
+        // 리더보드는 메모리 랭킹 트리에서 바로 응답한다
+        budget("리더보드", 0, "/my-running/leaderboard?period=MONTHLY");
+        budget("리더보드 주변 순위", 0, "/my-running/leaderboard/" + RUNNERS[0] + "?period=YEARLY");
+    }
+
+    @Test
+    void 변경이_없으면_재검증은_버전만_조회하고_304() {
+        revalidate("게시판 목록", 1, "/community/board");
+        // 수정 시각 + 좋아요 여부
+        revalidate("게시글 상세", 2, "/community/board/" + postId);
+        revalidate("팁 목록", 1, "/community/tips");
+        revalidate("팁 상세", 1, "/community/tips/" + tipsId);
+        revalidate("후기 목록", 1, "/community/reviews");
+        revalidate("후기 상세", 1, "/community/reviews/" + reviewId);
+        revalidate("러닝메이트 목록", 1, "/community/running-mates");
+        revalidate("러닝메이트 상세", 1, "/community/running-mates/" + runningMateId);
+        // 통계 전체 버전 + 선택한 러너의 통계 버전
+        revalidate("통계", 2, "/my-running/statistics?runnerName=" + RUNNERS[0]);
+    }
+
+    @Test
+    void 댓글과_좋아요가_바뀌면_ETag도_바뀐다() throws Exception {
+        String detailUrl = "/community/board/" + postId;
+        String detailEtag = etag(detailUrl);
+        String boardEtag = etag("/community/board");
+
+        Comment comment = new Comment();
+        comment.setPost(postService.getPostById(postId).orElseThrow());
+        comment.setAuthor("새댓글러");
+        comment.setContent("새 댓글");
+        commentService.saveComment(comment);
+
+        String changedEtag = mockMvc.perform(get(detailUrl).header(HttpHeaders.IF_NONE_MATCH, detailEtag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(detailEtag, changedEtag);
+        mockMvc.perform(get("/community/board").header(HttpHeaders.IF_NONE_MATCH, boardEtag))
+            .andExpect(status().isOk());
+
+        // 좋아요를 누르면 다시 렌더링하고, 요청자(IP)별 좋아요 여부가 들어가므로 private 으로 캐시한다
+        likeService.toggleLike(postId, "127.0.0.1");
+        mockMvc.perform(get(detailUrl).header(HttpHeaders.IF_NONE_MATCH, changedEtag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+        likeService.toggleLike(postId, "127.0.0.1");
+    }
+
+    @Test
+    void 플래시_메시지가_있는_페이지는_캐시하지_않는다() throws Exception {
+        String etag = etag("/community/tips");
+
+        mockMvc.perform(get("/community/tips").header(HttpHeaders.IF_NONE_MATCH, etag)
+                .flashAttr("successMessage", "팁이 성공적으로 등록되었습니다."))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+    }
+
+    @Test
+    void 대회_게시판_등록_쿼리_예산() {
+        write("대회 등록", 1, MockMvcRequestBuilders.post("/competitions/register")
+            .param("name", "새 대회").param("eventDateTime", "2030-10-01T08:00").param("location", "서울")
+            .param("course", "풀코스").param("participationFee", "50000"), SAVED);
+        write("게시글 등록", 1, MockMvcRequestBuilders.post("/community/board/write")
+            .param("title", "새 게시글").param("content", "본문").param("author", "작성자"), SAVED);
+        write("팁 등록", 1, MockMvcRequestBuilders.post("/community/tips/write")
+            .param("title", "새 팁").param("content", "본문").param("author", "코치"), SAVED);
+        write("후기 등록", 1, MockMvcRequestBuilders.post("/community/reviews/write")
+            .param("title", "새 후기").param("content", "본문").param("author", "완주자"), SAVED);
+        write("러닝메이트 등록", 1, MockMvcRequestBuilders.post("/community/running-mates/write")
+            .param("title", "새 모집").param("content", "본문").param("author", "모집자").param("location", "한강공원")
+            .param("runningDateTime", "2030-10-01T07:00").param("maxParticipants", "5"), SAVED);
+    }
+
+    @Test
+    void 댓글과_좋아요_쿼리_예산() {
+        Long targetPostId = postService.savePost(post("댓글 예산")).getId();
+
+        // 게시글 조회 + 댓글 INSERT + 댓글 수 증가
+        write("댓글 등록", 3, MockMvcRequestBuilders.post("/community/board/" + targetPostId + "/comments")
+            .param("author", "댓글러").param("content", "댓글"), SAVED);
+        Long commentId = commentService.getCommentsByPostId(targetPostId).get(0).getId();
+        write("댓글 삭제", 3, MockMvcRequestBuilders.post("/community/board/" + targetPostId + "/comments/" + commentId + "/delete"), SAVED);
+        // 취소 시도(DELETE) + 좋아요 INSERT + 좋아요 수 증가 + 현재 좋아요 수
+        write("좋아요", 4, MockMvcRequestBuilders.post("/community/board/" + targetPostId + "/like"), status().isOk());
+        write("좋아요 취소", 3, MockMvcRequestBuilders.post("/community/board/" + targetPostId + "/like"), status().isOk());
+    }
+
+    @Test
+    void 러닝메이트_참여_신청_쿼리_예산() {
+        Long targetId = runningMateService.saveRunningMate(runningMate("참여 예산", LocalDateTime.now().plusDays(3))).getId();
+
+        write("참여 신청", 3, MockMvcRequestBuilders.post("/community/running-mates/" + targetId + "/comments")
+            .param("author", "참가자").param("phoneNumber", "010-1234-5678").param("content", "참여합니다"), SAVED);
+        Long commentId = runningMateCommentService.getCommentsByRunningMateId(targetId).get(0).getId();
+        write("참여 취소", 3, MockMvcRequestBuilders.post("/community/running-mates/" + targetId + "/comments/" + commentId + "/delete"), SAVED);
+    }
+
+    @Test
+    void 달리기_기록_쓰기_쿼리_예산() {
+        // 기록 INSERT + 주간/월간/연간 통계 버킷마다 잠금 조회와 UPDATE
+        write("기록 등록", 7, MockMvcRequestBuilders.post("/my-running/records/write")
+            .param("runnerName", "쓰기러너").param("recordDate", "2025-03-01T07:00").param("runTimeMinutes", "50")
+            .param("distanceKm", "10.0").param("cadence", "180").param("maxHeartRate", "170").param("maxSpeedKmh", "14.0"), SAVED);
+
+        Long recordId = runningRecordService.saveRunningRecord(runningRecord("트랙러너", LocalDateTime.of(2025, 3, 1, 7, 0))).getId();
+        // 기록/트랙 조회와 저장 + 기록 수정에 따른 통계 버킷 재계산 + 구간 최고 기록 반영 (기간마다 잠금 조회)
+        write("트랙 첨부", 26, MockMvcRequestBuilders.post("/my-running/records/" + recordId + "/track")
+            .contentType("application/gpx+xml").content(gpx(60)), status().isOk());
+        // 기록 조회 + 트랙/기록 DELETE + 주간/월간/연간 통계 버킷 재계산
+        write("기록 삭제", 15, MockMvcRequestBuilders.post("/my-running/records/" + recordId + "/delete"), SAVED);
+
+        String csv = "runnerName,recordDate,runTimeMinutes,distanceKm,cadence,maxHeartRate,maxSpeedKmh\n"
+            + "가져오기러너,2025-03-02T07:00,40,8.0,178,165,13.5\n"
+            + "가져오기러너,2025-03-03T07:00,60,12.0,180,172,14.2\n";
+        // 행은 JDBC 배치로 저장하고(세지 않음) 영향받은 통계 버킷(주간 2 + 월간 + 연간)마다 집계 한 번
+        write("기록 가져오기", 4, MockMvcRequestBuilders.post("/my-running/records/import?format=CSV")
+            .contentType("text/csv").content(csv), status().isOk());
+    }
+
+    @Test
+    void 통계_작업_등록_쿼리_예산() {
+        // 러너 확인 + 작업 리스 + 작업 상태 INSERT (재계산 자체는 별도 스레드)
+        write("통계 재계산 요청", 3, MockMvcRequestBuilders.post("/my-running/statistics/generate")
+            .param("runnerName", RUNNERS[1]).param("period", "MONTHLY").param("date", "2025-03-01"), SAVED);
+        awaitStatisticsJob();
+        write("통계 작업 API", 3, MockMvcRequestBuilders.post("/my-running/statistics/jobs")
+            .param("runnerName", RUNNERS[1]).param("period", "WEEKLY").param("date", "2025-03-01"), status().isAccepted());
+        awaitStatisticsJob();
+    }
+
+    private void write(String description, long maxQueries, MockHttpServletRequestBuilder request, ResultMatcher... expected) {
+        assertQueryCount(description, maxQueries, () -> mockMvc.perform(request).andExpectAll(expected));
+    }
+
+    // 작업은 별도 스레드에서 실행되므로 다음 요청 전에 끝날 때까지 기다린다 (실행 중이면 중복 요청이 거부된다)
+    private void awaitStatisticsJob() {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (statisticsJobService.getActiveJob().isPresent()) {
+            assertTrue(System.currentTimeMillis() < deadline, "통계 작업이 30초 안에 끝나지 않았습니다");
+            assertDoesNotThrow(() -> Thread.sleep(50));
+        }
+    }
+
+    private void revalidate(String description, long maxQueries, String url) {
+        String etag = assertDoesNotThrow(() -> etag(url), description);
+        assertQueryCount(description + " 재검증", maxQueries, () -> mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified()));
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, startsWith("no-cache")))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, url);
+        return etag;
+    }
+
+    private void budget(String description, long maxQueries, String url) {
+        assertQueryCount(description, maxQueries, () -> mockMvc.perform(get(url)).andExpect(status().is2xxSuccessful()));
+    }
+
+    private static Post post(String title) {
+        Post post = new Post();
+        post.setTitle(title);
+        post.setContent(title + " 본문입니다.");
+        post.setAuthor("작성자");
+        return post;
+    }
+
+    private static Tips tips(String title) {
+        Tips tips = new Tips();
+        tips.setTitle(title);
+        tips.setContent(title + " 본문입니다.");
+        tips.setAuthor("코치");
+        return tips;
+    }
+
+    private static Review review(String title) {
+        Review review = new Review();
+        review.setTitle(title);
+        review.setContent(title + " 본문입니다.");
+        review.setAuthor("완주자");
+        return review;
+    }
+
+    private static RunningMate runningMate(String title, LocalDateTime runningDateTime) {
+        RunningMate runningMate = new RunningMate();
+        runningMate.setTitle(title);
+        runningMate.setContent("여의도에서 10km 함께 달리실 분");
+        runningMate.setAuthor("모집자");
+        runningMate.setLocation("한강공원");
+        runningMate.setMaxParticipants(5);
+        runningMate.setRunningDateTime(runningDateTime);
+        return runningMate;
+    }
+
+    private static Competition competition(String name, LocalDateTime eventDateTime) {
+        Competition competition = new Competition();
+        competition.setName(name);
+        competition.setEventDateTime(eventDateTime);
+        competition.setLocation("서울");
+        competition.setCourse("풀코스");
+        competition.setParticipationFee(50000);
+        return competition;
+    }
+
+    private static RunningRecord runningRecord(String runnerName, LocalDateTime recordDate) {
+        RunningRecord record = new RunningRecord();
+        record.setRunnerName(runnerName);
+        record.setRunTimeMinutes(50);
+        record.setDistanceKm(10.0);
+        record.setCadence(180);
+        record.setMaxHeartRate(170);
+        record.setMaxSpeedKmh(14.0);
+        record.setRecordDate(recordDate);
+        return record;
+    }
+
+    // 북쪽으로 10초마다 약 33m (1km 이상이 되도록) 이동하는 트랙
+    private static String gpx(int points) {
+        StringBuilder gpx = new StringBuilder("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1"
+                 xmlns:gpxtpx="http://www.garmin.com/xmlschemas/TrackPointExtension/v1">
+              <trk><trkseg>
+            """);
+        Instant start = Instant.parse("2025-03-01T07:00:00Z");
+        for (int i = 0; i < points; i++) {
+            gpx.append(String.format(Locale.ROOT, "<trkpt lat=\"%.6f\" lon=\"127.000000\"><ele>20.0</ele><time>%s</time>"
+                    + "<extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>150</gpxtpx:hr><gpxtpx:cad>180</gpxtpx:cad>"
+                    + "</gpxtpx:TrackPointExtension></extensions></trkpt>%n",
+                37.5 + i * 0.0003, start.plusSeconds(i * 10L)));
+        }
+        return gpx.append("</trkseg></trk></gpx>").toString();
+    }
+}
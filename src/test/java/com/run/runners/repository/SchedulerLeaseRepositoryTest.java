@@ -0,0 +1,96 @@
+package com.run.runners.repository;
+
+import com.run.runners.entity.ClusterNode;
+import com.run.runners.entity.SchedulerLease;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 리스 획득/갱신/인계는 조건부 UPDATE 하나로 결정되므로 실제 DB(H2)에서 확인한다
+@DataJpaTest
+@ActiveProfiles("dev")
+class SchedulerLeaseRepositoryTest {
+
+    private static final String LEASE = "scheduler";
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 1, 7, 0);
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private ClusterNodeRepository clusterNodeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 만료_전에는_다른_노드가_가져갈_수_없다() {
+        schedulerLeaseRepository.saveAndFlush(new SchedulerLease(LEASE, "node-a", T0.plusSeconds(30), T0));
+
+        assertEquals(0, schedulerLeaseRepository.acquire(LEASE, "node-b", T0.plusSeconds(10), T0.plusSeconds(40)));
+        // 보유 노드는 갱신 가능
+        assertEquals(1, schedulerLeaseRepository.acquire(LEASE, "node-a", T0.plusSeconds(10), T0.plusSeconds(40)));
+        assertEquals(0, schedulerLeaseRepository.acquire(LEASE, "node-b", T0.plusSeconds(35), T0.plusSeconds(65)));
+
+        assertEquals("node-a", reload().getOwner());
+    }
+
+    @Test
+    void 만료되면_다른_노드가_인계받고_이전_보유자는_갱신하지_못한다() {
+        schedulerLeaseRepository.saveAndFlush(new SchedulerLease(LEASE, "node-a", T0.plusSeconds(30), T0));
+
+        assertEquals(1, schedulerLeaseRepository.acquire(LEASE, "node-b", T0.plusSeconds(31), T0.plusSeconds(61)));
+        assertEquals(0, schedulerLeaseRepository.acquire(LEASE, "node-a", T0.plusSeconds(32), T0.plusSeconds(62)));
+
+        SchedulerLease lease = reload();
+        assertEquals("node-b", lease.getOwner());
+        assertEquals(T0.plusSeconds(61), lease.getExpiresAt());
+    }
+
+    @Test
+    void 반납하면_바로_인계된다() {
+        schedulerLeaseRepository.saveAndFlush(new SchedulerLease(LEASE, "node-a", T0.plusSeconds(30), T0));
+
+        assertEquals(0, schedulerLeaseRepository.release(LEASE, "node-b", T0.plusSeconds(5)));
+        assertEquals(1, schedulerLeaseRepository.release(LEASE, "node-a", T0.plusSeconds(5)));
+        assertEquals(1, schedulerLeaseRepository.acquire(LEASE, "node-b", T0.plusSeconds(6), T0.plusSeconds(36)));
+    }
+
+    @Test
+    void 리스_행은_한_노드만_만들_수_있다() {
+        assertEquals(0, schedulerLeaseRepository.acquire(LEASE, "node-a", T0, T0.plusSeconds(30)));
+        schedulerLeaseRepository.saveAndFlush(new SchedulerLease(LEASE, "node-a", T0.plusSeconds(30), T0));
+        entityManager.clear();
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> schedulerLeaseRepository.saveAndFlush(new SchedulerLease(LEASE, "node-b", T0.plusSeconds(30), T0)));
+    }
+
+    @Test
+    void 하트비트가_끊긴_노드는_샤드_분배에서_빠진다() {
+        clusterNodeRepository.saveAndFlush(new ClusterNode("node-b", T0, T0));
+        clusterNodeRepository.saveAndFlush(new ClusterNode("node-a", T0, T0));
+        clusterNodeRepository.saveAndFlush(new ClusterNode("node-c", T0, T0));
+
+        assertEquals(1, clusterNodeRepository.heartbeat("node-a", T0.plusSeconds(40)));
+        assertEquals(1, clusterNodeRepository.heartbeat("node-b", T0.plusSeconds(40)));
+        assertEquals(0, clusterNodeRepository.heartbeat("node-x", T0.plusSeconds(40)));
+
+        assertEquals(List.of("node-a", "node-b"), clusterNodeRepository.findLiveNodeIds(T0.plusSeconds(10)));
+        assertEquals(1, clusterNodeRepository.deleteStaleNodes(T0.plusSeconds(10)));
+        assertEquals(2, clusterNodeRepository.count());
+    }
+
+    private SchedulerLease reload() {
+        entityManager.clear();
+        return schedulerLeaseRepository.findById(LEASE).orElseThrow();
+    }
+}
@@ -0,0 +1,173 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.ContentVersion;
+import com.run.runners.dto.SearchResult;
+import com.run.runners.entity.Post;
+import com.run.runners.entity.Tips;
+import com.run.runners.repository.PostRepository;
+import com.run.runners.repository.ReviewRepository;
+import com.run.runners.repository.RunningMateRepository;
+import com.run.runners.repository.TipsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private TipsRepository tipsRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private RunningMateRepository runningMateRepository;
+
+    @InjectMocks
+    private BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    void 테스트_설정() {
+        ReflectionTestUtils.setField(boardSearchIndex, "maxContentChars", 2000);
+        ReflectionTestUtils.setField(boardSearchIndex, "maxResults", 200);
+
+        Post titleMatch = post(1L, "한강 야간 러닝 후기", "즐거웠어요", LocalDateTime.now().minusDays(2));
+        Post contentMatch = post(2L, "오늘의 기록", "한강에서 러닝했습니다", LocalDateTime.now().minusDays(1));
+        Post noMatch = post(3L, "마라톤 준비", "식단 관리", LocalDateTime.now());
+        Tips tips = new Tips();
+        tips.setId(10L);
+        tips.setTitle("러닝화 고르는 법");
+        tips.setContent("한강 러닝에 좋은 신발");
+        tips.setAuthor("코치");
+        tips.setCreatedAt(LocalDateTime.now());
+
+        when(postRepository.findPage(any(Pageable.class))).thenReturn(List.of(noMatch, contentMatch, titleMatch));
+        when(tipsRepository.findPage(any(Pageable.class))).thenReturn(List.of(tips));
+        when(reviewRepository.findPage(any(Pageable.class))).thenReturn(List.of());
+        when(runningMateRepository.findPage(any(Pageable.class))).thenReturn(List.of());
+
+        boardSearchIndex.rebuild();
+    }
+
+    @Test
+    void 제목에_일치하는_게시물이_내용에_일치하는_게시물보다_먼저_반환() {
+        List<Long> ids = boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "한강 러닝");
+
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    @Test
+    void 게시판_미지정시_모든_게시판에서_검색() {
+        SearchResult result = boardSearchIndex.search("한강 러닝", null, 0, 20);
+
+        assertEquals(3, result.totalHits());
+        assertTrue(result.hits().stream().anyMatch(hit -> hit.board() == BoardSearchIndex.Board.TIPS && hit.id() == 10L));
+    }
+
+    @Test
+    void 삭제된_게시물은_검색되지_않음() {
+        boardSearchIndex.remove(BoardSearchIndex.Board.POST, 1L);
+
+        assertEquals(List.of(2L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "한강 러닝"));
+    }
+
+    @Test
+    void 수정된_게시물은_새_내용으로_검색() {
+        Post edited = post(3L, "마라톤 준비", "한강 러닝 코스 추천", LocalDateTime.now());
+
+        boardSearchIndex.index(edited);
+
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "한강 러닝").contains(3L));
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "식단").isEmpty());
+    }
+
+    @Test
+    void 요청한_페이지만큼만_순위를_매기고_전체_건수는_모두_센다() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 100; id < 130; id++) {
+            boardSearchIndex.index(post(id, "주말 장거리", "장거리 연습", now.minusMinutes(id)));
+        }
+        boardSearchIndex.index(post(200L, "장거리 장거리 장거리", "장거리", now.minusDays(30)));
+
+        SearchResult first = boardSearchIndex.search("장거리", BoardSearchIndex.Board.POST, 0, 10);
+        SearchResult second = boardSearchIndex.search("장거리", BoardSearchIndex.Board.POST, 1, 10);
+        SearchResult last = boardSearchIndex.search("장거리", BoardSearchIndex.Board.POST, 3, 10);
+
+        assertEquals(31, first.totalHits());
+        assertEquals(200L, first.hits().get(0).id());
+        assertEquals(100L, first.hits().get(1).id());
+        assertEquals(109L, second.hits().get(0).id());
+        assertEquals(10, second.hits().size());
+        assertEquals(List.of(129L), last.hits().stream().map(hit -> hit.id()).toList());
+    }
+
+    @Test
+    void 한_글자_검색은_단어_안의_글자와도_일치() {
+        boardSearchIndex.index(post(4L, "제주 올레길", "5km 코스", LocalDateTime.now()));
+
+        assertEquals(List.of(4L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "길"));
+        assertEquals(List.of(4L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "5"));
+        assertEquals(List.of(4L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "레"));
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "숲").isEmpty());
+        // 두 글자 이상은 바이그램으로 찾으므로 글자가 모두 있어도 이어져 있어야 한다
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "길올").isEmpty());
+    }
+
+    @Test
+    void 여러번_수정되어_압축된_뒤에도_최신_내용만_검색() {
+        for (int i = 0; i < 25_000; i++) {
+            boardSearchIndex.index(post(3L, "마라톤 준비", i % 2 == 0 ? "인터벌 훈련" : "템포 훈련", LocalDateTime.now()));
+        }
+
+        assertEquals(List.of(3L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "템포"));
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "인터벌").isEmpty());
+        assertEquals(List.of(1L, 2L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "한강 러닝"));
+        assertEquals(3, boardSearchIndex.search("러닝", null, 0, 20).totalHits());
+    }
+
+    @Test
+    void 다른_노드에서_수정되거나_삭제된_글을_주기적으로_반영() {
+        Post edited = post(2L, "트레일 러닝", "산길을 달렸습니다", LocalDateTime.now().minusDays(1));
+        edited.setUpdatedAt(LocalDateTime.now());
+        when(postRepository.findUpdatedAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class))).thenReturn(List.of(edited));
+        // 3번 글은 다른 노드에서 삭제되었다
+        when(postRepository.findBoardVersion()).thenReturn(new ContentVersion(2, LocalDateTime.now()));
+        when(postRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(tipsRepository.findBoardVersion()).thenReturn(new ContentVersion(1, LocalDateTime.now()));
+        when(reviewRepository.findBoardVersion()).thenReturn(new ContentVersion(0, null));
+        when(runningMateRepository.findBoardVersion()).thenReturn(new ContentVersion(0, null));
+
+        boardSearchIndex.refresh();
+
+        assertEquals(List.of(1L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "한강"));
+        assertEquals(List.of(2L), boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "트레일"));
+        assertTrue(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "마라톤").isEmpty());
+        verify(tipsRepository, never()).findIdsAfter(any(), any());
+    }
+
+    private Post post(Long id, String title, String content, LocalDateTime createdAt) {
+        Post post = new Post();
+        post.setId(id);
+        post.setTitle(title);
+        post.setContent(content);
+        post.setAuthor("러너");
+        post.setCreatedAt(createdAt);
+        return post;
+    }
+}
@@ -0,0 +1,115 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.LeaderboardEntry;
+import com.run.runners.entity.RunningStatistics;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningStatisticsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private RunningStatisticsRepository runningStatisticsRepository;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    private final LeaderboardService.Bucket bucket = LeaderboardService.Bucket.of(StatisticsPeriod.MONTHLY, 2024, 5, null);
+
+    @BeforeEach
+    void 테스트_설정() {
+        for (int i = 1; i <= 20; i++) {
+            leaderboardService.update(stats("러너" + i, i * 10.0, 21 - i));
+        }
+    }
+
+    @Test
+    void 거리순_상위_러너_반환() {
+        List<LeaderboardEntry> top = leaderboardService.top(bucket, LeaderboardService.Metric.DISTANCE, 3);
+
+        assertEquals(List.of("러너20", "러너19", "러너18"), top.stream().map(LeaderboardEntry::runnerName).toList());
+        assertEquals(1, top.get(0).rank());
+        assertEquals(200.0, top.get(0).score());
+    }
+
+    @Test
+    void 지표별로_순위가_따로_매겨짐() {
+        assertEquals(20, leaderboardService.rankOf(bucket, LeaderboardService.Metric.DISTANCE, "러너1").orElseThrow().rank());
+        assertEquals(1, leaderboardService.rankOf(bucket, LeaderboardService.Metric.RUNS, "러너1").orElseThrow().rank());
+    }
+
+    @Test
+    void 통계_변경시_순위_갱신() {
+        leaderboardService.update(stats("러너1", 500.0, 20));
+
+        assertEquals(1, leaderboardService.rankOf(bucket, LeaderboardService.Metric.DISTANCE, "러너1").orElseThrow().rank());
+        assertEquals(2, leaderboardService.rankOf(bucket, LeaderboardService.Metric.DISTANCE, "러너20").orElseThrow().rank());
+    }
+
+    @Test
+    void 내_주변_순위_반환() {
+        List<LeaderboardEntry> around = leaderboardService.around(bucket, LeaderboardService.Metric.DISTANCE, "러너10", 2);
+
+        assertEquals(List.of(9, 10, 11, 12, 13), around.stream().map(LeaderboardEntry::rank).toList());
+        assertEquals("러너10", around.get(2).runnerName());
+    }
+
+    @Test
+    void 기록이_없어진_러너는_순위에서_제외() {
+        leaderboardService.update(stats("러너20", 0.0, 0));
+
+        assertTrue(leaderboardService.rankOf(bucket, LeaderboardService.Metric.DISTANCE, "러너20").isEmpty());
+        assertEquals("러너19", leaderboardService.top(bucket, LeaderboardService.Metric.DISTANCE, 1).get(0).runnerName());
+    }
+
+    @Test
+    void 다른_노드가_쓴_통계를_주기적으로_반영() {
+        ReflectionTestUtils.setField(leaderboardService, "refreshOverlapMillis", 60_000L);
+        when(runningStatisticsRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(List.of());
+        leaderboardService.rebuild();
+
+        RunningStatistics changed = stats("러너1", 500.0, 20);
+        changed.setId(7L);
+        changed.setLastCalculatedAt(LocalDateTime.now());
+        RunningStatistics emptied = stats("러너2", 0.0, 0);
+        emptied.setId(8L);
+        emptied.setLastCalculatedAt(LocalDateTime.now());
+        when(runningStatisticsRepository.findCalculatedAfter(any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(changed, emptied));
+
+        leaderboardService.refresh();
+
+        assertEquals(List.of("러너1"), leaderboardService.top(bucket, LeaderboardService.Metric.DISTANCE, 10).stream()
+            .map(LeaderboardEntry::runnerName).toList());
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(runningStatisticsRepository).findCalculatedAfter(since.capture(), eq(0L), any(Pageable.class));
+        assertTrue(since.getValue().isBefore(LocalDateTime.now().minusSeconds(59)));
+    }
+
+    private RunningStatistics stats(String runnerName, double distanceKm, int runs) {
+        RunningStatistics stats = new RunningStatistics();
+        stats.setRunnerName(runnerName);
+        stats.setPeriod(StatisticsPeriod.MONTHLY);
+        stats.setPeriodYear(2024);
+        stats.setPeriodMonth(5);
+        stats.setTotalDistanceKm(distanceKm);
+        stats.setTotalRuns(runs);
+        return stats;
+    }
+}
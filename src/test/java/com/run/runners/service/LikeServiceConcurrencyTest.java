@@ -0,0 +1,133 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.LikeToggleResult;
+import com.run.runners.entity.Post;
+import com.run.runners.repository.LikeRepository;
+import com.run.runners.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent like toggles against H2 must keep {@code Post.likeCount} equal to the number of like rows
+ * and never surface a duplicate-key violation to the caller.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@TestPropertySource(properties = "spring.jpa.show-sql=false")
+class LikeServiceConcurrencyTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void 여러_사용자의_동시_토글후_좋아요수가_행수와_같다() throws Exception {
+        Long postId = createPost();
+        int users = 4;
+        int threadsPerUser = 2;
+        int togglesPerThread = 15;
+
+        List<LikeToggleResult> results = runConcurrently(users * threadsPerUser, thread -> {
+            List<LikeToggleResult> own = new ArrayList<>();
+            for (int i = 0; i < togglesPerThread + thread; i++) {
+                own.add(likeService.toggleLike(postId, "10.0.0." + (thread % users)));
+            }
+            return own;
+        });
+
+        assertEquals(users * threadsPerUser * togglesPerThread + sumOfThreadIndexes(users * threadsPerUser), results.size());
+        assertLikeCountMatchesRows(postId);
+    }
+
+    @Test
+    void 같은_사용자의_동시_클릭은_예외없이_좋아요_하나만_남긴다() throws Exception {
+        Long postId = createPost();
+        int threads = 8;
+
+        List<LikeToggleResult> results = runConcurrently(threads, thread -> List.of(likeService.toggleLike(postId, "10.0.1.1")));
+
+        assertEquals(threads, results.size());
+        assertLikeCountMatchesRows(postId);
+        long likeCount = likeRepository.countByPostId(postId);
+        assertTrue(likeCount <= 1, "같은 사용자의 좋아요는 최대 하나");
+        LikeToggleResult last = likeService.toggleLike(postId, "10.0.1.1");
+        assertEquals(likeCount == 0, last.liked());
+        assertLikeCountMatchesRows(postId);
+    }
+
+    @Test
+    void 없는_게시글에_좋아요하면_게시글_없음_예외() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> likeService.toggleLike(Long.MAX_VALUE, "10.0.2.1"));
+
+        assertEquals("게시글을 찾을 수 없습니다.", e.getMessage());
+    }
+
+    private interface Toggler {
+        List<LikeToggleResult> run(int thread);
+    }
+
+    private static List<LikeToggleResult> runConcurrently(int threads, Toggler toggler) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<LikeToggleResult>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return toggler.run(thread);
+                }));
+            }
+            start.countDown();
+
+            List<LikeToggleResult> results = new ArrayList<>();
+            for (Future<List<LikeToggleResult>> future : futures) {
+                results.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int sumOfThreadIndexes(int threads) {
+        return threads * (threads - 1) / 2;
+    }
+
+    private void assertLikeCountMatchesRows(Long postId) {
+        Integer likeCount = postRepository.findLikeCountById(postId);
+        assertEquals(likeRepository.countByPostId(postId), likeCount.longValue(), "likeCount == COUNT(r_likes)");
+    }
+
+    private Long createPost() {
+        Post post = new Post();
+        post.setTitle("동시 좋아요");
+        post.setContent("내용");
+        post.setAuthor("작성자");
+        post.setViewCount(0);
+        post.setLikeCount(0);
+        post.setCreatedAt(LocalDateTime.now());
+        post.setUpdatedAt(LocalDateTime.now());
+        return postRepository.save(post).getId();
+    }
+}
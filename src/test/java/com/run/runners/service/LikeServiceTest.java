@@ -1,6 +1,6 @@
 package com.run.runners.service;
 
-import com.run.runners.entity.Like;
+import com.run.runners.dto.LikeToggleResult;
 import com.run.runners.entity.Post;
 import com.run.runners.repository.LikeRepository;
 import com.run.runners.repository.PostRepository;
@@ -10,12 +10,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,11 +33,13 @@ class LikeServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private LikeService likeService;
 
     private Post testPost;
-    private Like testLike;
     private String userIdentifier;
 
     @BeforeEach
@@ -47,91 +55,140 @@ class LikeServiceTest {
         testPost.setUpdatedAt(LocalDateTime.now());
 
         userIdentifier = "192.168.1.1";
-
-        testLike = new Like();
-        testLike.setId(1L);
-        testLike.setPost(testPost);
-        testLike.setUserIdentifier(userIdentifier);
-        testLike.setCreatedAt(LocalDateTime.now());
     }
 
     @Test
     void 존재하지않는_게시물에_좋아요_토글시_예외발생() {
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(userIdentifier), any(LocalDateTime.class)))
+            .thenThrow(constraintViolation("foreign key", 1452));
 
         assertThrows(IllegalArgumentException.class, () -> {
             likeService.toggleLike(1L, userIdentifier);
         });
 
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, never()).existsByPostAndUserIdentifier(any(), any());
+        verify(postRepository, never()).adjustLikeCount(anyLong(), anyInt());
+    }
+
+    @Test
+    void 동시에_같은_좋아요가_먼저_커밋되면_좋아요된_상태와_현재_개수_반환() {
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(userIdentifier), any(LocalDateTime.class)))
+            .thenThrow(constraintViolation("Duplicate entry", 1062));
+        when(postRepository.findLikeCountById(1L)).thenReturn(3);
+
+        LikeToggleResult result = likeService.toggleLike(1L, userIdentifier);
+
+        assertTrue(result.liked());
+        assertEquals(3L, result.likeCount());
+        verify(postRepository, never()).adjustLikeCount(anyLong(), anyInt());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void 다른_무결성_위반은_게시글_없음으로_바꾸지_않음() {
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(userIdentifier), any(LocalDateTime.class)))
+            .thenThrow(constraintViolation("Column cannot be null", 1048));
+
+        assertThrows(DataIntegrityViolationException.class, () -> likeService.toggleLike(1L, userIdentifier));
+    }
+
+    @Test
+    void 데드락이면_새_트랜잭션에서_재시도() {
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier))
+            .thenThrow(new CannotAcquireLockException("Deadlock found"))
+            .thenReturn(1);
+        when(postRepository.findLikeCountById(1L)).thenReturn(0);
+
+        LikeToggleResult result = likeService.toggleLike(1L, userIdentifier);
+
+        assertFalse(result.liked());
+        verify(postRepository, times(1)).adjustLikeCount(1L, -1);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void 잠금_실패가_계속되면_재시도_후_예외발생() {
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier))
+            .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+
+        assertThrows(CannotAcquireLockException.class, () -> likeService.toggleLike(1L, userIdentifier));
+
+        verify(likeRepository, times(3)).deleteByPostIdAndUserIdentifier(1L, userIdentifier);
     }
 
     @Test
     void 좋아요가_없을때_토글하면_좋아요_추가() {
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(likeRepository.existsByPostAndUserIdentifier(testPost, userIdentifier)).thenReturn(false);
-        when(likeRepository.save(any(Like.class))).thenReturn(testLike);
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(userIdentifier), any(LocalDateTime.class))).thenReturn(1);
+        when(postRepository.findLikeCountById(1L)).thenReturn(1);
 
-        boolean result = likeService.toggleLike(1L, userIdentifier);
+        LikeToggleResult result = likeService.toggleLike(1L, userIdentifier);
 
-        assertTrue(result);
-        assertEquals(1, testPost.getLikeCount());
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, times(1)).existsByPostAndUserIdentifier(testPost, userIdentifier);
-        verify(likeRepository, times(1)).save(any(Like.class));
-        verify(postRepository, times(1)).save(testPost);
+        assertTrue(result.liked());
+        assertEquals(1L, result.likeCount());
+        verify(postRepository, times(1)).adjustLikeCount(1L, 1);
+        verify(postRepository, never()).findById(anyLong());
+        verify(likeRepository, never()).countByPostId(anyLong());
+    }
+
+    @Test
+    void 동시에_이미_좋아요가_추가된_경우_좋아요수_중복증가_없음() {
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(0);
+        when(likeRepository.insertIfAbsent(eq(1L), eq(userIdentifier), any(LocalDateTime.class))).thenReturn(0);
+        when(postRepository.findLikeCountById(1L)).thenReturn(1);
+
+        LikeToggleResult result = likeService.toggleLike(1L, userIdentifier);
+
+        assertTrue(result.liked());
+        assertEquals(1L, result.likeCount());
+        verify(postRepository, never()).adjustLikeCount(anyLong(), anyInt());
     }
 
     @Test
     void 좋아요가_있을때_토글하면_좋아요_제거() {
-        testPost.setLikeCount(1);
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(likeRepository.existsByPostAndUserIdentifier(testPost, userIdentifier)).thenReturn(true);
+        when(likeRepository.deleteByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(1);
+        when(postRepository.findLikeCountById(1L)).thenReturn(0);
 
-        boolean result = likeService.toggleLike(1L, userIdentifier);
+        LikeToggleResult result = likeService.toggleLike(1L, userIdentifier);
 
-        assertFalse(result);
-        assertEquals(0, testPost.getLikeCount());
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, times(1)).existsByPostAndUserIdentifier(testPost, userIdentifier);
-        verify(likeRepository, times(1)).deleteByPostAndUserIdentifier(testPost, userIdentifier);
-        verify(postRepository, times(1)).save(testPost);
+        assertFalse(result.liked());
+        assertEquals(0L, result.likeCount());
+        verify(postRepository, times(1)).adjustLikeCount(1L, -1);
+        verify(likeRepository, never()).insertIfAbsent(anyLong(), any(), any());
     }
 
     @Test
     void 존재하지않는_게시물의_좋아요_확인시_false_반환() {
-        when(postRepository.findById(1L)).thenReturn(Optional.empty());
+        when(likeRepository.existsByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(false);
 
         boolean result = likeService.isLikedByUser(1L, userIdentifier);
 
         assertFalse(result);
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, never()).existsByPostAndUserIdentifier(any(), any());
+        verify(postRepository, never()).findById(anyLong());
     }
 
     @Test
     void 좋아요한_게시물의_좋아요_확인시_true_반환() {
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(likeRepository.existsByPostAndUserIdentifier(testPost, userIdentifier)).thenReturn(true);
+        when(likeRepository.existsByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(true);
 
         boolean result = likeService.isLikedByUser(1L, userIdentifier);
 
         assertTrue(result);
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, times(1)).existsByPostAndUserIdentifier(testPost, userIdentifier);
+        verify(likeRepository, times(1)).existsByPostIdAndUserIdentifier(1L, userIdentifier);
+        verify(postRepository, never()).findById(anyLong());
     }
 
     @Test
     void 좋아요하지않은_게시물의_좋아요_확인시_false_반환() {
-        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
-        when(likeRepository.existsByPostAndUserIdentifier(testPost, userIdentifier)).thenReturn(false);
+        when(likeRepository.existsByPostIdAndUserIdentifier(1L, userIdentifier)).thenReturn(false);
 
         boolean result = likeService.isLikedByUser(1L, userIdentifier);
 
         assertFalse(result);
-        verify(postRepository, times(1)).findById(1L);
-        verify(likeRepository, times(1)).existsByPostAndUserIdentifier(testPost, userIdentifier);
+        verify(likeRepository, times(1)).existsByPostIdAndUserIdentifier(1L, userIdentifier);
     }
 
     @Test
@@ -153,4 +210,8 @@ class LikeServiceTest {
         assertEquals(0L, result);
         verify(likeRepository, times(1)).countByPostId(1L);
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException constraintViolation(String message, int errorCode) {
+        return new DataIntegrityViolationException(message, new SQLIntegrityConstraintViolationException(message, "23000", errorCode));
+    }
+}
@@ -1,5 +1,7 @@
 package com.run.runners.service;
 
+import com.run.runners.dto.CursorPage;
+import com.run.runners.dto.PageCursor;
 import com.run.runners.entity.Post;
 import com.run.runners.repository.PostRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -25,6 +28,12 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
     @InjectMocks
     private PostService postService;
 
@@ -54,6 +63,7 @@ class PostServiceTest {
         assertEquals(testPost.getTitle(), result.getTitle());
         assertEquals(testPost.getContent(), result.getContent());
         verify(postRepository, times(1)).save(testPost);
+        verify(boardSearchIndex).index(testPost);
     }
 
     @Test
@@ -69,6 +79,37 @@ class PostServiceTest {
         verify(postRepository, times(1)).findAllOrderByCreatedAtDesc();
     }
 
+    @Test
+    void 첫_페이지_조회시_다음_페이지_커서_반환() {
+        Post secondPost = new Post();
+        secondPost.setId(2L);
+        secondPost.setCreatedAt(testPost.getCreatedAt().minusMinutes(1));
+        Post thirdPost = new Post();
+        thirdPost.setId(3L);
+        thirdPost.setCreatedAt(testPost.getCreatedAt().minusMinutes(2));
+        when(postRepository.findPage(PageRequest.of(0, 3))).thenReturn(Arrays.asList(testPost, secondPost, thirdPost));
+
+        CursorPage<Post> result = postService.getPostPage(null, 2);
+
+        assertEquals(2, result.content().size());
+        assertTrue(result.hasNext());
+        PageCursor cursor = PageCursor.parse(result.nextCursor());
+        assertEquals(secondPost.getCreatedAt(), cursor.timestamp());
+        assertEquals(2L, cursor.id());
+    }
+
+    @Test
+    void 커서로_다음_페이지_조회시_마지막_페이지면_커서_없음() {
+        PageCursor cursor = new PageCursor(testPost.getCreatedAt().plusMinutes(1), 5L);
+        when(postRepository.findPageAfter(cursor.timestamp(), 5L, PageRequest.of(0, 3))).thenReturn(Arrays.asList(testPost));
+
+        CursorPage<Post> result = postService.getPostPage(cursor.encode(), 2);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        verify(postRepository, never()).findPage(any());
+    }
+
     @Test
     void 존재하는_게시물_ID로_조회시_게시물_반환() {
         when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
@@ -92,24 +133,16 @@ class PostServiceTest {
 
     @Test
     void 존재하는_게시물_조회수_증가_조회시_조회수_증가하고_게시물_반환() {
-        Post updatedPost = new Post();
-        updatedPost.setId(1L);
-        updatedPost.setTitle("테스트 제목");
-        updatedPost.setContent("테스트 내용");
-        updatedPost.setAuthor("테스트 작성자");
-        updatedPost.setViewCount(1);
-        updatedPost.setLikeCount(0);
-
-        when(postRepository.findById(1L))
-            .thenReturn(Optional.of(testPost))
-            .thenReturn(Optional.of(updatedPost));
+        when(postRepository.findById(1L)).thenReturn(Optional.of(testPost));
+        when(viewCountBuffer.getPendingCount(ViewCountBuffer.Target.POST, 1L)).thenReturn(1L);
 
         Optional<Post> result = postService.getPostByIdAndIncrementView(1L);
 
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getViewCount());
-        verify(postRepository, times(1)).incrementViewCount(1L);
-        verify(postRepository, times(2)).findById(1L);
+        verify(viewCountBuffer, times(1)).increment(ViewCountBuffer.Target.POST, 1L);
+        verify(postRepository, never()).incrementViewCount(anyLong());
+        verify(postRepository, times(1)).findById(1L);
     }
 
     @Test
@@ -119,7 +152,7 @@ class PostServiceTest {
         Optional<Post> result = postService.getPostByIdAndIncrementView(1L);
 
         assertFalse(result.isPresent());
-        verify(postRepository, never()).incrementViewCount(anyLong());
+        verify(viewCountBuffer, never()).increment(any(), anyLong());
         verify(postRepository, times(1)).findById(1L);
     }
 
@@ -152,16 +185,16 @@ class PostServiceTest {
     @Test
     void 제목_또는_내용으로_검색시_일치하는_게시물들_반환() {
         List<Post> posts = Arrays.asList(testPost);
-        when(postRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc("키워드", "키워드"))
-            .thenReturn(posts);
+        when(boardSearchIndex.searchIds(BoardSearchIndex.Board.POST, "키워드")).thenReturn(List.of(1L));
+        when(postRepository.findAllById(List.of(1L))).thenReturn(posts);
 
         List<Post> result = postService.searchByTitleOrContent("키워드");
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testPost.getId(), result.get(0).getId());
-        verify(postRepository, times(1))
-            .findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc("키워드", "키워드");
+        verify(boardSearchIndex).searchIds(BoardSearchIndex.Board.POST, "키워드");
+        verify(postRepository).findAllById(List.of(1L));
     }
 
     @Test
@@ -171,6 +204,7 @@ class PostServiceTest {
         postService.deletePost(1L);
 
         verify(postRepository, times(1)).deleteById(1L);
+        verify(boardSearchIndex).remove(BoardSearchIndex.Board.POST, 1L);
     }
 
     @Test
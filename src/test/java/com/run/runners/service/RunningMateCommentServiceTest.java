@@ -3,6 +3,7 @@ package com.run.runners.service;
 import com.run.runners.entity.RunningMate;
 import com.run.runners.entity.RunningMateComment;
 import com.run.runners.repository.RunningMateCommentRepository;
+import com.run.runners.repository.RunningMateRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,9 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +28,9 @@ class RunningMateCommentServiceTest {
     @Mock
     private RunningMateCommentRepository runningMateCommentRepository;
 
+    @Mock
+    private RunningMateRepository runningMateRepository;
+
     @InjectMocks
     private RunningMateCommentService runningMateCommentService;
 
@@ -59,6 +66,26 @@ class RunningMateCommentServiceTest {
         verify(runningMateCommentRepository, times(1)).save(testComment);
     }
 
+    @Test
+    void 새_댓글_저장시_러닝메이트_댓글수_증가() {
+        RunningMateComment newComment = new RunningMateComment();
+        newComment.setRunningMate(testRunningMate);
+        when(runningMateCommentRepository.save(newComment)).thenReturn(testComment);
+
+        runningMateCommentService.saveComment(newComment);
+
+        verify(runningMateRepository, times(1)).adjustCommentCount(1L, 1);
+    }
+
+    @Test
+    void 기존_댓글_저장시_댓글수_변경없음() {
+        when(runningMateCommentRepository.save(testComment)).thenReturn(testComment);
+
+        runningMateCommentService.saveComment(testComment);
+
+        verify(runningMateRepository, never()).adjustCommentCount(anyLong(), anyInt());
+    }
+
     @Test
     void 러닝메이트_ID로_댓글_조회시_댓글_목록_반환() {
         List<RunningMateComment> comments = Arrays.asList(testComment);
@@ -73,12 +100,23 @@ class RunningMateCommentServiceTest {
     }
 
     @Test
-    void 댓글_삭제시_리포지토리_삭제_호출() {
-        doNothing().when(runningMateCommentRepository).deleteById(1L);
+    void 댓글_삭제시_리포지토리_삭제_호출하고_댓글수_감소() {
+        when(runningMateCommentRepository.findById(1L)).thenReturn(Optional.of(testComment));
+
+        runningMateCommentService.deleteComment(1L);
+
+        verify(runningMateCommentRepository, times(1)).delete(testComment);
+        verify(runningMateRepository, times(1)).adjustCommentCount(1L, -1);
+    }
+
+    @Test
+    void 존재하지않는_댓글_삭제시_아무것도_하지않음() {
+        when(runningMateCommentRepository.findById(1L)).thenReturn(Optional.empty());
 
         runningMateCommentService.deleteComment(1L);
 
-        verify(runningMateCommentRepository, times(1)).deleteById(1L);
+        verify(runningMateCommentRepository, never()).delete(any());
+        verify(runningMateRepository, never()).adjustCommentCount(anyLong(), anyInt());
     }
 
     @Test
@@ -25,6 +25,12 @@ class RunningMateServiceTest {
     @Mock
     private RunningMateRepository runningMateRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
     @InjectMocks
     private RunningMateService runningMateService;
 
@@ -56,6 +62,7 @@ class RunningMateServiceTest {
         assertEquals(testRunningMate.getTitle(), result.getTitle());
         assertEquals(testRunningMate.getLocation(), result.getLocation());
         verify(runningMateRepository, times(1)).save(testRunningMate);
+        verify(boardSearchIndex).index(testRunningMate);
     }
 
     @Test
@@ -94,21 +101,16 @@ class RunningMateServiceTest {
 
     @Test
     void 존재하는_러닝메이트_조회수_증가_조회시_조회수_증가하고_러닝메이트_반환() {
-        RunningMate updatedRunningMate = new RunningMate();
-        updatedRunningMate.setId(1L);
-        updatedRunningMate.setTitle("한강 러닝메이트 모집");
-        updatedRunningMate.setViewCount(1);
-
-        when(runningMateRepository.findById(1L))
-            .thenReturn(Optional.of(testRunningMate))
-            .thenReturn(Optional.of(updatedRunningMate));
+        when(runningMateRepository.findById(1L)).thenReturn(Optional.of(testRunningMate));
+        when(viewCountBuffer.getPendingCount(ViewCountBuffer.Target.RUNNING_MATE, 1L)).thenReturn(1L);
 
         Optional<RunningMate> result = runningMateService.getRunningMateByIdAndIncrementView(1L);
 
         assertTrue(result.isPresent());
         assertEquals(1, result.get().getViewCount());
-        verify(runningMateRepository, times(1)).incrementViewCount(1L);
-        verify(runningMateRepository, times(2)).findById(1L);
+        verify(viewCountBuffer, times(1)).increment(ViewCountBuffer.Target.RUNNING_MATE, 1L);
+        verify(runningMateRepository, never()).incrementViewCount(anyLong());
+        verify(runningMateRepository, times(1)).findById(1L);
     }
 
     @Test
@@ -118,7 +120,7 @@ class RunningMateServiceTest {
         Optional<RunningMate> result = runningMateService.getRunningMateByIdAndIncrementView(1L);
 
         assertFalse(result.isPresent());
-        verify(runningMateRepository, never()).incrementViewCount(anyLong());
+        verify(viewCountBuffer, never()).increment(any(), anyLong());
         verify(runningMateRepository, times(1)).findById(1L);
     }
 
@@ -151,16 +153,16 @@ class RunningMateServiceTest {
     @Test
     void 제목_또는_내용으로_검색시_일치하는_러닝메이트들_반환() {
         List<RunningMate> runningMates = Arrays.asList(testRunningMate);
-        when(runningMateRepository.findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc("러닝", "러닝"))
-            .thenReturn(runningMates);
+        when(boardSearchIndex.searchIds(BoardSearchIndex.Board.RUNNING_MATE, "러닝")).thenReturn(List.of(1L));
+        when(runningMateRepository.findAllById(List.of(1L))).thenReturn(runningMates);
 
         List<RunningMate> result = runningMateService.searchByTitleOrContent("러닝");
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(testRunningMate.getId(), result.get(0).getId());
-        verify(runningMateRepository, times(1))
-            .findByTitleContainingIgnoreCaseOrContentContainingIgnoreCaseOrderByCreatedAtDesc("러닝", "러닝");
+        verify(boardSearchIndex).searchIds(BoardSearchIndex.Board.RUNNING_MATE, "러닝");
+        verify(runningMateRepository).findAllById(List.of(1L));
     }
 
     @Test
@@ -183,6 +185,7 @@ class RunningMateServiceTest {
         runningMateService.deleteRunningMate(1L);
 
         verify(runningMateRepository, times(1)).deleteById(1L);
+        verify(boardSearchIndex).remove(BoardSearchIndex.Board.RUNNING_MATE, 1L);
     }
 
     @Test
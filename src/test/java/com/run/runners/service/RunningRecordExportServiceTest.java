@@ -0,0 +1,99 @@
+package com.run.runners.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningStatisticsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunningRecordExportServiceTest {
+
+    @Mock
+    private RunningRecordRepository runningRecordRepository;
+
+    @Mock
+    private RunningStatisticsRepository runningStatisticsRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private RunningRecordExportService runningRecordExportService;
+
+    private RunningRecord first;
+    private RunningRecord second;
+
+    @BeforeEach
+    void 테스트_설정() {
+        first = record("김러너", LocalDateTime.of(2024, 5, 1, 7, 30), 30, 5.0);
+        second = record("박, 러너", LocalDateTime.of(2024, 5, 2, 7, 30), 60, 10.0);
+        when(runningRecordRepository.streamAll()).thenReturn(Stream.of(first, second));
+    }
+
+    @Test
+    void CSV_내보내기시_가져오기와_같은_컬럼으로_쓰고_엔티티를_분리() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        runningRecordExportService.exportRecords(null, RunningRecordExportService.Format.CSV, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith(String.join(",", RunningRecordImportService.CSV_COLUMNS)));
+        assertTrue(lines[1].startsWith("김러너,2024-05-01T07:30,30,5.0,"));
+        assertTrue(lines[2].startsWith("\"박, 러너\","));
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void 컬럼형_내보내기시_블록_단위로_열을_모아서_기록() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        runningRecordExportService.exportRecords(null, RunningRecordExportService.Format.COLUMNAR, output);
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(RunningRecordExportService.COLUMNAR_MAGIC, input.readInt());
+        assertEquals(2, input.readInt());
+        assertEquals("김러너", input.readUTF());
+        assertEquals("박, 러너", input.readUTF());
+        input.readLong();
+        input.readLong();
+        assertEquals(30, input.readInt());
+        assertEquals(60, input.readInt());
+    }
+
+    private RunningRecord record(String runnerName, LocalDateTime recordDate, int runTimeMinutes, double distanceKm) {
+        RunningRecord record = new RunningRecord();
+        record.setRunnerName(runnerName);
+        record.setRecordDate(recordDate);
+        record.setRunTimeMinutes(runTimeMinutes);
+        record.setDistanceKm(distanceKm);
+        record.setCadence(170);
+        record.setMaxHeartRate(160);
+        record.setMaxSpeedKmh(12.0);
+        record.setCaloriesBurned(RunningRecord.calculateCalories(runTimeMinutes, distanceKm));
+        return record;
+    }
+}
@@ -0,0 +1,168 @@
+package com.run.runners.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.run.runners.dto.ImportResult;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningRecordBatchWriter;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningStatisticsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunningRecordImportServiceTest {
+
+    @Mock
+    private RunningRecordBatchWriter runningRecordBatchWriter;
+
+    @Mock
+    private RunningStatisticsService runningStatisticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private RunningRecordImportService runningRecordImportService;
+
+    private final List<RunningRecord> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void 테스트_설정() {
+        ReflectionTestUtils.setField(runningRecordImportService, "batchSize", 2);
+        lenient().doAnswer(invocation -> inserted.addAll(invocation.getArgument(0)))
+            .when(runningRecordBatchWriter).insert(anyList());
+    }
+
+    @Test
+    void CSV_가져오기시_잘못된_행은_건너뛰고_배치로_저장() throws IOException {
+        String csv = """
+            runnerName,recordDate,runTimeMinutes,distanceKm,cadence,maxHeartRate,maxSpeedKmh
+            김러너,2024-05-01T07:30:00,30,5.0,170,160,12.5
+            김러너,2024-05-02,60,10.0,172,165,13.0
+            ,2024-05-03,30,5.0,170,160,12.5
+            박러너,2024-05-03,abc,5.0,170,160,12.5
+            박러너,2024-05-04,45,7.5,168,158,11.0
+            """;
+
+        ImportResult result = runningRecordImportService.importRecords(stream(csv), RunningRecordImportService.Format.CSV);
+
+        assertEquals(3, result.importedRows());
+        assertEquals(2, result.rejectedRows());
+        assertEquals(2, result.errors().size());
+        assertEquals(3, inserted.size());
+        verify(runningRecordBatchWriter, times(2)).insert(anyList());
+        assertEquals(RunningRecord.calculateCalories(30, 5.0), inserted.get(0).getCaloriesBurned());
+        assertEquals(LocalDateTime.of(2024, 5, 2, 0, 0), inserted.get(1).getRecordDate());
+    }
+
+    @Test
+    void 가져온_러너와_기간의_통계만_재생성() throws IOException {
+        String ndjson = """
+            {"runnerName":"김러너","recordDate":"2024-05-01T07:30:00","runTimeMinutes":30,"distanceKm":5.0,"cadence":170,"maxHeartRate":160,"maxSpeedKmh":12.5}
+            {"runnerName":"박러너","recordDate":"2024-05-02T07:30:00","runTimeMinutes":40,"distanceKm":6.0,"cadence":170,"maxHeartRate":160,"maxSpeedKmh":12.5}
+            """;
+
+        runningRecordImportService.importRecords(stream(ndjson), RunningRecordImportService.Format.NDJSON);
+
+        verify(runningStatisticsService).regenerateStatistics(StatisticsPeriod.MONTHLY,
+            LocalDateTime.of(2024, 5, 1, 0, 0), Set.of("김러너", "박러너"));
+        verify(runningStatisticsService).regenerateStatistics(StatisticsPeriod.YEARLY,
+            LocalDateTime.of(2024, 1, 1, 0, 0), Set.of("김러너", "박러너"));
+        verify(runningStatisticsService).regenerateStatistics(StatisticsPeriod.WEEKLY,
+            LocalDateTime.of(2024, 4, 29, 0, 0), Set.of("김러너", "박러너"));
+    }
+
+    @Test
+    void 따옴표로_감싼_값의_쉼표와_따옴표와_줄바꿈() throws IOException {
+        String csv = "runnerName,recordDate,runTimeMinutes,distanceKm,cadence,maxHeartRate,maxSpeedKmh\n"
+            + "\"박, 러너\",2024-05-01,30,5.0,170,160,12.5\n"
+            + "\"\"\"번개\"\" 김러너\", 2024-05-02 ,40,6.0,170,160,12.5\n"
+            + "\"새벽\n러너\",2024-05-03,50,7.0,170,160,12.5\n"
+            + "\"닫히지 않음,2024-05-04,30,5.0,170,160,12.5\n";
+
+        ImportResult result = runningRecordImportService.importRecords(stream(csv), RunningRecordImportService.Format.CSV);
+
+        assertEquals(3, result.importedRows());
+        assertEquals(List.of("박, 러너", "\"번개\" 김러너", "새벽\n러너"),
+            inserted.stream().map(RunningRecord::getRunnerName).toList());
+        assertEquals(LocalDateTime.of(2024, 5, 2, 0, 0), inserted.get(1).getRecordDate());
+        // 줄바꿈이 든 값 다음 행의 번호는 실제 줄 번호다
+        assertEquals(List.of("6행: 따옴표가 닫히지 않았습니다."), result.errors());
+    }
+
+    @Test
+    void 내보낸_CSV를_그대로_다시_가져온다() throws IOException {
+        RunningRecordRepository runningRecordRepository = mock(RunningRecordRepository.class);
+        RunningRecordExportService runningRecordExportService = new RunningRecordExportService(runningRecordRepository,
+            mock(RunningStatisticsRepository.class), mock(EntityManager.class), objectMapper);
+        List<RunningRecord> records = List.of(
+            record("박, 러너", LocalDateTime.of(2024, 5, 1, 7, 30)),
+            record("\"번개\" 김러너", LocalDateTime.of(2024, 5, 2, 7, 30)),
+            record("새벽\n러너", LocalDateTime.of(2024, 5, 3, 7, 30)));
+        when(runningRecordRepository.streamAll()).thenReturn(records.stream());
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        runningRecordExportService.exportRecords(null, RunningRecordExportService.Format.CSV, exported);
+
+        ImportResult result = runningRecordImportService.importRecords(
+            new ByteArrayInputStream(exported.toByteArray()), RunningRecordImportService.Format.CSV);
+
+        assertEquals(3, result.importedRows());
+        assertEquals(0, result.rejectedRows());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(records.get(i).getRunnerName(), inserted.get(i).getRunnerName());
+            assertEquals(records.get(i).getRecordDate(), inserted.get(i).getRecordDate());
+            assertEquals(records.get(i).getDistanceKm(), inserted.get(i).getDistanceKm());
+        }
+    }
+
+    @Test
+    void CSV_헤더에_컬럼이_없으면_예외_발생() {
+        String csv = "runnerName,distanceKm\n김러너,5.0\n";
+
+        assertThrows(IllegalArgumentException.class,
+            () -> runningRecordImportService.importRecords(stream(csv), RunningRecordImportService.Format.CSV));
+        verify(runningRecordBatchWriter, never()).insert(anyList());
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private RunningRecord record(String runnerName, LocalDateTime recordDate) {
+        RunningRecord record = new RunningRecord();
+        record.setRunnerName(runnerName);
+        record.setRecordDate(recordDate);
+        record.setRunTimeMinutes(30);
+        record.setDistanceKm(5.0);
+        record.setCadence(170);
+        record.setMaxHeartRate(160);
+        record.setMaxSpeedKmh(12.0);
+        record.setCaloriesBurned(RunningRecord.calculateCalories(30, 5.0));
+        return record;
+    }
+}
@@ -0,0 +1,223 @@
+package com.run.runners.service;
+
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningStatistics;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.repository.RunningStatisticsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The incremental statistics path (add, update, delete of single records) must leave exactly the rows that a
+ * rebuild of the same buckets from the records produces. Averages of heart rate and cadence are kept as rounded
+ * running averages and may differ from the rebuild by one; every other column must match.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "runners.statistics.reconcile-delay-ms=86400000"
+})
+class RunningStatisticsServiceTest {
+
+    // 2025-03-03, 03-05 은 10주차, 03-12 는 11주차, 04-02 는 14주차(4월)
+    private static final LocalDateTime WEEK_10_MONDAY = LocalDateTime.of(2025, 3, 3, 7, 0);
+    private static final LocalDateTime WEEK_10_WEDNESDAY = LocalDateTime.of(2025, 3, 5, 7, 0);
+    private static final LocalDateTime WEEK_11 = LocalDateTime.of(2025, 3, 12, 7, 0);
+    private static final LocalDateTime APRIL = LocalDateTime.of(2025, 4, 2, 7, 0);
+
+    @Autowired
+    private RunningRecordService runningRecordService;
+
+    @Autowired
+    private RunningStatisticsService runningStatisticsService;
+
+    @Autowired
+    private RunningStatisticsRepository runningStatisticsRepository;
+
+    @Test
+    void 기록_추가는_재계산과_같은_통계를_남긴다() {
+        String runner = "추가러너";
+        save(runner, WEEK_10_MONDAY, 5.25, 30, 150, 170, 11.5);
+        save(runner, WEEK_10_WEDNESDAY, 10.1, 55, 161, 176, 13.2);
+        save(runner, WEEK_11, 7.33, 41, 155, 180, 12.0);
+        save(runner, APRIL, 21.1, 118, 172, 178, 14.8);
+
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY, WEEK_10_WEDNESDAY, WEEK_11, APRIL);
+        assertEquals(4, bucket(runner, StatisticsPeriod.YEARLY, 2025, 0, 0).getTotalRuns());
+    }
+
+    @Test
+    void 같은_버킷_안에서_최대가_아닌_기록을_수정한다() {
+        String runner = "수정러너1";
+        save(runner, WEEK_10_MONDAY, 12.0, 65, 160, 176, 14.0);
+        RunningRecord record = save(runner, WEEK_10_WEDNESDAY, 5.0, 30, 150, 170, 11.0);
+
+        update(record, WEEK_10_WEDNESDAY, 6.5, 37);
+
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY, WEEK_10_WEDNESDAY);
+        assertEquals(2, bucket(runner, StatisticsPeriod.WEEKLY, 2025, 0, 10).getTotalRuns());
+    }
+
+    @Test
+    void 같은_버킷_안에서_최대_기록을_수정한다() {
+        String runner = "수정러너2";
+        save(runner, WEEK_10_MONDAY, 5.0, 30, 150, 170, 11.0);
+        RunningRecord record = save(runner, WEEK_10_WEDNESDAY, 12.0, 65, 160, 176, 14.0);
+
+        // 최대 거리/시간 기록을 줄이면 버킷을 기록에서 다시 계산한다 (수정된 기록을 두 번 더하면 안 된다)
+        update(record, WEEK_10_WEDNESDAY, 4.0, 25);
+
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY, WEEK_10_WEDNESDAY);
+        RunningStatistics weekly = bucket(runner, StatisticsPeriod.WEEKLY, 2025, 0, 10);
+        assertEquals(2, weekly.getTotalRuns());
+        assertEquals(9.0, weekly.getTotalDistanceKm());
+    }
+
+    @Test
+    void 다른_버킷으로_옮기는_수정() {
+        String runner = "수정러너3";
+        save(runner, WEEK_10_MONDAY, 5.0, 30, 150, 170, 11.0);
+        RunningRecord maximum = save(runner, WEEK_10_WEDNESDAY, 12.0, 65, 160, 176, 14.0);
+        RunningRecord other = save(runner, WEEK_10_WEDNESDAY, 3.0, 20, 140, 168, 10.0);
+        save(runner, APRIL, 8.0, 45, 158, 174, 12.5);
+
+        // 최대 기록은 다음 주로, 최대가 아닌 기록은 다음 달로 옮긴다
+        update(maximum, WEEK_11, 12.0, 65);
+        update(other, APRIL, 3.5, 22);
+
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY, WEEK_10_WEDNESDAY, WEEK_11, APRIL);
+        assertEquals(1, bucket(runner, StatisticsPeriod.WEEKLY, 2025, 0, 10).getTotalRuns());
+        assertEquals(2, bucket(runner, StatisticsPeriod.MONTHLY, 2025, 4, 0).getTotalRuns());
+        assertEquals(4, bucket(runner, StatisticsPeriod.YEARLY, 2025, 0, 0).getTotalRuns());
+    }
+
+    @Test
+    void 기록_삭제는_재계산과_같은_통계를_남긴다() {
+        String runner = "삭제러너";
+        RunningRecord small = save(runner, WEEK_10_MONDAY, 5.0, 30, 150, 170, 11.0);
+        RunningRecord maximum = save(runner, WEEK_10_WEDNESDAY, 15.0, 80, 165, 178, 14.5);
+        save(runner, WEEK_10_WEDNESDAY, 8.0, 44, 158, 174, 12.0);
+        RunningRecord only = save(runner, APRIL, 10.0, 52, 160, 176, 13.0);
+
+        runningRecordService.deleteRunningRecord(small.getId());
+        runningRecordService.deleteRunningRecord(maximum.getId());
+        runningRecordService.deleteRunningRecord(only.getId());
+
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY, WEEK_10_WEDNESDAY, APRIL);
+        assertEquals(1, bucket(runner, StatisticsPeriod.WEEKLY, 2025, 0, 10).getTotalRuns());
+        assertEquals(0, bucket(runner, StatisticsPeriod.MONTHLY, 2025, 4, 0).getTotalRuns());
+    }
+
+    @Test
+    void 같은_러너의_동시_저장도_합계를_잃지_않는다() throws Exception {
+        String runner = "동시러너";
+        int threads = 8;
+        int recordsPerThread = 5;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        // 심박/케이던스는 반올림된 누적 평균이라 순서에 따라 1 이상 벗어날 수 있으므로 고정값을 쓴다
+                        save(runner, WEEK_10_MONDAY.plusHours(thread * recordsPerThread + i), 5.0 + i, 30 + i, 152, 170, 11.0 + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<RunningStatistics> rows = runningStatisticsRepository.findByRunnerNameOrderByPeriodYearDescPeriodWeekDescPeriodMonthDesc(runner);
+        assertEquals(3, rows.size(), "버킷마다 한 행");
+        for (RunningStatistics row : rows) {
+            assertEquals(threads * recordsPerThread, row.getTotalRuns(), row.getPeriod().name());
+        }
+        assertMatchesRegenerated(runner, WEEK_10_MONDAY);
+    }
+
+    private RunningRecord save(String runnerName, LocalDateTime recordDate, double distanceKm, int runTimeMinutes,
+                               int maxHeartRate, int cadence, double maxSpeedKmh) {
+        RunningRecord record = new RunningRecord();
+        record.setRunnerName(runnerName);
+        record.setRecordDate(recordDate);
+        record.setDistanceKm(distanceKm);
+        record.setRunTimeMinutes(runTimeMinutes);
+        record.setMaxHeartRate(maxHeartRate);
+        record.setCadence(cadence);
+        record.setMaxSpeedKmh(maxSpeedKmh);
+        return runningRecordService.saveRunningRecord(record);
+    }
+
+    private void update(RunningRecord record, LocalDateTime recordDate, double distanceKm, int runTimeMinutes) {
+        RunningRecord changed = runningRecordService.getRunningRecordById(record.getId()).orElseThrow();
+        changed.setRecordDate(recordDate);
+        changed.setDistanceKm(distanceKm);
+        changed.setRunTimeMinutes(runTimeMinutes);
+        runningRecordService.updateRunningRecord(changed);
+    }
+
+    private RunningStatistics bucket(String runnerName, StatisticsPeriod period, int year, int month, int week) {
+        return rows(runnerName).get(period + "/" + year + "/" + month + "/" + week);
+    }
+
+    private Map<String, RunningStatistics> rows(String runnerName) {
+        return runningStatisticsRepository.findByRunnerNameOrderByPeriodYearDescPeriodWeekDescPeriodMonthDesc(runnerName).stream()
+            .collect(Collectors.toMap(
+                row -> row.getPeriod() + "/" + row.getPeriodYear() + "/" + row.getPeriodMonth() + "/" + row.getPeriodWeek(),
+                Function.identity()));
+    }
+
+    private void assertMatchesRegenerated(String runnerName, LocalDateTime... dates) {
+        Map<String, RunningStatistics> incremental = rows(runnerName);
+
+        for (LocalDateTime date : dates) {
+            for (StatisticsPeriod period : StatisticsPeriod.values()) {
+                runningStatisticsService.regenerateStatistics(period, date, List.of(runnerName));
+            }
+        }
+        Map<String, RunningStatistics> regenerated = rows(runnerName);
+
+        assertEquals(regenerated.keySet(), incremental.keySet());
+        for (Map.Entry<String, RunningStatistics> entry : regenerated.entrySet()) {
+            RunningStatistics expected = entry.getValue();
+            RunningStatistics actual = incremental.get(entry.getKey());
+            String bucket = entry.getKey();
+            assertEquals(expected.getId(), actual.getId(), bucket + " id");
+            assertEquals(expected.getTotalRuns(), actual.getTotalRuns(), bucket + " totalRuns");
+            assertEquals(expected.getTotalDistanceKm(), actual.getTotalDistanceKm(), 0.001, bucket + " totalDistanceKm");
+            assertEquals(expected.getTotalTimeMinutes(), actual.getTotalTimeMinutes(), bucket + " totalTimeMinutes");
+            // 칼로리는 증분 경로가 건마다 0.1 단위로 반올림한다
+            assertEquals(expected.getTotalCaloriesBurned(), actual.getTotalCaloriesBurned(), 0.05 * Math.max(1, expected.getTotalRuns()), bucket + " totalCaloriesBurned");
+            assertEquals(expected.getAverageSpeedKmh(), actual.getAverageSpeedKmh(), 0.001, bucket + " averageSpeedKmh");
+            assertEquals(expected.getAveragePaceMinutesPerKm(), actual.getAveragePaceMinutesPerKm(), 0.001, bucket + " averagePaceMinutesPerKm");
+            assertEquals(expected.getAverageHeartRate(), actual.getAverageHeartRate(), 1, bucket + " averageHeartRate");
+            assertEquals(expected.getAverageCadence(), actual.getAverageCadence(), 1, bucket + " averageCadence");
+            assertEquals(expected.getMaxSpeedKmh(), actual.getMaxSpeedKmh(), 0.001, bucket + " maxSpeedKmh");
+            assertEquals(expected.getMaxDistanceKm(), actual.getMaxDistanceKm(), 0.001, bucket + " maxDistanceKm");
+            assertEquals(expected.getMaxTimeMinutes(), actual.getMaxTimeMinutes(), bucket + " maxTimeMinutes");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackData;
+import com.run.runners.dto.TrackSummary;
+import com.run.runners.entity.RunningRecord;
+import com.run.runners.entity.RunningTrack;
+import com.run.runners.repository.RunningRecordRepository;
+import com.run.runners.repository.RunningTrackRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunningTrackServiceTest {
+
+    @Mock
+    private RunningTrackRepository runningTrackRepository;
+
+    @Mock
+    private RunningRecordRepository runningRecordRepository;
+
+    @Mock
+    private RunningRecordService runningRecordService;
+
+    @Mock
+    private RunningStatisticsService runningStatisticsService;
+
+    @InjectMocks
+    private RunningTrackService runningTrackService;
+
+    @Test
+    void 트랙_인코딩_디코딩_왕복() {
+        TrackData track = marathon(10_800);
+
+        byte[] encoded = TrackCodec.encode(track);
+        TrackData decoded = TrackCodec.decode(encoded);
+
+        assertEquals(track.size(), decoded.size());
+        for (int i = 0; i < track.size(); i++) {
+            assertEquals(track.latitudes()[i], decoded.latitudes()[i], 1e-6);
+            assertEquals(track.longitudes()[i], decoded.longitudes()[i], 1e-6);
+            assertEquals(track.elevations()[i], decoded.elevations()[i], 0.05);
+            assertEquals(track.timesMillis()[i], decoded.timesMillis()[i]);
+            assertEquals(track.heartRates()[i], decoded.heartRates()[i]);
+            assertEquals(track.cadences()[i], decoded.cadences()[i]);
+        }
+        // 1초 간격 3시간 트랙이 100KB 미만
+        assertTrue(encoded.length < 100 * 1024, "encoded bytes: " + encoded.length);
+    }
+
+    @Test
+    void 트랙_요약_계산() {
+        TrackData track = marathon(3_600);
+
+        TrackSummary summary = RunningTrackService.summarize(1L, track, 0);
+
+        // 1초에 약 3.33m → 1시간 약 12km
+        assertEquals(12.0, summary.distanceKm(), 0.2);
+        assertEquals(3_599, summary.durationSeconds());
+        assertEquals(12.0, summary.maxSpeedKmh(), 0.5);
+        assertEquals(170, summary.maxHeartRate());
+        assertTrue(summary.averageHeartRate() > 140 && summary.averageHeartRate() <= 170);
+        assertEquals(180, summary.averageCadence());
+    }
+
+    @Test
+    void 다운샘플링은_처음과_끝을_유지() {
+        TrackData track = marathon(10_800);
+
+        int[] indexes = RunningTrackService.downsample(track, 500);
+
+        assertEquals(500, indexes.length);
+        assertEquals(0, indexes[0]);
+        assertEquals(track.size() - 1, indexes[indexes.length - 1]);
+        for (int i = 1; i < indexes.length; i++) {
+            assertTrue(indexes[i] > indexes[i - 1]);
+        }
+    }
+
+    @Test
+    void GPX_첨부시_기록값을_트랙값으로_갱신() {
+        RunningRecord record = new RunningRecord();
+        record.setId(1L);
+        record.setRunnerName("김러너");
+        record.setRunTimeMinutes(10);
+        record.setDistanceKm(1.0);
+        record.setCadence(170);
+        record.setMaxHeartRate(150);
+        record.setMaxSpeedKmh(8.0);
+        record.setRecordDate(LocalDateTime.of(2025, 3, 1, 7, 0));
+        when(runningRecordRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(record));
+        when(runningTrackRepository.findByRunningRecordId(1L)).thenReturn(Optional.empty());
+        when(runningRecordService.updateRunningRecord(any(RunningRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        String gpx = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1"
+                 xmlns:gpxtpx="http://www.garmin.com/xmlschemas/TrackPointExtension/v1">
+              <trk><trkseg>
+                <trkpt lat="37.500000" lon="127.000000"><ele>20.0</ele><time>2025-03-01T07:00:00Z</time>
+                  <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>140</gpxtpx:hr><gpxtpx:cad>178</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions></trkpt>
+                <trkpt lat="37.509000" lon="127.000000"><ele>25.0</ele><time>2025-03-01T07:05:00Z</time>
+                  <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>160</gpxtpx:hr><gpxtpx:cad>182</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions></trkpt>
+              </trkseg></trk>
+            </gpx>
+            """;
+
+        TrackSummary summary = runningTrackService.attachTrack(1L, new ByteArrayInputStream(gpx.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, summary.pointCount());
+        assertEquals(1.0, summary.distanceKm(), 0.01);
+        assertEquals(160, summary.maxHeartRate());
+        verify(runningTrackRepository).save(any(RunningTrack.class));
+        ArgumentCaptor<RunningRecord> updated = ArgumentCaptor.forClass(RunningRecord.class);
+        verify(runningRecordService).updateRunningRecord(updated.capture());
+        assertEquals(5, updated.getValue().getRunTimeMinutes());
+        assertEquals(180, updated.getValue().getCadence());
+        // 관리 중인 원본 엔티티는 그대로
+        assertEquals(10, record.getRunTimeMinutes());
+        ArgumentCaptor<RunningTrack> savedTrack = ArgumentCaptor.forClass(RunningTrack.class);
+        verify(runningStatisticsService).applyPersonalBests(eq(updated.getValue()), savedTrack.capture());
+        assertEquals(300, savedTrack.getValue().getBest1kSeconds(), 1);
+        assertNull(savedTrack.getValue().getBest5kSeconds());
+    }
+
+    @Test
+    void 위경도가_없는_트랙포인트는_잘못된_요청() {
+        String gpx = gpx("""
+            <trkpt lat="37.500000"><time>2025-03-01T07:00:00Z</time></trkpt>
+            <trkpt lat="37.509000" lon="127.000000"><time>2025-03-01T07:05:00Z</time></trkpt>
+            """);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> GpxTrackParser.parse(new ByteArrayInputStream(gpx.getBytes(StandardCharsets.UTF_8))));
+
+        assertTrue(e.getMessage().contains("lon"));
+    }
+
+    @Test
+    void 시간이_증가하지_않는_트랙포인트는_잘못된_요청() {
+        String gpx = gpx("""
+            <trkpt lat="37.500000" lon="127.000000"><time>2025-03-01T07:05:00Z</time></trkpt>
+            <trkpt lat="37.509000" lon="127.000000"><time>2025-03-01T07:05:00Z</time></trkpt>
+            """);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> GpxTrackParser.parse(new ByteArrayInputStream(gpx.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static String gpx(String points) {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1">
+              <trk><trkseg>
+            """ + points + """
+              </trkseg></trk>
+            </gpx>
+            """;
+    }
+
+    private static TrackData marathon(int seconds) {
+        TrackData.Builder builder = new TrackData.Builder();
+        long start = 1_740_812_400_000L;
+        for (int i = 0; i < seconds; i++) {
+            // 북쪽으로 초당 약 3.33m (12km/h)
+            double latitude = 37.5 + i * 0.00003;
+            double longitude = 127.0 + Math.sin(i / 600.0) * 0.00001;
+            double elevation = 30 + 10 * Math.sin(i / 300.0);
+            int heartRate = 140 + (i * 30 / seconds);
+            builder.add(latitude, longitude, elevation, start + i * 1000L, i == seconds - 1 ? 170 : heartRate, 180);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.StatisticsJobStatus;
+import com.run.runners.entity.RunningStatistics.StatisticsPeriod;
+import com.run.runners.entity.StatisticsJob;
+import com.run.runners.repository.StatisticsJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsJobServiceTest {
+
+    @Mock
+    private RunningStatisticsService runningStatisticsService;
+
+    @Mock
+    private ClusterLeaseService clusterLeaseService;
+
+    @Mock
+    private StatisticsJobRepository statisticsJobRepository;
+
+    // 등록된 작업을 바로 실행하지 않고 모아 두었다가 테스트에서 실행한다
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private StatisticsJobService statisticsJobService;
+
+    @BeforeEach
+    void setUp() {
+        statisticsJobService = new StatisticsJobService(runningStatisticsService, clusterLeaseService,
+            statisticsJobRepository, queued::add);
+        ReflectionTestUtils.setField(statisticsJobService, "leaseTtlMillis", 30_000L);
+        lenient().when(clusterLeaseService.getNodeId()).thenReturn("node-a");
+        lenient().when(clusterLeaseService.acquireLease(StatisticsJobService.JOB_LEASE)).thenReturn(true);
+    }
+
+    @Test
+    void 작업_등록_후_진행률과_완료_상태() {
+        when(runningStatisticsService.generateStatistics(isNull(), isNull(), any(LocalDateTime.class), eq(RunnerShard.ALL), any()))
+            .thenAnswer(invocation -> {
+                RunningStatisticsService.ProgressListener listener = invocation.getArgument(4);
+                listener.onProgress(0, 1000);
+                listener.onProgress(500, 1000);
+                // 중간 상태 확인
+                StatisticsJobStatus running = statisticsJobService.getActiveJob().orElseThrow();
+                assertEquals(StatisticsJobStatus.State.RUNNING, running.state());
+                assertEquals(500, running.completedRunners());
+                assertEquals(50.0, running.getProgressPercent(), 1e-9);
+                assertNotNull(running.etaSeconds());
+                listener.onProgress(1000, 1000);
+                return 0;
+            });
+
+        StatisticsJobStatus submitted = statisticsJobService.submit(null, null, null);
+        assertEquals(StatisticsJobStatus.State.QUEUED, submitted.state());
+
+        queued.remove(0).run();
+
+        StatisticsJobStatus finished = statisticsJobService.getJob(submitted.jobId()).orElseThrow();
+        assertEquals(StatisticsJobStatus.State.COMPLETED, finished.state());
+        assertEquals(1000, finished.completedRunners());
+        assertEquals(0L, finished.etaSeconds());
+        assertTrue(statisticsJobService.getActiveJob().isEmpty());
+    }
+
+    @Test
+    void 실행_중인_작업이_있으면_새_작업을_거부한다() {
+        StatisticsJobStatus first = statisticsJobService.submit(null, null, null);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> statisticsJobService.submit(null, StatisticsPeriod.WEEKLY, null));
+        assertTrue(e.getMessage().contains(first.jobId()));
+        assertEquals(1, queued.size());
+
+        // 예약 실행도 건너뛴다
+        when(clusterLeaseService.isLeader()).thenReturn(true);
+        statisticsJobService.reconcile();
+        assertEquals(1, queued.size());
+
+        queued.remove(0).run();
+        assertDoesNotThrow(() -> statisticsJobService.submit(null, null, null));
+    }
+
+    @Test
+    void 작업_상태를_DB에_기록하고_끝나면_작업_리스를_푼다() {
+        StatisticsJobStatus submitted = statisticsJobService.submit(null, null, null);
+        statisticsJobService.heartbeat();
+        queued.remove(0).run();
+
+        ArgumentCaptor<StatisticsJob> rows = ArgumentCaptor.forClass(StatisticsJob.class);
+        verify(statisticsJobRepository, times(4)).save(rows.capture());
+        assertEquals(List.of(StatisticsJobStatus.State.QUEUED, StatisticsJobStatus.State.QUEUED,
+                StatisticsJobStatus.State.RUNNING, StatisticsJobStatus.State.COMPLETED),
+            rows.getAllValues().stream().map(StatisticsJob::getState).toList());
+        assertEquals(submitted.jobId(), rows.getValue().getId());
+        assertEquals("node-a", rows.getValue().getNodeId());
+        // 등록할 때 잡고 하트비트마다 갱신한 뒤 완료 후 푼다
+        verify(clusterLeaseService, times(2)).acquireLease(StatisticsJobService.JOB_LEASE);
+        verify(clusterLeaseService).releaseLease(StatisticsJobService.JOB_LEASE);
+
+        // 끝난 뒤의 하트비트는 리스를 다시 잡지 않는다
+        statisticsJobService.heartbeat();
+        verify(clusterLeaseService, times(2)).acquireLease(StatisticsJobService.JOB_LEASE);
+    }
+
+    @Test
+    void 다른_노드에서_실행_중이면_전체_재계산을_거부한다() {
+        StatisticsJob other = row("other-job", StatisticsJobStatus.State.RUNNING, LocalDateTime.now());
+        when(clusterLeaseService.acquireLease(StatisticsJobService.JOB_LEASE)).thenReturn(false);
+        when(statisticsJobRepository.findFirstByStateInAndUpdatedAtAfterOrderBySubmittedAtDesc(any(), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(other));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> statisticsJobService.submit(null, null, null));
+        assertTrue(e.getMessage().contains("other-job"));
+        assertTrue(queued.isEmpty());
+        assertEquals("other-job", statisticsJobService.getActiveJob().orElseThrow().jobId());
+        verify(clusterLeaseService, never()).releaseLease(any());
+
+        // 샤드 작업은 클러스터 리스 없이 노드별로만 막는다
+        ReflectionTestUtils.setField(statisticsJobService, "shardingEnabled", true);
+        when(clusterLeaseService.currentShard()).thenReturn(Optional.of(new RunnerShard(0, 2)));
+        statisticsJobService.reconcile();
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void 다른_노드에서_등록한_작업도_조회된다() {
+        when(statisticsJobRepository.findById("running-job"))
+            .thenReturn(Optional.of(row("running-job", StatisticsJobStatus.State.RUNNING, LocalDateTime.now())));
+        when(statisticsJobRepository.findById("orphan-job"))
+            .thenReturn(Optional.of(row("orphan-job", StatisticsJobStatus.State.RUNNING, LocalDateTime.now().minusMinutes(5))));
+
+        StatisticsJobStatus running = statisticsJobService.getJob("running-job").orElseThrow();
+        assertEquals(StatisticsJobStatus.State.RUNNING, running.state());
+        assertEquals("node-b", running.nodeId());
+        // 하트비트가 끊긴 노드의 작업은 실패로 보여 준다
+        StatisticsJobStatus orphan = statisticsJobService.getJob("orphan-job").orElseThrow();
+        assertEquals(StatisticsJobStatus.State.FAILED, orphan.state());
+        assertTrue(orphan.error().contains("node-b"));
+        assertTrue(statisticsJobService.getJob("unknown").isEmpty());
+    }
+
+    @Test
+    void 러너_하나와_기간_하나만_재계산() {
+        when(runningStatisticsService.hasRecords("김러너")).thenReturn(true);
+        LocalDate date = LocalDate.of(2025, 3, 14);
+
+        StatisticsJobStatus job = statisticsJobService.submit(" 김러너 ", StatisticsPeriod.MONTHLY, date);
+        queued.remove(0).run();
+
+        verify(runningStatisticsService).generateStatistics(eq("김러너"), eq(StatisticsPeriod.MONTHLY),
+            eq(date.atStartOfDay()), eq(RunnerShard.ALL), any());
+        assertEquals("김러너", job.runnerName());
+        assertEquals(StatisticsPeriod.MONTHLY, job.period());
+    }
+
+    @Test
+    void 기록_없는_러너는_거부() {
+        when(runningStatisticsService.hasRecords("없는러너")).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> statisticsJobService.submit("없는러너", null, null));
+        assertTrue(queued.isEmpty());
+        assertTrue(statisticsJobService.getActiveJob().isEmpty());
+    }
+
+    @Test
+    void 파티션_실패나_예외는_FAILED() {
+        when(runningStatisticsService.generateStatistics(isNull(), isNull(), any(LocalDateTime.class), any(), any()))
+            .thenReturn(2)
+            .thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        StatisticsJobStatus partial = statisticsJobService.submit(null, null, null);
+        queued.remove(0).run();
+        StatisticsJobStatus crashed = statisticsJobService.submit(null, null, null);
+        queued.remove(0).run();
+
+        StatisticsJobStatus partialStatus = statisticsJobService.getJob(partial.jobId()).orElseThrow();
+        assertEquals(StatisticsJobStatus.State.FAILED, partialStatus.state());
+        assertEquals(2, partialStatus.failedPartitions());
+        StatisticsJobStatus crashedStatus = statisticsJobService.getJob(crashed.jobId()).orElseThrow();
+        assertEquals(StatisticsJobStatus.State.FAILED, crashedStatus.state());
+        assertEquals("DB 연결 실패", crashedStatus.error());
+        assertEquals(2, statisticsJobService.getJobs().size());
+    }
+
+    @Test
+    void 리스를_가진_노드만_예약_재계산을_실행한다() {
+        when(clusterLeaseService.isLeader()).thenReturn(false);
+        statisticsJobService.reconcile();
+        assertTrue(queued.isEmpty());
+
+        when(clusterLeaseService.isLeader()).thenReturn(true);
+        statisticsJobService.reconcile();
+        queued.remove(0).run();
+
+        verify(runningStatisticsService).generateStatistics(isNull(), isNull(), any(LocalDateTime.class),
+            eq(RunnerShard.ALL), any());
+    }
+
+    @Test
+    void 샤딩을_켜면_자기_샤드만_재계산한다() {
+        ReflectionTestUtils.setField(statisticsJobService, "shardingEnabled", true);
+        when(clusterLeaseService.currentShard()).thenReturn(Optional.of(new RunnerShard(1, 3)));
+
+        statisticsJobService.reconcile();
+        queued.remove(0).run();
+
+        verify(runningStatisticsService).generateStatistics(isNull(), isNull(), any(LocalDateTime.class),
+            eq(new RunnerShard(1, 3)), any());
+        verify(clusterLeaseService, never()).isLeader();
+    }
+
+    private static StatisticsJob row(String jobId, StatisticsJobStatus.State state, LocalDateTime updatedAt) {
+        LocalDateTime submittedAt = updatedAt.minusMinutes(1);
+        return StatisticsJob.of(new StatisticsJobStatus(jobId, "node-b", null, null, null, 0, 1, state, 1000, 300, 0,
+            submittedAt, submittedAt, null, 60, 140L, null), updatedAt, false);
+    }
+
+    @Test
+    void 러너_샤드_분배() {
+        List<String> runners = List.of("김러너", "이러너", "박러너", "최러너", "정러너", "runner-1", "runner-2", "runner-3");
+        for (String runner : runners) {
+            long owners = 0;
+            for (int i = 0; i < 3; i++) {
+                if (new RunnerShard(i, 3).contains(runner)) {
+                    owners++;
+                }
+            }
+            // 모든 러너는 정확히 한 샤드에 속한다
+            assertEquals(1, owners, runner);
+            assertTrue(RunnerShard.ALL.contains(runner));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new RunnerShard(3, 3));
+    }
+}
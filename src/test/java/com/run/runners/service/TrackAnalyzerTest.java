@@ -0,0 +1,83 @@
+package com.run.runners.service;
+
+import com.run.runners.dto.TrackAnalysis;
+import com.run.runners.dto.TrackData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackAnalyzerTest {
+
+    // 위도 1e-6도 ≈ 0.1112m → 초당 3.0m (5:33/km)를 만드는 위도 증분
+    private static final double DEGREES_PER_3M = 3.0 / (Math.toRadians(1) * TrackAnalyzer.EARTH_RADIUS_METERS);
+
+    @Test
+    void 일정한_페이스의_스플릿과_베스트기록() {
+        TrackData track = steadyRun(3_600, 3.0);
+
+        TrackAnalysis analysis = new TrackAnalyzer(190).analyze(track);
+
+        // 3m/s로 3599초 → 10.8km, 1km 스플릿 10개, 각 333초
+        assertEquals(10_797, analysis.getDistanceMeters(), 1.0);
+        long[] splits = analysis.getSplitMillis();
+        assertEquals(10, splits.length);
+        for (long split : splits) {
+            assertEquals(333_333, split, 5);
+        }
+        assertEquals(333.3, analysis.getBestEffortSeconds()[0], 0.1);
+        assertEquals(1_666.7, analysis.getBestEffortSeconds()[1], 0.1);
+        assertEquals(3_333.3, analysis.getBestEffortSeconds()[2], 0.1);
+        assertEquals(-1, analysis.getBestEffortSeconds()[3]);
+        assertNull(analysis.bestEffortSecondsOrNull(4));
+    }
+
+    @Test
+    void 빠른_구간이_베스트기록이_된다() {
+        TrackData.Builder builder = new TrackData.Builder();
+        double latitude = 37.5;
+        for (int i = 0; i < 2_000; i++) {
+            // 중간 500초는 4m/s, 나머지는 2.5m/s
+            double speed = i >= 700 && i < 1_200 ? 4.0 : 2.5;
+            builder.add(latitude, 127.0, 30, 1_000_000L + i * 1_000L, 150, 180);
+            latitude += DEGREES_PER_3M * speed / 3.0;
+        }
+
+        TrackAnalysis analysis = new TrackAnalyzer(190).analyze(builder.build());
+
+        assertEquals(250.0, analysis.getBestEffortSeconds()[0], 0.5);
+    }
+
+    @Test
+    void 심박_페이스_케이던스_분포() {
+        TrackData track = steadyRun(601, 3.0);
+
+        TrackAnalysis analysis = new TrackAnalyzer(200).analyze(track);
+
+        // 심박 150 / 최대 200 = 75% → Z3, 페이스 5:33/km → Z3, 케이던스 176 → 170-179 구간
+        assertEquals(600_000, analysis.getHeartRateZoneMillis()[2]);
+        assertEquals(600_000, analysis.getPaceZoneMillis()[2]);
+        assertEquals(600_000, analysis.getCadenceBucketMillis()[3]);
+        assertEquals(600_000, analysis.getElapsedMillis());
+    }
+
+    @Test
+    void 결과_객체를_재사용하면_초기화된다() {
+        TrackAnalyzer analyzer = new TrackAnalyzer(190);
+        TrackAnalysis analysis = TrackAnalyzer.newAnalysis();
+
+        analyzer.analyze(steadyRun(3_600, 3.0), analysis);
+        analyzer.analyze(steadyRun(200, 3.0), analysis);
+
+        assertEquals(0, analysis.getSplitMillis().length);
+        assertEquals(-1, analysis.getBestEffortSeconds()[0]);
+        assertEquals(597, analysis.getDistanceMeters(), 1.0);
+    }
+
+    private static TrackData steadyRun(int seconds, double metersPerSecond) {
+        TrackData.Builder builder = new TrackData.Builder();
+        for (int i = 0; i < seconds; i++) {
+            builder.add(37.5 + i * DEGREES_PER_3M * metersPerSecond / 3.0, 127.0, 30, 1_000_000L + i * 1_000L, 150, 176);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.run.runners.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    private static final String POST_UPDATE = "UPDATE r_posts SET view_count = view_count + ? WHERE id = ?";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ViewCountBuffer viewCountBuffer;
+
+    // 배치로 반영된 조회수 (id -> 합계)
+    private final Map<Long, Long> flushed = Collections.synchronizedMap(new HashMap<>());
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate);
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> updates = invocation.getArgument(1);
+            for (Object[] update : updates) {
+                flushed.merge((Long) update[1], (Long) update[0], Long::sum);
+            }
+            return new int[updates.size()];
+        });
+    }
+
+    @Test
+    void 쌓인_조회수를_게시판별_배치로_반영하고_빈_카운터는_지운다() {
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, 1L);
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, 1L);
+        viewCountBuffer.increment(ViewCountBuffer.Target.POST, 2L);
+        assertEquals(2, viewCountBuffer.getPendingCount(ViewCountBuffer.Target.POST, 1L));
+
+        viewCountBuffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(eq(POST_UPDATE), anyList());
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertEquals(Map.of(1L, 2L, 2L, 1L), flushed);
+        assertEquals(0, viewCountBuffer.getPendingCount(ViewCountBuffer.Target.POST, 1L));
+        assertEquals(2, pendingCounters().size());
+
+        // 그다음 주기에는 쓸 것이 없고 조회가 없던 카운터는 사라진다
+        viewCountBuffer.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+        assertTrue(pendingCounters().isEmpty());
+    }
+
+    @Test
+    void 반영에_실패하면_다음_주기에_다시_쓴다() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        viewCountBuffer.increment(ViewCountBuffer.Target.REVIEW, 7L);
+        viewCountBuffer.increment(ViewCountBuffer.Target.REVIEW, 7L);
+
+        viewCountBuffer.flush();
+
+        assertEquals(2, viewCountBuffer.getPendingCount(ViewCountBuffer.Target.REVIEW, 7L));
+    }
+
+    @Test
+    void 반영과_동시에_들어온_조회수도_잃지_않는다() throws Exception {
+        int threads = 4;
+        int viewsPerThread = 50_000;
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        // 조회가 드문 글은 매 주기 비었다가 다시 생기므로 제거와 자주 겹친다
+                        viewCountBuffer.increment(ViewCountBuffer.Target.POST, (long) (i % 8));
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    viewCountBuffer.flush();
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        viewCountBuffer.flush();
+
+        long total = 0;
+        for (long id = 0; id < 8; id++) {
+            total += flushed.getOrDefault(id, 0L) + viewCountBuffer.getPendingCount(ViewCountBuffer.Target.POST, id);
+        }
+        assertEquals((long) threads * viewsPerThread, total);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, ?> pendingCounters() {
+        Map<ViewCountBuffer.Target, Map<Long, ?>> pending =
+            (Map<ViewCountBuffer.Target, Map<Long, ?>>) ReflectionTestUtils.getField(viewCountBuffer, "pending");
+        return pending.get(ViewCountBuffer.Target.POST);
+    }
+}
@@ -0,0 +1,41 @@
+package com.run.runners.support;
+
+import com.run.runners.config.QueryCountInspector;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query budgets for tests: runs an action and fails when it issued more Hibernate statements than allowed,
+ * so an N+1 regression breaks the build instead of showing up as latency in production.
+ * Counting relies on {@link QueryCountInspector}, which only sees statements issued on the calling thread.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(String description, long maxQueries, Executable action) {
+        assertQueryCount(description, maxQueries, () -> {
+            action.execute();
+            return null;
+        });
+    }
+
+    public static <T> T assertQueryCount(String description, long maxQueries, ThrowingSupplier<T> action) {
+        QueryCountInspector.reset();
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable t) {
+            return fail(description + " 실행 중 예외 발생", t);
+        }
+        long queries = QueryCountInspector.current();
+        if (queries > maxQueries) {
+            fail(String.format("%s: 쿼리 %d개 실행 (허용 %d개) - N+1 또는 불필요한 조회가 추가되었는지 확인하세요",
+                description, queries, maxQueries));
+        }
+        return result;
+    }
+}